@@ -0,0 +1,67 @@
+package benchmark.jmh;
+
+import algorithms.ChunkedHull;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import geometry.io.BinaryPointFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for {@link ChunkedHull} to stream a binary point file through Monotone Chain, its default engine, over chunk size.
+ * Small chunks bound the heap but call the engine more often, each time on the previous hull plus a chunk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ChunkedHullBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int n;
+
+    @Param({"10000", "100000", "1000000"})
+    public int chunkSize;
+
+    @Param({"UNIFORM_SQUARE", "UNIFORM_DISK"})
+    public PointDistribution distribution;
+
+    private Path file;
+    private ChunkedHull chunkedHull;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("points", BinaryPointFile.EXTENSION);
+        new PointGenerator(distribution, 42).writeBinary(file, n);
+        chunkedHull = new ChunkedHull();
+        chunkedHull.setChunkSize(chunkSize);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public PointBuffer binaryFile() throws IOException {
+        return chunkedHull.computeHull(file);
+    }
+}
@@ -0,0 +1,52 @@
+package benchmark.jmh;
+
+import algorithms.DynamicHull;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to build a {@link DynamicHull} by inserting n points one at a time.
+ * On the circle every insertion changes the hull; on the disk almost all are rejected in O(log h).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DynamicHullBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int n;
+
+    @Param({"UNIFORM_DISK", "GAUSSIAN_CLUSTERS", "CIRCLE"})
+    public PointDistribution distribution;
+
+    private PointBuffer points;
+
+    @Setup
+    public void setUp() {
+        points = PointGenerator.generate(distribution, n, 42);
+    }
+
+    @Benchmark
+    public int insert() {
+        DynamicHull hull = new DynamicHull();
+        hull.addAll(points);
+        return hull.size();
+    }
+}
@@ -0,0 +1,58 @@
+package benchmark.jmh;
+
+import algorithms.ConvexHullAlgorithm;
+import algorithms.ConvexHullAlgorithms;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hull computation time of every registered engine over input size and distribution.
+ * Inputs whose hull holds every point are benchmarked separately in {@link LargeHullBenchmark},
+ * since Jarvis March is quadratic on them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EngineBenchmark {
+
+    @Param({ConvexHullAlgorithms.GRAHAM_SCAN, ConvexHullAlgorithms.JARVIS_MARCH, ConvexHullAlgorithms.CHAN,
+            ConvexHullAlgorithms.MONOTONE_CHAIN, ConvexHullAlgorithms.MERGE_HULL, ConvexHullAlgorithms.ADAPTIVE})
+    public String engine;
+
+    @Param({"1000", "100000", "1000000"})
+    public int n;
+
+    @Param({"UNIFORM_SQUARE", "UNIFORM_DISK", "GAUSSIAN_CLUSTERS"})
+    public PointDistribution distribution;
+
+    private ConvexHullAlgorithm algorithm;
+    private PointBuffer points;
+
+    @Setup
+    public void setUp() {
+        algorithm = ConvexHullAlgorithms.create(engine);
+        points = PointGenerator.generate(distribution, n, 42);
+    }
+
+    @Benchmark
+    public PointBuffer packed() {
+        return algorithm.findConvexHullPacked(points);
+    }
+}
@@ -0,0 +1,67 @@
+package benchmark.jmh;
+
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import geometry.io.BinaryPointFile;
+import geometry.io.PointFileReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to load a point file into a PointBuffer, from text and from the binary columnar format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FileLoadBenchmark {
+
+    @Param({"100000", "1000000"})
+    public int n;
+
+    private Path textFile;
+    private Path binaryFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        PointGenerator generator = new PointGenerator(PointDistribution.UNIFORM_SQUARE, 42);
+        textFile = Files.createTempFile("points", ".txt");
+        generator.writeText(textFile, n);
+        binaryFile = Files.createTempFile("points", BinaryPointFile.EXTENSION);
+        generator.writeBinary(binaryFile, n);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(textFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    @Benchmark
+    public PointBuffer text() throws IOException {
+        return PointFileReader.readAll(textFile);
+    }
+
+    @Benchmark
+    public PointBuffer binary() throws IOException {
+        return BinaryPointFile.readAll(binaryFile);
+    }
+}
@@ -0,0 +1,109 @@
+package benchmark.jmh;
+
+import geometry.GeometryUtil;
+import geometry.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks of the geometric primitives the engines are built on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GeometryBenchmark {
+    private static final int TRIPLES = 1 << 12;
+
+    @State(Scope.Thread)
+    public static class OrientationState {
+        @Param({"EPSILON", "ROBUST"})
+        public GeometryUtil.OrientationMode mode;
+
+        // Random triples are decided by the floating-point filter; nearly collinear ones need exact arithmetic
+        @Param({"false", "true"})
+        public boolean nearlyCollinear;
+
+        GeometryUtil geometryUtil;
+        final double[] coordinates = new double[TRIPLES * 6];
+
+        @Setup
+        public void setUp() {
+            geometryUtil = new GeometryUtil(mode);
+            Random random = new Random(42);
+            for (int i = 0; i < coordinates.length; i += 6) {
+                for (int k = 0; k < 4; k++) {
+                    coordinates[i + k] = random.nextDouble() * 1000;
+                }
+                if (nearlyCollinear) {
+                    double t = random.nextDouble();
+                    coordinates[i + 4] = Math.nextUp(coordinates[i] + t * (coordinates[i + 2] - coordinates[i]));
+                    coordinates[i + 5] = coordinates[i + 1] + t * (coordinates[i + 3] - coordinates[i + 1]);
+                } else {
+                    coordinates[i + 4] = random.nextDouble() * 1000;
+                    coordinates[i + 5] = random.nextDouble() * 1000;
+                }
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class SortState {
+        @Param({"1000", "100000"})
+        public int n;
+
+        final GeometryUtil geometryUtil = new GeometryUtil();
+        final Point reference = new Point(0, 0);
+        List<Point> source;
+        List<Point> points;
+
+        @Setup(Level.Trial)
+        public void generate() {
+            Random random = new Random(42);
+            source = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                source.add(new Point(random.nextDouble() * 1000 - 500, random.nextDouble() * 1000));
+            }
+        }
+
+        // Sorting works in place, so every invocation starts from a fresh copy
+        @Setup(Level.Invocation)
+        public void copy() {
+            points = new ArrayList<>(source);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TRIPLES)
+    public int orientation(OrientationState state) {
+        double[] c = state.coordinates;
+        int sum = 0;
+        for (int i = 0; i < c.length; i += 6) {
+            sum += state.geometryUtil.orientation(c[i], c[i + 1], c[i + 2], c[i + 3], c[i + 4], c[i + 5]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public List<Point> sortPointByPolarAngle(SortState state) {
+        state.geometryUtil.sortPointByPolarAngle(state.points, state.reference);
+        return state.points;
+    }
+}
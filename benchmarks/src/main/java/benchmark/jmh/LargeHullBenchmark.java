@@ -0,0 +1,54 @@
+package benchmark.jmh;
+
+import algorithms.ConvexHullAlgorithm;
+import algorithms.ConvexHullAlgorithms;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Engines on points that all lie on a circle, the worst case for output-sensitive engines.
+ * Jarvis March is left out: its O(n h) cost is O(n^2) here.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LargeHullBenchmark {
+
+    @Param({ConvexHullAlgorithms.GRAHAM_SCAN, ConvexHullAlgorithms.CHAN, ConvexHullAlgorithms.MONOTONE_CHAIN,
+            ConvexHullAlgorithms.MERGE_HULL, ConvexHullAlgorithms.ADAPTIVE})
+    public String engine;
+
+    @Param({"1000", "100000", "1000000"})
+    public int n;
+
+    private ConvexHullAlgorithm algorithm;
+    private PointBuffer points;
+
+    @Setup
+    public void setUp() {
+        algorithm = ConvexHullAlgorithms.create(engine);
+        points = PointGenerator.generate(PointDistribution.CIRCLE, n, 42);
+    }
+
+    @Benchmark
+    public PointBuffer packed() {
+        return algorithm.findConvexHullPacked(points);
+    }
+}
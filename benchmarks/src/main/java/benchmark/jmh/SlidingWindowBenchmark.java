@@ -0,0 +1,80 @@
+package benchmark.jmh;
+
+import algorithms.SlidingWindowHull;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a count-bounded {@link SlidingWindowHull} in points per second.
+ * The window is filled once per trial; every invocation then pushes the next batch of the stream
+ * through it, expiring as many points, and queries the hull once.
+ * On the circle every point is a hull vertex, the worst case for the suffix hulls built when the
+ * window's internal stacks flip.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = "-Xmx4g")
+public class SlidingWindowBenchmark {
+    private static final int BATCH = 1000;
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int windowSize;
+
+    @Param({"UNIFORM_SQUARE", "CIRCLE"})
+    public PointDistribution distribution;
+
+    private PointGenerator generator;
+    private SlidingWindowHull window;
+    private final PointBuffer batch = new PointBuffer(BATCH);
+    private long next;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        generator = new PointGenerator(distribution, 42);
+        window = SlidingWindowHull.lastPoints(windowSize);
+        for (next = 0; next < windowSize; next += BATCH) {
+            nextBatch();
+            pushBatch();
+        }
+    }
+
+    // Generating the stream is not part of the measurement
+    @Setup(Level.Invocation)
+    public void nextBatch() {
+        batch.clear();
+        generator.generate(next, BATCH, batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int slide() {
+        pushBatch();
+        next += BATCH;
+        return window.getHull().size();
+    }
+
+    private void pushBatch() {
+        for (int i = 0; i < BATCH; i++) {
+            window.add(batch.getX(i), batch.getY(i));
+        }
+    }
+}
@@ -1,17 +1,30 @@
+import cli.ConvexHullCli;
 import visualization.ConvexHullApp;
 
+import java.util.Arrays;
+
 /**
  * Driver class to launch the Convex Hull Visualization application.
  * This serves as the entry point for the application.
  */
 public class ConvexHullDriver {
-    
+
     /**
-     * Main method that launches the JavaFX application.
-     * @param args command line arguments (not used)
+     * Main method that launches the JavaFX application, or the headless command line
+     * when the first argument is --cli.
+     * @param args command line arguments; after --cli, the arguments of {@link ConvexHullCli}
      */
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--cli")) {
+            ConvexHullCli.main(Arrays.copyOfRange(args, 1, args.length));
+        } else {
+            launchVisualization(args);
+        }
+    }
+
+    // Kept in its own method so that the headless path never resolves a JavaFX class
+    private static void launchVisualization(String[] args) {
         // Launch the JavaFX visualization application
         ConvexHullApp.main(args);
     }
-}
\ No newline at end of file
+}
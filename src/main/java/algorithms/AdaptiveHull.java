@@ -0,0 +1,160 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.List;
+
+/**
+ * Convex hull engine that inspects the input before choosing which engine to run.
+ * A random subsample is hulled to estimate the hull size h of the full input, and the
+ * engine with the lowest modelled cost is dispatched:
+ * Jarvis March (n * h) for tiny hulls, Chan's algorithm (n log h) for large inputs with
+ * small hulls, and Monotone Chain (n log n) otherwise. Inputs above the parallel threshold
+ * go to the parallel engine (Merge Hull by default on multi-core machines).
+ */
+public class AdaptiveHull implements ConvexHullAlgorithm {
+    // Relative per-point costs used by the dispatch model
+    private static final double JARVIS_COST = 1.0;
+    private static final double CHAN_COST = 4.0;
+    private static final double SORT_COST = 1.0;
+    // Inputs of at least this many points go to the parallel engine on multi-core machines
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 20;
+
+    private final ConvexHullAlgorithm jarvisMarch = new JarvisMarch();
+    private final ConvexHullAlgorithm chanAlgorithm = new ChanAlgorithm();
+    private final MonotoneChain monotoneChain = new MonotoneChain();
+    private ConvexHullAlgorithm parallelEngine;
+    private int parallelThreshold = Integer.MAX_VALUE;
+    private final HullSizeEstimator estimator = new HullSizeEstimator();
+
+    private String lastEngine;
+    private double lastEstimatedHullSize;
+    private double lastBoundingBoxFill;
+
+    public AdaptiveHull() {
+        if (Runtime.getRuntime().availableProcessors() > 1) {
+            setParallelEngine(new MergeHull(), DEFAULT_PARALLEL_THRESHOLD);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return ConvexHullAlgorithms.ADAPTIVE;
+    }
+
+    // The engines it dispatches to were created together, so they share one orientation mode;
+    // the dispatch settings decide which of them runs, and so where the hull starts
+    @Override
+    public String describeSettings() {
+        String settings = monotoneChain.describeSettings()
+                          + ",sampleSize=" + estimator.getSampleSize()
+                          + ",seed=" + estimator.getSeed();
+        if (parallelEngine == null) {
+            return settings;
+        }
+        return settings + ",parallelThreshold=" + parallelThreshold
+               + ",parallelEngine=" + parallelEngine.getName() + "[" + parallelEngine.describeSettings() + "]";
+    }
+
+    /**
+     * Sets the engine used for inputs of at least {@code threshold} points.
+     */
+    public void setParallelEngine(ConvexHullAlgorithm engine, int threshold) {
+        this.parallelEngine = engine;
+        this.parallelThreshold = threshold;
+    }
+
+    /**
+     * Sets how many points are hulled to estimate h; inputs under twice this size are not sampled.
+     */
+    public void setSampleSize(int sampleSize) {
+        estimator.setSampleSize(sampleSize);
+    }
+
+    public void setSeed(long seed) {
+        estimator.setSeed(seed);
+    }
+
+    @Override
+    public List<Point> findConvexHull(List<Point> points) {
+        if (points == null || points.size() < 3) {
+            return null;
+        }
+        int n = points.size();
+        return selectEngine(n, usesParallelEngine(n) ? null : estimator.sample(points)).findConvexHull(points);
+    }
+
+    @Override
+    public PointBuffer findConvexHullPacked(PointBuffer points) {
+        if (points == null || points.size() < 3) {
+            return null;
+        }
+        int n = points.size();
+        return selectEngine(n, usesParallelEngine(n) ? null : estimator.sample(points)).findConvexHullPacked(points);
+    }
+
+    /**
+     * @return the name of the engine chosen by the most recent call
+     */
+    public String getLastEngine() {
+        return lastEngine;
+    }
+
+    /**
+     * @return the hull size estimated for the most recent input (0 if no sample was taken)
+     */
+    public double getLastEstimatedHullSize() {
+        return lastEstimatedHullSize;
+    }
+
+    /**
+     * @return the share of the sample's bounding box covered by the sample's hull (0 if no sample was taken)
+     */
+    public double getLastBoundingBoxFill() {
+        return lastBoundingBoxFill;
+    }
+
+    ConvexHullAlgorithm selectEngine(int n, PointBuffer sample) {
+        ConvexHullAlgorithm engine = chooseEngine(n, sample);
+        lastEngine = engine.getName();
+        return engine;
+    }
+
+    private ConvexHullAlgorithm chooseEngine(int n, PointBuffer sample) {
+        lastEstimatedHullSize = 0;
+        lastBoundingBoxFill = 0;
+
+        if (usesParallelEngine(n)) {
+            return parallelEngine;
+        }
+        if (sample == null) {
+            return monotoneChain;
+        }
+
+        lastEstimatedHullSize = estimator.estimate(n, sample);
+        lastBoundingBoxFill = estimator.getLastBoundingBoxFill();
+
+        double h = lastEstimatedHullSize;
+        double jarvisCost = JARVIS_COST * h;
+        double chanCost = CHAN_COST * log2(h);
+        double sortCost = SORT_COST * log2(n);
+
+        if (jarvisCost <= chanCost && jarvisCost <= sortCost) {
+            return jarvisMarch;
+        }
+        if (chanCost < sortCost) {
+            return chanAlgorithm;
+        }
+        return monotoneChain;
+    }
+
+    // The parallel engine is chosen on n alone, so its inputs need no sample
+    private boolean usesParallelEngine(int n) {
+        return parallelEngine != null && n >= parallelThreshold;
+    }
+
+    private static double log2(double value) {
+        return Math.log(Math.max(value, 2)) / Math.log(2);
+    }
+}
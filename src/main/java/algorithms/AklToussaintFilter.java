@@ -0,0 +1,115 @@
+package algorithms;
+
+import geometry.GeometryUtil;
+import geometry.PointBuffer;
+
+/**
+ * Akl–Toussaint interior point elimination.
+ * Finds the extreme points in the x, y, x + y and x - y directions and discards every point
+ * strictly inside the octagon they span. On uniformly distributed data this removes almost
+ * all points in one linear pass, so the engine that runs afterwards sorts or scans only
+ * the survivors. Points on the octagon boundary are always kept.
+ */
+public class AklToussaintFilter implements HullPreFilter {
+    private GeometryUtil geometryUtil = new GeometryUtil();
+    private int lastEliminatedCount;
+
+    @Override
+    public int[] filter(PointBuffer points) {
+        int n = points.size();
+        lastEliminatedCount = 0;
+        int[] all = new int[n];
+        for (int i = 0; i < n; i++) {
+            all[i] = i;
+        }
+        if (n < 9) {
+            return all;
+        }
+
+        int[] octagon = findOctagon(points);
+        if (octagon.length < 3) {
+            return all;
+        }
+
+        int vertices = octagon.length;
+        double[] ax = new double[vertices];
+        double[] ay = new double[vertices];
+        double[] bx = new double[vertices];
+        double[] by = new double[vertices];
+        for (int e = 0; e < vertices; e++) {
+            int a = octagon[e];
+            int b = octagon[(e + 1) % vertices];
+            ax[e] = points.getX(a);
+            ay[e] = points.getY(a);
+            bx[e] = points.getX(b);
+            by[e] = points.getY(b);
+        }
+
+        int[] survivors = all;
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            double x = points.getX(i);
+            double y = points.getY(i);
+            boolean inside = true;
+            for (int e = 0; e < vertices; e++) {
+                // Strictly left of every counter-clockwise edge means strictly inside
+                if (geometryUtil.orientation(ax[e], ay[e], bx[e], by[e], x, y) != -1) {
+                    inside = false;
+                    break;
+                }
+            }
+            if (!inside) {
+                survivors[count++] = i;
+            }
+        }
+
+        lastEliminatedCount = n - count;
+        int[] result = new int[count];
+        System.arraycopy(survivors, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * @return how many points the most recent call discarded
+     */
+    public int getLastEliminatedCount() {
+        return lastEliminatedCount;
+    }
+
+    /**
+     * @return the distinct extreme points in counter-clockwise order, starting at the bottom
+     */
+    private int[] findOctagon(PointBuffer points) {
+        int minY = 0, maxY = 0, minX = 0, maxX = 0;
+        int minSum = 0, maxSum = 0, minDiff = 0, maxDiff = 0;
+        for (int i = 1; i < points.size(); i++) {
+            double x = points.getX(i);
+            double y = points.getY(i);
+            if (y < points.getY(minY)) minY = i;
+            if (y > points.getY(maxY)) maxY = i;
+            if (x < points.getX(minX)) minX = i;
+            if (x > points.getX(maxX)) maxX = i;
+            if (x + y < points.getX(minSum) + points.getY(minSum)) minSum = i;
+            if (x + y > points.getX(maxSum) + points.getY(maxSum)) maxSum = i;
+            if (x - y < points.getX(minDiff) - points.getY(minDiff)) minDiff = i;
+            if (x - y > points.getX(maxDiff) - points.getY(maxDiff)) maxDiff = i;
+        }
+
+        // bottom, bottom-right, right, top-right, top, top-left, left, bottom-left
+        int[] candidates = { minY, maxDiff, maxX, maxSum, maxY, minDiff, minX, minSum };
+        int[] octagon = new int[candidates.length];
+        int count = 0;
+        for (int candidate : candidates) {
+            if (count == 0 || !HullIndices.samePoint(points, octagon[count - 1], candidate)) {
+                octagon[count++] = candidate;
+            }
+        }
+        while (count > 1 && HullIndices.samePoint(points, octagon[count - 1], octagon[0])) {
+            count--;
+        }
+
+        int[] result = new int[count];
+        System.arraycopy(octagon, 0, result, 0, count);
+        return result;
+    }
+}
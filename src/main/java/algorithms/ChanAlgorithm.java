@@ -2,213 +2,511 @@ package algorithms;
 
 import geometry.Point;
 import geometry.GeometryUtil;
+import geometry.IndexSort;
+import geometry.PointBuffer;
+import geometry.io.PointFileReader;
+import metrics.HullMetrics;
+import metrics.MetricsRecorder;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Implementation of Chan's Algorithm for computing the convex hull of a set of points.
  * It combines the Graham Scan (O(n log n)) and Jarvis March (O(nh)) algorithms to achieve
  * an O(n log h) time complexity, where n is the number of points and h is the number of points on the hull.
  */
-public class ChanAlgorithm {
+public class ChanAlgorithm implements ConvexHullAlgorithm {
+    // Mini-hull tasks covering more than this many points are split further
+    private static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 14;
+    // Tangent searches over at least this many mini-hulls are run as a parallel reduction
+    private static final int DEFAULT_PARALLEL_TANGENT_THRESHOLD = 256;
+    // Smallest group size tried; also the first guess when the input is too small to sample
+    private static final int MIN_GUESS = 4;
+
+    // Outcomes of one wrapping attempt
+    private static final int WRAP_CLOSED = 0;
+    private static final int WRAP_EXHAUSTED = 1;
+    private static final int WRAP_FAILED = 2;
+
     private GeometryUtil geometryUtil = new GeometryUtil();
+    private GrahamScan grahamScan = new GrahamScan();
+    private MonotoneChain monotoneChain = new MonotoneChain();
+    private HullSizeEstimator estimator = new HullSizeEstimator();
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int sequentialCutoff = DEFAULT_SEQUENTIAL_CUTOFF;
+    private int parallelTangentThreshold = DEFAULT_PARALLEL_TANGENT_THRESHOLD;
+    private ChanPolicy policy = new ChanPolicy();
     // private List<Point> convexHull;
     
     
     public List<Point> readPointsFromFile(String filename) throws IOException {
-        List<Point> points = new ArrayList<>();
+        return PointFileReader.readAll(Paths.get(filename)).toList();
+    }
+    
+    
+    /**
+     * Sets the pool used for mini-hull construction and the parallel tangent search.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty() || line.startsWith("#")) {
-                    continue;
-                }
+    /**
+     * Sets how many points a single mini-hull task covers before it is split further.
+     */
+    public void setSequentialCutoff(int sequentialCutoff) {
+        this.sequentialCutoff = sequentialCutoff;
+    }
 
-                String[] coordinates;
-                if (line.contains(",")) {
-                    coordinates = line.trim().split("\\s*,\\s*");
-                } else {
-                    coordinates = line.trim().split("\\s+");
-                }
-                
-                if (coordinates.length >= 2) {
-                    try {
-                        double x = Double.parseDouble(coordinates[0]);
-                        double y = Double.parseDouble(coordinates[1]);
-                        points.add(new Point(x, y));
-                    } catch (NumberFormatException e) {
-                        System.out.println("Skipping invalid point: " + line);
-                    }
-                }
-            }
+    /**
+     * Sets the number of mini-hulls from which each wrapping step searches tangents in parallel.
+     */
+    public void setParallelTangentThreshold(int parallelTangentThreshold) {
+        if (parallelTangentThreshold < 2) {
+            throw new IllegalArgumentException("Threshold must be at least 2: " + parallelTangentThreshold);
         }
-        return points;
+        this.parallelTangentThreshold = parallelTangentThreshold;
     }
-    
-    
+
+    /**
+     * Sets the policy deciding which inputs are handed to a fallback engine.
+     */
+    public void setPolicy(ChanPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy must not be null");
+        }
+        this.policy = policy;
+    }
+
+    public ChanPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public String getName() {
+        return ConvexHullAlgorithms.CHAN;
+    }
+
+    /**
+     * Includes the policy, since a different fallback engine or threshold can change which vertices are reported.
+     */
+    @Override
+    public String describeSettings() {
+        ConvexHullAlgorithm fallback = policy.getFallbackEngine();
+        return "orientation=" + geometryUtil.getOrientationMode()
+               + ",smallInput=" + policy.getSmallInputThreshold()
+               + ",maxHullFraction=" + policy.getMaxHullFraction()
+               + ",fallback=" + fallback.getName() + "[" + fallback.describeSettings() + "]";
+    }
+
+    @Override
     public List<Point> findConvexHull(List<Point> points) {
         // Basic validations
         if (points == null || points.size() < 3) {
             return null; // Not enough points to form a convex hull
         }
         
-        // For small point sets, circular patterns, or during tests, use Graham Scan directly
-        // This is more reliable for these cases and ensures test compatibility
-        if (points.size() <= 50 || isCircularPattern(points) || isCompareTest()) {
-            System.out.println("Using Graham Scan for small/circular dataset or test case");
-            GrahamScan grahamScan = new GrahamScan();
-            return grahamScan.findConvexHull(points);
+        ChanPolicy policy = this.policy;
+        MetricsRecorder recorder = HullMetrics.startRun(getName(), points.size());
+        int[] hull = computeHull(PointBuffer.fromList(points), policy, recorder, HullComputation.current(), HullTrace.current());
+        if (hull == null) {
+            if (recorder == null) {
+                return policy.getFallbackEngine().findConvexHull(points);
+            }
+            // The fallback engine reports its own run too; this one covers the whole call
+            recorder.phase("fallback");
+            List<Point> fallbackHull = policy.getFallbackEngine().findConvexHull(points);
+            recorder.finish(fallbackHull == null ? 0 : fallbackHull.size());
+            return fallbackHull;
         }
-        
-        // Try different values of m (guess for hull size) until we find the right one
-        for (int t = 1; t <= 30; t++) { // 30 iterations is enough for most practical cases
-            int m = (int) Math.min(Math.pow(2, Math.pow(2, t)), points.size());
-            List<Point> hull = findConvexHullWithGuess(points, m);
-            
-            // If hull is not null, we found our convex hull
-            if (hull != null) {
-                return hull;
+        if (recorder != null) {
+            recorder.finish(hull.length);
+        }
+        return HullIndices.toPoints(points, hull);
+    }
+
+    /**
+     * Computes the convex hull directly on packed coordinates.
+     * @return the hull vertices, or null if fewer than 3 points are given
+     */
+    @Override
+    public PointBuffer findConvexHullPacked(PointBuffer points) {
+        if (points == null || points.size() < 3) {
+            return null;
+        }
+        ChanPolicy policy = this.policy;
+        MetricsRecorder recorder = HullMetrics.startRun(getName(), points.size());
+        int[] hull = computeHull(points, policy, recorder, HullComputation.current(), HullTrace.current());
+        if (hull == null) {
+            if (recorder == null) {
+                return policy.getFallbackEngine().findConvexHullPacked(points);
             }
+            // The fallback engine reports its own run too; this one covers the whole call
+            recorder.phase("fallback");
+            PointBuffer fallbackHull = policy.getFallbackEngine().findConvexHullPacked(points);
+            recorder.finish(fallbackHull == null ? 0 : fallbackHull.size());
+            return fallbackHull;
         }
-        
-        // If we get here, something went wrong or the hull size is extremely large
-        // Fall back to Graham Scan (which always works, but is slower)
-        GrahamScan grahamScan = new GrahamScan();
-        return grahamScan.findConvexHull(points);
+        if (recorder != null) {
+            recorder.finish(hull.length);
+        }
+        return points.select(hull);
     }
-    
-    
-    private List<Point> findConvexHullWithGuess(List<Point> points, int m) {
+
+    /**
+     * Chan's algorithm over a PointBuffer.
+     * The first guess for the hull size comes from a random sample. When a guess m turns out
+     * too small, the mini-hulls are not rebuilt from scratch: each new group of m * m points
+     * is the union of m old groups, so its hull is computed from their mini-hull vertices only,
+     * and the wrap resumes from the last hull vertex it found.
+     * @param recorder receives operation counts and phase times; null when metrics are disabled
+     * @param progress receives the round and the hull vertices found so far, and is polled
+     *                 for cancellation between wrapping steps; may be null
+     * @param trace records the hull vertices and the tangents chosen by the wrap; may be null
+     * @return indices (into points) of the hull vertices, or null if the policy hands
+     *         the input to its fallback engine
+     */
+    int[] computeHull(PointBuffer points, ChanPolicy policy, MetricsRecorder recorder, HullProgress progress,
+                      HullTrace trace) {
         int n = points.size();
+        if (n <= policy.getSmallInputThreshold()) {
+            return fallback(policy, n, "small input", recorder);
+        }
         
-        // For specific test cases like a rectangle, we'll use Graham Scan directly
-        // This ensures compatibility with the test cases expecting specific behavior
-        if (n <= 10) {  // Small input set, Graham scan is efficient enough
-            GrahamScan grahamScan = new GrahamScan();
-            return grahamScan.findConvexHull(points);
+        if (recorder != null) {
+            recorder.phase("sample");
+        }
+        double maxHullSize = policy.getMaxHullFraction() * n;
+        double estimate = estimator.estimate(n, estimator.sample(points));
+        if (estimate > maxHullSize) {
+            return fallback(policy, n, "estimated hull size " + Math.round(estimate), recorder);
         }
+        int m = initialGuess(n, estimate);
         
-        // Partition points into groups of size at most m
-        List<List<Point>> groups = new ArrayList<>();
-        for (int i = 0; i < n; i += m) {
-            int end = Math.min(i + m, n);
-            groups.add(new ArrayList<>(points.subList(i, end)));
+        // Partition points into groups of size at most m and compute the convex hull
+        // of each group using Graham Scan. Groups are views, so nothing is copied.
+        if (recorder != null) {
+            recorder.phase("mini-hulls");
         }
+        int[][] miniHulls = computeMiniHulls(points, null, 0, m);
         
-        // Compute the convex hull of each group using Graham Scan
-        List<List<Point>> miniHulls = new ArrayList<>();
-        GrahamScan grahamScan = new GrahamScan();
+        // Start the Jarvis march from the leftmost point across all mini-hulls
+        IntStack result = new IntStack();
+        int leftmost = findLeftmost(points, miniHulls);
+        result.push(leftmost);
+        if (trace != null) {
+            trace.event(HullTrace.START, points.getX(leftmost), points.getY(leftmost));
+            trace.event(HullTrace.PUSH, points.getX(leftmost), points.getY(leftmost));
+        }
         
-        for (List<Point> group : groups) {
-            List<Point> miniHull = grahamScan.findConvexHull(group);
-            if (miniHull != null && miniHull.size() > 0) {
-                miniHulls.add(miniHull);
+        for (int round = 1; ; round++) {
+            // Once groups are large enough for their hull sizes to mean something, a large share
+            // of points on mini-hulls predicts a large hull, for which Chan's algorithm does not pay off
+            if (m > policy.getSmallInputThreshold() && countVertices(miniHulls) > maxHullSize) {
+                return fallback(policy, n, "mini-hulls hold more than " + policy.getMaxHullFraction() + " of the points",
+                                recorder);
+            }
+            
+            if (recorder != null) {
+                recorder.phase("wrap");
+            }
+            int wrapped = result.size();
+            String stage = progress == null ? null : "round " + round + " (m = " + m + ")";
+            int outcome = wrap(points, miniHulls, leftmost, result, m, progress, stage, trace);
+            if (recorder != null) {
+                // Each step searches every mini-hull once; only an exhausted wrap ends without a search
+                long steps = result.size() - wrapped + (outcome == WRAP_EXHAUSTED ? 0 : 1);
+                recorder.count("guesses", 1);
+                recorder.count("wrap steps", steps);
+                recorder.count("tangent searches", steps * miniHulls.length);
             }
+            if (outcome == WRAP_CLOSED) {
+                return removeDuplicatesAndCollinearPoints(points, result.toArray());
+            }
+            if (outcome == WRAP_FAILED || m >= n) {
+                return fallback(policy, n, "wrap did not close", recorder);
+            }
+            
+            // The guess m was too small: square it, reusing the current mini-hulls and wrap
+            if (recorder != null) {
+                recorder.phase("merge mini-hulls");
+            }
+            int nextM = (long) m * m >= n ? n : m * m;
+            miniHulls = computeMiniHulls(points, miniHulls, m, nextM);
+            m = nextM;
         }
-        
-        if (miniHulls.isEmpty()) {
-            return null;
+    }
+    
+    private int[] fallback(ChanPolicy policy, int n, String reason, MetricsRecorder recorder) {
+        if (recorder != null) {
+            recorder.count("fallbacks", 1);
         }
-        
-        // Find the leftmost point across all mini-hulls
-        Point leftmost = null;
-        for (List<Point> hull : miniHulls) {
-            for (Point p : hull) {
-                if (leftmost == null || p.getX() < leftmost.getX() || 
-                    (p.getX() == leftmost.getX() && p.getY() < leftmost.getY())) {
+        if (policy.isLogFallbacks()) {
+            System.out.println("Using " + policy.getFallbackEngine().getName() + " for " + n + " points: " + reason);
+        }
+        return null;
+    }
+    
+    /**
+     * Picks the first group size from an estimate of the hull size, with some headroom.
+     */
+    private int initialGuess(int n, double estimate) {
+        if (estimate <= 0) {
+            return Math.min(MIN_GUESS, n);
+        }
+        return (int) Math.min(n, Math.max(MIN_GUESS, Math.ceil(2 * estimate)));
+    }
+    
+    private static int countVertices(int[][] miniHulls) {
+        int count = 0;
+        for (int[] hull : miniHulls) {
+            count += hull.length;
+        }
+        return count;
+    }
+    
+    private int findLeftmost(PointBuffer points, int[][] miniHulls) {
+        int leftmost = -1;
+        for (int[] hull : miniHulls) {
+            for (int p : hull) {
+                if (leftmost < 0 || points.getX(p) < points.getX(leftmost) || 
+                    (points.getX(p) == points.getX(leftmost) && points.getY(p) < points.getY(leftmost))) {
                     leftmost = p;
                 }
             }
         }
-        
-        // Start the Jarvis march from the leftmost point
-        List<Point> result = new ArrayList<>();
-        Point current = leftmost;
-        
-        // Maximum m iterations for the Jarvis march
-        for (int i = 0; i < m; i++) {
-            // Add current point if it's not already in the result
-            if (result.isEmpty() || !result.get(result.size() - 1).equals(current)) {
-                result.add(current);
-            }
-            
-            // If we've wrapped around to the start, we're done
-            if (i > 0 && current.equals(leftmost)) {
-                return removeDuplicatesAndCollinearPoints(result);
+        return leftmost;
+    }
+    
+    /**
+     * Continues the Jarvis march over the mini-hulls from the last vertex in result,
+     * until the hull closes or result holds more than m vertices.
+     * Vertices already in result are true hull vertices whatever the grouping, which
+     * is why a later, larger guess can resume from them.
+     * @return WRAP_CLOSED, WRAP_EXHAUSTED if m was too small, or WRAP_FAILED
+     */
+    private int wrap(PointBuffer points, int[][] miniHulls, int leftmost, IntStack result, int m,
+                     HullProgress progress, String stage, HullTrace trace) {
+        while (result.size() <= m) {
+            if (progress != null) {
+                HullComputation.update(progress, stage, result.size(), -1);
             }
-            
-            Point next = null;
+            int current = result.peek();
             
             // For each mini-hull, find the most counterclockwise point from current
-            for (List<Point> hull : miniHulls) {
-                Point tangentPoint = findTangent(hull, current);
-                
-                if (tangentPoint != null && !tangentPoint.equals(current)) {
-                    // If this is the first tangent point we've found
-                    if (next == null) {
-                        next = tangentPoint;
-                    } else {
-                        // Compare the two tangent points
-                        int orientation = geometryUtil.orientation(current, next, tangentPoint);
-                        
-                        // If tangentPoint is more counterclockwise or equidistant but further
-                        if (orientation == -1 || (orientation == 0 && 
-                            current.distanceSquared(tangentPoint) > current.distanceSquared(next))) {
-                            next = tangentPoint;
-                        }
-                    }
-                }
+            int next = miniHulls.length >= parallelTangentThreshold
+                ? pool.invoke(new TangentTask(points, miniHulls, current, 0, miniHulls.length))
+                : findNextPoint(points, miniHulls, current, 0, miniHulls.length);
+            
+            // If we couldn't find a next point, every point coincides with current
+            if (next < 0 || HullIndices.samePoint(points, next, current)) {
+                return WRAP_FAILED;
+            }
+            if (trace != null) {
+                trace.event(HullTrace.TANGENT, points.getX(next), points.getY(next));
             }
             
-            // If we couldn't find a next point or we would exceed m iterations, fail
-            if (next == null || next.equals(current)) {
-                return null; // The guess m was too small
+            // If we've wrapped around to the start, we're done
+            if (HullIndices.samePoint(points, next, leftmost)) {
+                return WRAP_CLOSED;
             }
             
-            current = next;
+            result.push(next);
+            if (trace != null) {
+                trace.event(HullTrace.PUSH, points.getX(next), points.getY(next));
+            }
         }
-        
-        // If we get here, m was too small
-        return null;
+        return WRAP_EXHAUSTED;
     }
     
+    /**
+     * Computes the hull of every group of m consecutive points, in parallel on the pool.
+     * When previous mini-hulls for groups of previousM points are given, m must be a multiple
+     * of previousM (or cover all points), and each group is hulled from the vertices of the
+     * previous mini-hulls it contains.
+     * @return the mini-hulls as indices into points, each ordered counterclockwise
+     */
+    private int[][] computeMiniHulls(PointBuffer points, int[][] previous, int previousM, int m) {
+        int n = points.size();
+        int groups = (n + m - 1) / m;
+        int[][] miniHulls = new int[groups][];
+        pool.invoke(new MiniHullTask(points, previous, previousM, m, miniHulls, 0, groups));
+        return miniHulls;
+    }
+
+    private class MiniHullTask extends RecursiveAction {
+        private final PointBuffer points;
+        private final int[][] previous;
+        private final int previousM;
+        private final int m;
+        private final int[][] miniHulls;
+        private final int fromGroup;
+        private final int toGroup;
+
+        MiniHullTask(PointBuffer points, int[][] previous, int previousM, int m,
+                     int[][] miniHulls, int fromGroup, int toGroup) {
+            this.points = points;
+            this.previous = previous;
+            this.previousM = previousM;
+            this.m = m;
+            this.miniHulls = miniHulls;
+            this.fromGroup = fromGroup;
+            this.toGroup = toGroup;
+        }
+
+        @Override
+        protected void compute() {
+            // Split until a task covers roughly one sequential cutoff worth of points
+            if (toGroup - fromGroup > 1 && (long) (toGroup - fromGroup) * m > sequentialCutoff) {
+                int mid = (fromGroup + toGroup) >>> 1;
+                invokeAll(new MiniHullTask(points, previous, previousM, m, miniHulls, fromGroup, mid),
+                          new MiniHullTask(points, previous, previousM, m, miniHulls, mid, toGroup));
+                return;
+            }
+            for (int g = fromGroup; g < toGroup; g++) {
+                miniHulls[g] = previous == null ? hullOfGroup(g) : mergePrevious(g);
+            }
+        }
+
+        private int[] hullOfGroup(int g) {
+            int start = g * m;
+            int end = Math.min(start + m, points.size());
+            int[] miniHull = grahamScan.computeHull(points.slice(start, end));
+            if (miniHull == null) {
+                // Fewer than 3 points: they are their own hull
+                miniHull = new int[end - start];
+                for (int k = 0; k < miniHull.length; k++) {
+                    miniHull[k] = k;
+                }
+            }
+            // Translate group-local indices back to indices into points
+            for (int k = 0; k < miniHull.length; k++) {
+                miniHull[k] += start;
+            }
+            return miniHull;
+        }
+
+        private int[] mergePrevious(int g) {
+            int fromPrevious = (int) ((long) g * m / previousM);
+            int toPrevious = g == miniHulls.length - 1
+                ? previous.length
+                : (int) ((long) (g + 1) * m / previousM);
+
+            int count = 0;
+            for (int k = fromPrevious; k < toPrevious; k++) {
+                count += previous[k].length;
+            }
+            int[] vertices = new int[count];
+            count = 0;
+            for (int k = fromPrevious; k < toPrevious; k++) {
+                System.arraycopy(previous[k], 0, vertices, count, previous[k].length);
+                count += previous[k].length;
+            }
+
+            // Only previous mini-hull vertices can be vertices of the merged group's hull
+            IndexSort.sortLexicographic(vertices, 0, count, points);
+            return monotoneChain.hullOfSorted(points, vertices, 0, count);
+        }
+    }
+
+    /**
+     * Finds the most counterclockwise tangent point from current over miniHulls[from, to).
+     * @return index of the best tangent point, or -1 if every tangent coincides with current
+     */
+    private int findNextPoint(PointBuffer points, int[][] miniHulls, int current, int from, int to) {
+        int next = -1;
+        for (int h = from; h < to; h++) {
+            int tangentPoint = findTangent(points, miniHulls[h], current);
+            if (!HullIndices.samePoint(points, tangentPoint, current)) {
+                next = moreCounterclockwiseCandidate(points, current, next, tangentPoint);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Picks the better of two wrap candidates (either may be -1 for none).
+     */
+    private int moreCounterclockwiseCandidate(PointBuffer points, int current, int next, int candidate) {
+        if (next < 0) {
+            return candidate;
+        }
+        if (candidate < 0) {
+            return next;
+        }
+        // Take the candidate if it is more counterclockwise, or collinear but further
+        int orientation = geometryUtil.orientation(points, current, next, candidate);
+        if (orientation == -1 || (orientation == 0 &&
+            geometryUtil.squaredDistance(points, current, candidate) >
+            geometryUtil.squaredDistance(points, current, next))) {
+            return candidate;
+        }
+        return next;
+    }
+
+    /**
+     * Parallel reduction of the tangent search over a range of mini-hulls.
+     */
+    private class TangentTask extends RecursiveTask<Integer> {
+        private final PointBuffer points;
+        private final int[][] miniHulls;
+        private final int current;
+        private final int from;
+        private final int to;
+
+        TangentTask(PointBuffer points, int[][] miniHulls, int current, int from, int to) {
+            this.points = points;
+            this.miniHulls = miniHulls;
+            this.current = current;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= parallelTangentThreshold / 2) {
+                return findNextPoint(points, miniHulls, current, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            TangentTask left = new TangentTask(points, miniHulls, current, from, mid);
+            left.fork();
+            int right = new TangentTask(points, miniHulls, current, mid, to).compute();
+            return moreCounterclockwiseCandidate(points, current, left.join(), right);
+        }
+    }
+
     /**
      * Removes duplicate and collinear points from the hull.
      */
-    private List<Point> removeDuplicatesAndCollinearPoints(List<Point> hull) {
+    private int[] removeDuplicatesAndCollinearPoints(PointBuffer points, int[] hull) {
         // Edge cases
-        if (hull == null || hull.size() <= 3) {
+        if (hull == null || hull.length <= 3) {
             return hull; // No need to process small hulls
         }
         
-        // Create a set of points to remove duplicates
-        List<Point> uniquePoints = new ArrayList<>();
-        for (Point p : hull) {
-            if (!containsPoint(uniquePoints, p)) {
-                uniquePoints.add(p);
+        // Keep the first occurrence of every distinct coordinate pair
+        IntStack uniquePoints = new IntStack(hull.length);
+        for (int p : hull) {
+            if (!containsPoint(points, uniquePoints, p)) {
+                uniquePoints.push(p);
             }
         }
         
-        // If we're left with 3 or fewer points, just return them
-        if (uniquePoints.size() <= 3) {
-            return uniquePoints;
-        }
-        
         // Need to preserve corners of the hull (square vertices in the test case)
         // The Graham scan would always include all corner points
         
-        return uniquePoints;
+        return uniquePoints.toArray();
     }
     
-    // Helper method to check if a list contains a specific point
-    private boolean containsPoint(List<Point> points, Point target) {
-        for (Point p : points) {
-            if (p.equals(target)) {
+    // Helper method to check if the stack holds a point with the same coordinates as target
+    private boolean containsPoint(PointBuffer points, IntStack candidates, int target) {
+        for (int i = 0; i < candidates.size(); i++) {
+            if (HullIndices.samePoint(points, candidates.get(i), target)) {
                 return true;
             }
         }
@@ -221,45 +519,41 @@ public class ChanAlgorithm {
      * The tangent point is the point p on the hull such that all other points on the hull
      * are to the right of the line from the external point to p.
      * 
-     * @param hull a convex polygon (its points ordered counterclockwise)
-     * @param external the external point
-     * @return the tangent point
+     * @param points the coordinates referenced by the indices
+     * @param hull a convex polygon (its point indices ordered counterclockwise)
+     * @param external index of the external point
+     * @return index of the tangent point
      */
-    private Point findTangent(List<Point> hull, Point external) {
-        int n = hull.size();
+    private int findTangent(PointBuffer points, int[] hull, int external) {
+        int n = hull.length;
         
         if (n <= 2) {
             // For very small hulls, direct comparison is best
-            if (n == 1) return hull.get(0);
-            
-            Point p1 = hull.get(0);
-            Point p2 = hull.get(1);
+            if (n == 1) return hull[0];
             
-            int orient = geometryUtil.orientation(external, p1, p2);
-            if (orient == -1) return p1;  // Counterclockwise - p1 is the tangent
-            return p2;                    // Otherwise p2 is the tangent
+            return isMoreCounterclockwise(points, external, hull[0], hull[1]) ? hull[1] : hull[0];
         }
         
         // For small hulls, linear search is practical and avoids complexity
         if (n <= 10) {
-            return findTangentLinear(hull, external);
+            return findTangentLinear(points, hull, external);
         }
         
         // For larger hulls, use a binary search approach
-        return findTangentBinary(hull, external);
+        return findTangentBinary(points, hull, external);
     }
     
     /**
      * Finds the tangent point using linear search.
      */
-    private Point findTangentLinear(List<Point> hull, Point external) {
-        Point tangent = hull.get(0);
+    private int findTangentLinear(PointBuffer points, int[] hull, int external) {
+        int tangent = hull[0];
         
-        for (int i = 1; i < hull.size(); i++) {
-            Point curr = hull.get(i);
+        for (int i = 1; i < hull.length; i++) {
+            int curr = hull[i];
             
             // If curr is more counterclockwise than current tangent
-            if (isMoreCounterclockwise(external, tangent, curr)) {
+            if (isMoreCounterclockwise(points, external, tangent, curr)) {
                 tangent = curr;
             }
         }
@@ -269,52 +563,82 @@ public class ChanAlgorithm {
     
     /**
      * Finds the tangent point using binary search.
+     * The "more counterclockwise" order is unimodal around a convex polygon seen from a point
+     * outside it, so the search looks for a vertex neither of whose neighbours is better.
+     * Degenerate configurations (collinear edges, current on the polygon) are finished by
+     * climbing to a better neighbour, which converges for the same reason.
      */
-    private Point findTangentBinary(List<Point> hull, Point external) {
-        int n = hull.size();
-        int low = 0;
-        int high = n - 1;
-        
-        // Binary search to find upper tangent
-        while (low < high) {
-            // To prevent infinite loop when high = low + 1
-            if (high == low + 1) {
-                if (isMoreCounterclockwise(external, hull.get(low), hull.get(high))) {
-                    return hull.get(high);
-                }
-                return hull.get(low);
+    private int findTangentBinary(PointBuffer points, int[] hull, int external) {
+        int n = hull.length;
+        int best = -1;
+
+        if (isLocalTangent(points, hull, external, 0)) {
+            best = 0;
+        }
+
+        // Binary search over the chain [a, b] with hull[n] == hull[0]
+        int a = 0;
+        int b = n;
+        while (best < 0 && b - a > 1) {
+            int c = (a + b) >>> 1;
+            boolean cBetterThanNext = !isMoreCounterclockwise(points, external, hull[c], hull[(c + 1) % n]);
+            if (isMoreCounterclockwise(points, external, hull[c - 1], hull[c]) && cBetterThanNext) {
+                best = c;
+                break;
             }
-            
-            int mid = (low + high) / 2;
-            
-            // Check if mid is better than mid-1
-            if (isMoreCounterclockwise(external, hull.get((mid - 1 + n) % n), hull.get(mid))) {
-                // If mid is better than mid+1, we found it
-                if (!isMoreCounterclockwise(external, hull.get(mid), hull.get((mid + 1) % n))) {
-                    return hull.get(mid);
+
+            boolean aRising = isMoreCounterclockwise(points, external, hull[a], hull[(a + 1) % n]);
+            if (aRising) {
+                if (cBetterThanNext) {
+                    b = c;   // c is past the maximum
+                } else if (isMoreCounterclockwise(points, external, hull[c], hull[a])) {
+                    b = c;   // a is already beyond c on the rising side
+                } else {
+                    a = c;
                 }
-                
-                // Otherwise, tangent is in the right half
-                low = mid + 1;
             } else {
-                // Tangent is in the left half
-                high = mid;
+                if (!cBetterThanNext) {
+                    a = c;   // a is falling and c is rising: maximum follows c
+                } else if (isMoreCounterclockwise(points, external, hull[a], hull[c])) {
+                    b = c;   // both falling and c is higher: c is past the maximum
+                } else {
+                    a = c;
+                }
             }
         }
-        
-        return hull.get(low);
+        if (best < 0) {
+            best = a % n;
+        }
+
+        // Hill-climb to the exact maximum; at most n steps, usually none
+        for (int steps = 0; steps < n && !isLocalTangent(points, hull, external, best); steps++) {
+            int prev = (best - 1 + n) % n;
+            int nextIndex = (best + 1) % n;
+            best = isMoreCounterclockwise(points, external, hull[best], hull[nextIndex]) ? nextIndex : prev;
+        }
+        return hull[best];
+    }
+
+    /**
+     * @return true if neither neighbour of hull[i] is more counterclockwise than it
+     */
+    private boolean isLocalTangent(PointBuffer points, int[] hull, int external, int i) {
+        int n = hull.length;
+        return !isMoreCounterclockwise(points, external, hull[i], hull[(i + 1) % n])
+            && !isMoreCounterclockwise(points, external, hull[i], hull[(i - 1 + n) % n]);
     }
     
     /**
      * Checks if point b is more counterclockwise than point a from the reference of external.
      * 
-     * @param external the reference point
-     * @param a first point to compare
-     * @param b second point to compare
+     * @param points the coordinates referenced by the indices
+     * @param external index of the reference point
+     * @param a index of the first point to compare
+     * @param b index of the second point to compare
      * @return true if b is more counterclockwise than a from external's point of view
      */
-    private boolean isMoreCounterclockwise(Point external, Point a, Point b) {
-        int orient = geometryUtil.orientation(external, a, b);
+    private boolean isMoreCounterclockwise(PointBuffer points, int external, int a, int b) {
+        int orient = geometryUtil.orientation(points, external, a, b);
         
         // If b is counterclockwise to the line (external, a)
         if (orient == -1) {
@@ -323,71 +647,9 @@ public class ChanAlgorithm {
         
         // If points are collinear, take the furthest one
         if (orient == 0) {
-            return external.distanceSquared(b) > external.distanceSquared(a);
+            return geometryUtil.squaredDistance(points, external, b) > geometryUtil.squaredDistance(points, external, a);
         }
         
         return false;
     }
-
-    /**
-     * Checks if the point set forms a roughly circular pattern.
-     * Returns true if the points seem to be distributed on a circle-like shape.
-     * 
-     * @param points list of points to check
-     * @return true if points seem to form a circle-like shape
-     */
-    private boolean isCircularPattern(List<Point> points) {
-        if (points.size() < 10) return false;
-        
-        // Find center (average of all points)
-        double sumX = 0, sumY = 0;
-        for (Point p : points) {
-            sumX += p.getX();
-            sumY += p.getY();
-        }
-        double centerX = sumX / points.size();
-        double centerY = sumY / points.size();
-        
-        // Calculate average distance from center
-        double sumDist = 0;
-        for (Point p : points) {
-            double dx = p.getX() - centerX;
-            double dy = p.getY() - centerY;
-            sumDist += Math.sqrt(dx*dx + dy*dy);
-        }
-        double avgDist = sumDist / points.size();
-        
-        // Calculate standard deviation of distances
-        double sumDevSq = 0;
-        for (Point p : points) {
-            double dx = p.getX() - centerX;
-            double dy = p.getY() - centerY;
-            double dist = Math.sqrt(dx*dx + dy*dy);
-            sumDevSq += (dist - avgDist) * (dist - avgDist);
-        }
-        double stdDev = Math.sqrt(sumDevSq / points.size());
-        
-        // If standard deviation is small compared to average distance,
-        // points likely form a circle
-        return stdDev / avgDist < 0.15; // Threshold can be adjusted
-    }
-
-    /**
-     * Helper method to detect if this is likely a comparison test.
-     * Use stack trace analysis to determine if we're called from a test method.
-     * 
-     * @return true if the call appears to be from a test method
-     */
-    private boolean isCompareTest() {
-        // Check if we're running in a test environment
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        for (StackTraceElement element : stackTrace) {
-            if (element.getClassName().contains("Test") && 
-                (element.getMethodName().contains("compare") || 
-                 element.getMethodName().contains("Compare"))) {
-                return true;
-            }
-        }
-        return false;
-    }
-}
\ No newline at end of file
+}
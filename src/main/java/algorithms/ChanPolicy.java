@@ -0,0 +1,68 @@
+package algorithms;
+
+/**
+ * Settings that decide when {@link ChanAlgorithm} hands an input to a fallback engine.
+ * Every decision is made from statistics Chan's algorithm computes anyway (the input size,
+ * the sampled hull-size estimate and the size of its mini-hulls), so applying the policy
+ * costs nothing beyond a few comparisons per call.
+ */
+public class ChanPolicy {
+    private static final int DEFAULT_SMALL_INPUT_THRESHOLD = 50;
+    private static final double DEFAULT_MAX_HULL_FRACTION = 0.5;
+
+    private int smallInputThreshold = DEFAULT_SMALL_INPUT_THRESHOLD;
+    private double maxHullFraction = DEFAULT_MAX_HULL_FRACTION;
+    private ConvexHullAlgorithm fallbackEngine = new GrahamScan();
+    private boolean logFallbacks;
+
+    /**
+     * @return the input size up to which the fallback engine is used directly
+     */
+    public int getSmallInputThreshold() {
+        return smallInputThreshold;
+    }
+
+    public void setSmallInputThreshold(int smallInputThreshold) {
+        if (smallInputThreshold < 0) {
+            throw new IllegalArgumentException("Threshold must be non-negative: " + smallInputThreshold);
+        }
+        this.smallInputThreshold = smallInputThreshold;
+    }
+
+    /**
+     * @return the share of the input, estimated or found on mini-hulls, above which
+     *         the hull is considered too large for Chan's algorithm to pay off
+     */
+    public double getMaxHullFraction() {
+        return maxHullFraction;
+    }
+
+    public void setMaxHullFraction(double maxHullFraction) {
+        if (!(maxHullFraction > 0 && maxHullFraction <= 1)) {
+            throw new IllegalArgumentException("Fraction must be in (0, 1]: " + maxHullFraction);
+        }
+        this.maxHullFraction = maxHullFraction;
+    }
+
+    public ConvexHullAlgorithm getFallbackEngine() {
+        return fallbackEngine;
+    }
+
+    public void setFallbackEngine(ConvexHullAlgorithm fallbackEngine) {
+        if (fallbackEngine == null) {
+            throw new IllegalArgumentException("Fallback engine must not be null");
+        }
+        this.fallbackEngine = fallbackEngine;
+    }
+
+    /**
+     * @return whether the reason for each fallback is printed to standard output
+     */
+    public boolean isLogFallbacks() {
+        return logFallbacks;
+    }
+
+    public void setLogFallbacks(boolean logFallbacks) {
+        this.logFallbacks = logFallbacks;
+    }
+}
@@ -0,0 +1,134 @@
+package algorithms;
+
+import geometry.PointBuffer;
+import geometry.io.PointSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Out-of-core convex hull for inputs that do not fit in memory.
+ * Points are streamed from a {@link PointSource} in bounded chunks. Each chunk is hulled together
+ * with the hull vertices accumulated so far, using any engine, and only the resulting vertices
+ * are kept. Memory stays at O(chunk + h) however large the input is, since a point that is not a
+ * vertex of the hull of everything read so far cannot be a vertex of the final hull.
+ */
+public class ChunkedHull {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final int MIN_CHUNK_SIZE = 1 << 10;
+    // Estimated peak heap per chunk point: 16 bytes in the buffer plus the engine's sort and stack arrays
+    private static final int BYTES_PER_POINT = 64;
+
+    private final ConvexHullAlgorithm engine;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    private long lastPointCount;
+    private int lastChunkCount;
+
+    public ChunkedHull() {
+        this(new MonotoneChain());
+    }
+
+    /**
+     * @param engine the engine used to hull each chunk
+     */
+    public ChunkedHull(ConvexHullAlgorithm engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Sets the number of input points read per chunk.
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sizes the chunks so that hulling one needs at most roughly the given number of heap bytes.
+     */
+    public void setHeapBudget(long bytes) {
+        long points = bytes / BYTES_PER_POINT;
+        if (points < MIN_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Heap budget of " + bytes + " bytes is below the minimum of "
+                                               + (long) MIN_CHUNK_SIZE * BYTES_PER_POINT);
+        }
+        this.chunkSize = (int) Math.min(points, Integer.MAX_VALUE - 8);
+    }
+
+    /**
+     * Computes the hull of a text or binary point file.
+     */
+    public PointBuffer computeHull(Path file) throws IOException {
+        try (PointSource source = PointSource.open(file)) {
+            return computeHull(source);
+        }
+    }
+
+    /**
+     * Computes the hull of all points remaining in the source.
+     * @return the hull vertices as returned by the engine; fewer than 3 points for degenerate inputs
+     */
+    public PointBuffer computeHull(PointSource source) throws IOException {
+        lastPointCount = 0;
+        lastChunkCount = 0;
+
+        PointBuffer hull = new PointBuffer(0);
+        PointBuffer chunk = new PointBuffer();
+        int read;
+        while (true) {
+            // Carry the hull so far into the chunk, then fill the rest from the source
+            chunk.clear();
+            chunk.addAll(hull);
+            read = source.read(chunk, chunkSize);
+            if (read == 0) {
+                break;
+            }
+            lastPointCount += read;
+            lastChunkCount++;
+
+            PointBuffer chunkHull = engine.findConvexHullPacked(chunk);
+            hull = chunkHull != null ? chunkHull : distinct(chunk);
+        }
+        return hull;
+    }
+
+    /**
+     * @return the number of points read by the most recent computation
+     */
+    public long getLastPointCount() {
+        return lastPointCount;
+    }
+
+    /**
+     * @return the number of chunks read by the most recent computation
+     */
+    public int getLastChunkCount() {
+        return lastChunkCount;
+    }
+
+    // Engines return null below 3 points; keep those points, without duplicates
+    private static PointBuffer distinct(PointBuffer points) {
+        PointBuffer result = new PointBuffer(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            boolean seen = false;
+            for (int j = 0; j < result.size(); j++) {
+                if (Double.compare(points.getX(i), result.getX(j)) == 0
+                    && Double.compare(points.getY(i), result.getY(j)) == 0) {
+                    seen = true;
+                    break;
+                }
+            }
+            if (!seen) {
+                result.add(points.getX(i), points.getY(i));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,39 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.List;
+
+/**
+ * Common interface of all convex hull engines.
+ * Both entry points return null when fewer than 3 points are given.
+ */
+public interface ConvexHullAlgorithm {
+
+    /**
+     * @return the display name of the engine, as used by {@link ConvexHullAlgorithms#create(String)}
+     */
+    String getName();
+
+    /**
+     * Describes every setting that can change the result, such as the orientation mode, so that
+     * cached hulls of differently configured engines of the same name are kept apart.
+     * @return the settings as a stable string; empty for an engine without any
+     */
+    default String describeSettings() {
+        return "";
+    }
+
+    /**
+     * Computes the convex hull of a list of points.
+     * @return the hull vertices (instances taken from the input list)
+     */
+    List<Point> findConvexHull(List<Point> points);
+
+    /**
+     * Computes the convex hull directly on packed coordinates.
+     * @return a new buffer holding the hull vertices
+     */
+    PointBuffer findConvexHullPacked(PointBuffer points);
+}
@@ -0,0 +1,52 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry of the available convex hull engines, keyed by display name.
+ */
+public final class ConvexHullAlgorithms {
+    public static final String GRAHAM_SCAN = "Graham Scan";
+    public static final String JARVIS_MARCH = "Jarvis March";
+    public static final String CHAN = "Chan's Algorithm";
+    public static final String MONOTONE_CHAIN = "Monotone Chain";
+    public static final String MERGE_HULL = "Merge Hull";
+    public static final String ADAPTIVE = "Adaptive";
+
+    private static final Map<String, Supplier<ConvexHullAlgorithm>> ENGINES = new LinkedHashMap<>();
+
+    static {
+        ENGINES.put(GRAHAM_SCAN, GrahamScan::new);
+        ENGINES.put(JARVIS_MARCH, JarvisMarch::new);
+        ENGINES.put(CHAN, ChanAlgorithm::new);
+        ENGINES.put(MONOTONE_CHAIN, MonotoneChain::new);
+        ENGINES.put(MERGE_HULL, MergeHull::new);
+        ENGINES.put(ADAPTIVE, AdaptiveHull::new);
+    }
+
+    private ConvexHullAlgorithms() {
+    }
+
+    /**
+     * @return the names of all registered engines, in display order
+     */
+    public static List<String> names() {
+        return new ArrayList<>(ENGINES.keySet());
+    }
+
+    /**
+     * Creates a new instance of the named engine.
+     * @throws IllegalArgumentException if no engine has that name
+     */
+    public static ConvexHullAlgorithm create(String name) {
+        Supplier<ConvexHullAlgorithm> factory = ENGINES.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown convex hull algorithm: " + name);
+        }
+        return factory.get();
+    }
+}
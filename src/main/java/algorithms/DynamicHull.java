@@ -0,0 +1,188 @@
+package algorithms;
+
+import geometry.GeometryUtil;
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Convex hull of a growing point set, updated one point at a time.
+ * The upper and lower chains are kept in balanced search trees keyed by x. A new point is
+ * located in both chains in O(log h); if it lies inside the hull it is rejected, otherwise it is
+ * inserted and the chain vertices it makes non-convex are removed. Every point is removed at
+ * most once, so insertion takes amortized O(log n).
+ * The hull is rebuilt into a list only when it is queried after a change.
+ */
+public class DynamicHull {
+    private static final int UPPER = 1;
+    private static final int LOWER = -1;
+
+    private GeometryUtil geometryUtil = new GeometryUtil();
+    // x -> y of the chain vertices; the upper chain turns clockwise, the lower one counter-clockwise
+    private final TreeMap<Double, Double> upper = new TreeMap<>();
+    private final TreeMap<Double, Double> lower = new TreeMap<>();
+    private List<Point> hull = Collections.emptyList();
+    private boolean changed;
+
+    /**
+     * Adds a point to the set.
+     * @return true if the hull changed, false if the point lies inside or on the hull
+     */
+    public boolean add(double x, double y) {
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            throw new IllegalArgumentException("Coordinates must not be NaN: (" + x + ", " + y + ")");
+        }
+        // Normalize -0.0, which the trees would otherwise order before 0.0
+        x += 0.0;
+        y += 0.0;
+        boolean addedUpper = insert(upper, x, y, UPPER);
+        boolean addedLower = insert(lower, x, y, LOWER);
+        if (addedUpper || addedLower) {
+            changed = true;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean add(Point point) {
+        return add(point.getX(), point.getY());
+    }
+
+    /**
+     * Adds every point of a buffer.
+     * @return the number of points that changed the hull when they were added
+     */
+    public int addAll(PointBuffer points) {
+        int accepted = 0;
+        for (int i = 0; i < points.size(); i++) {
+            if (add(points.getX(i), points.getY(i))) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * @return true if the point lies inside or on the current hull, in O(log h)
+     */
+    public boolean contains(double x, double y) {
+        x += 0.0;
+        y += 0.0;
+        return !outside(upper, x, y, UPPER) && !outside(lower, x, y, LOWER);
+    }
+
+    /**
+     * @return the hull vertices in counter-clockwise order starting at the leftmost (lowest) point;
+     *         fewer than 3 points while the set is degenerate. The list is unmodifiable and reused
+     *         until the hull changes.
+     */
+    public List<Point> getHull() {
+        if (changed) {
+            hull = Collections.unmodifiableList(buildHull());
+            changed = false;
+        }
+        return hull;
+    }
+
+    /**
+     * @return the number of hull vertices
+     */
+    public int size() {
+        return getHull().size();
+    }
+
+    public boolean isEmpty() {
+        return upper.isEmpty();
+    }
+
+    public void clear() {
+        upper.clear();
+        lower.clear();
+        hull = Collections.emptyList();
+        changed = false;
+    }
+
+    /**
+     * Inserts the point into one chain unless it lies on or behind it, then removes the
+     * neighbouring vertices that no longer make a strict turn in the chain's direction.
+     * @param side UPPER or LOWER
+     */
+    private boolean insert(TreeMap<Double, Double> chain, double x, double y, int side) {
+        if (!outside(chain, x, y, side)) {
+            return false;
+        }
+        chain.put(x, y);
+
+        // Clockwise turns (orientation 1) keep the upper chain convex, counter-clockwise ones the lower chain
+        Map.Entry<Double, Double> left = chain.lowerEntry(x);
+        while (left != null) {
+            Map.Entry<Double, Double> leftOfLeft = chain.lowerEntry(left.getKey());
+            if (leftOfLeft == null || turn(leftOfLeft, left, x, y) == side) {
+                break;
+            }
+            chain.remove(left.getKey());
+            left = leftOfLeft;
+        }
+
+        Map.Entry<Double, Double> right = chain.higherEntry(x);
+        while (right != null) {
+            Map.Entry<Double, Double> rightOfRight = chain.higherEntry(right.getKey());
+            if (rightOfRight == null || turnFrom(x, y, right, rightOfRight) == side) {
+                break;
+            }
+            chain.remove(right.getKey());
+            right = rightOfRight;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the point lies strictly above the upper chain (or below the lower one),
+     *         including outside the chain's x range
+     */
+    private boolean outside(TreeMap<Double, Double> chain, double x, double y, int side) {
+        if (chain.isEmpty()) {
+            return true;
+        }
+        Double sameX = chain.get(x);
+        if (sameX != null) {
+            return side == UPPER ? y > sameX : y < sameX;
+        }
+        Map.Entry<Double, Double> left = chain.lowerEntry(x);
+        Map.Entry<Double, Double> right = chain.higherEntry(x);
+        if (left == null || right == null) {
+            return true;
+        }
+        // Above the segment means a clockwise turn from left through the point to right, below a counter-clockwise one
+        return geometryUtil.orientation(left.getKey(), left.getValue(), x, y,
+                                        right.getKey(), right.getValue()) == side;
+    }
+
+    private int turn(Map.Entry<Double, Double> a, Map.Entry<Double, Double> b, double x, double y) {
+        return geometryUtil.orientation(a.getKey(), a.getValue(), b.getKey(), b.getValue(), x, y);
+    }
+
+    private int turnFrom(double x, double y, Map.Entry<Double, Double> b, Map.Entry<Double, Double> c) {
+        return geometryUtil.orientation(x, y, b.getKey(), b.getValue(), c.getKey(), c.getValue());
+    }
+
+    // Lower chain left to right, then upper chain right to left, without repeating shared endpoints
+    private List<Point> buildHull() {
+        List<Point> points = new ArrayList<>(lower.size() + upper.size());
+        for (Map.Entry<Double, Double> entry : lower.entrySet()) {
+            points.add(new Point(entry.getKey(), entry.getValue()));
+        }
+        for (Map.Entry<Double, Double> entry : upper.descendingMap().entrySet()) {
+            Point p = new Point(entry.getKey(), entry.getValue());
+            if (!p.equals(points.get(points.size() - 1)) && !p.equals(points.get(0))) {
+                points.add(p);
+            }
+        }
+        return points;
+    }
+}
@@ -0,0 +1,132 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a chain of pre-filter stages before delegating to a convex hull engine.
+ * Filtering can be switched off per run, in which case the engine sees the raw input.
+ */
+public class FilteredHull implements ConvexHullAlgorithm {
+    private final ConvexHullAlgorithm engine;
+    private final HullPreFilter[] stages;
+    private boolean filterEnabled = true;
+    private int lastEliminatedCount;
+    private long totalEliminatedCount;
+
+    /**
+     * @param engine the engine that computes the hull of the surviving points
+     * @param stages filters applied in order; each sees only the survivors of the previous one
+     */
+    public FilteredHull(ConvexHullAlgorithm engine, HullPreFilter... stages) {
+        this.engine = engine;
+        this.stages = stages.clone();
+    }
+
+    /**
+     * Creates the common pipeline of an Akl–Toussaint filter in front of the given engine.
+     */
+    public static FilteredHull withAklToussaint(ConvexHullAlgorithm engine) {
+        return new FilteredHull(engine, new AklToussaintFilter());
+    }
+
+    @Override
+    public String getName() {
+        return engine.getName() + " (filtered)";
+    }
+
+    @Override
+    public String describeSettings() {
+        if (!filterEnabled) {
+            return engine.describeSettings();
+        }
+        StringBuilder settings = new StringBuilder(engine.describeSettings()).append(",prefilter=");
+        for (int i = 0; i < stages.length; i++) {
+            settings.append(i == 0 ? "" : "+").append(stages[i].getClass().getSimpleName());
+        }
+        return settings.toString();
+    }
+
+    public void setFilterEnabled(boolean filterEnabled) {
+        this.filterEnabled = filterEnabled;
+    }
+
+    public boolean isFilterEnabled() {
+        return filterEnabled;
+    }
+
+    /**
+     * @return how many points the filter stages discarded in the most recent call
+     */
+    public int getLastEliminatedCount() {
+        return lastEliminatedCount;
+    }
+
+    /**
+     * @return how many points the filter stages discarded over all calls, e.g. all chunks of a
+     *         {@link ChunkedHull} run
+     */
+    public long getTotalEliminatedCount() {
+        return totalEliminatedCount;
+    }
+
+    @Override
+    public List<Point> findConvexHull(List<Point> points) {
+        lastEliminatedCount = 0;
+        if (points == null || points.size() < 3 || !filterEnabled) {
+            return engine.findConvexHull(points);
+        }
+
+        int[] survivors = applyStages(PointBuffer.fromList(points));
+        List<Point> remaining = new ArrayList<>(survivors.length);
+        for (int index : survivors) {
+            remaining.add(points.get(index));
+        }
+        return engine.findConvexHull(remaining);
+    }
+
+    @Override
+    public PointBuffer findConvexHullPacked(PointBuffer points) {
+        lastEliminatedCount = 0;
+        if (points == null || points.size() < 3 || !filterEnabled) {
+            return engine.findConvexHullPacked(points);
+        }
+
+        return engine.findConvexHullPacked(points.select(applyStages(points)));
+    }
+
+    /**
+     * @return indices into points of the survivors of all stages
+     */
+    private int[] applyStages(PointBuffer points) {
+        PointBuffer current = points;
+        int[] survivors = null;
+        for (HullPreFilter stage : stages) {
+            int[] kept = stage.filter(current);
+            if (kept.length == current.size()) {
+                continue;
+            }
+            // Compose with the previous stages so indices keep referring to the original input
+            if (survivors != null) {
+                for (int i = 0; i < kept.length; i++) {
+                    kept[i] = survivors[kept[i]];
+                }
+            }
+            survivors = kept;
+            current = points.select(survivors);
+        }
+
+        if (survivors == null) {
+            survivors = new int[points.size()];
+            for (int i = 0; i < survivors.length; i++) {
+                survivors[i] = i;
+            }
+        }
+        lastEliminatedCount = points.size() - survivors.length;
+        totalEliminatedCount += lastEliminatedCount;
+        return survivors;
+    }
+}
@@ -1,133 +1,232 @@
 package algorithms;
 import geometry.Point;
 import geometry.GeometryUtil;
+import geometry.IndexSort;
+import geometry.PointBuffer;
+import geometry.io.PointFileReader;
+import metrics.HullMetrics;
+import metrics.MetricsRecorder;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Paths;
 import java.util.List;
-import java.util.Stack;
 
-public class GrahamScan {
+public class GrahamScan implements ConvexHullAlgorithm {
     private GeometryUtil geometryUtil = new GeometryUtil();
     private List<Point> points;
     private List<Point> convexHull;
 
     public List<Point> readPointsFromFile(String filename) throws IOException {
-        points = new ArrayList<>();
+        return PointFileReader.readAll(Paths.get(filename)).toList();
+    }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty() || line.startsWith("#")) {
-                    continue;
-                }
+    @Override
+    public String getName() {
+        return ConvexHullAlgorithms.GRAHAM_SCAN;
+    }
 
-                // Handle comma-separated or space-separated formats
-                String[] coordinates;
-                if (line.contains(",")) {
-                    coordinates = line.trim().split("\\s*,\\s*");
-                } else {
-                    coordinates = line.trim().split("\\s+");
-                }
-                
-                if (coordinates.length >= 2) {
-                    try {
-                        double x = Double.parseDouble(coordinates[0]);
-                        double y = Double.parseDouble(coordinates[1]);
-                        points.add(new Point(x, y));
-                    } catch (NumberFormatException e) {
-                        // Skip invalid entries
-                        System.out.println("Skipping invalid point: " + line);
-                    }
-                }
-            }
-        }
-        return points;
+    @Override
+    public String describeSettings() {
+        return "orientation=" + geometryUtil.getOrientationMode();
     }
 
+    @Override
     public List<Point> findConvexHull(List<Point> points) {
         // Basic validations
         if (points == null || points.size() < 3) {
             return null;
         }
-        
+
+        convexHull = HullIndices.toPoints(points, computeHullRecorded(PointBuffer.fromList(points)));
+        return convexHull;
+    }
+
+    /**
+     * Computes the convex hull directly on packed coordinates.
+     * @return the hull vertices in counter-clockwise order starting at the lowest point,
+     *         or null if fewer than 3 points are given
+     */
+    @Override
+    public PointBuffer findConvexHullPacked(PointBuffer points) {
+        if (points == null || points.size() < 3) {
+            return null;
+        }
+        return points.select(computeHullRecorded(points));
+    }
+
+    // Runs the scan as a top-level computation, reporting its metrics, progress and trace when they are enabled
+    private int[] computeHullRecorded(PointBuffer points) {
+        MetricsRecorder recorder = HullMetrics.startRun(getName(), points.size());
+        int[] hull = computeHull(points, recorder, HullComputation.current(), HullTrace.current());
+        if (recorder != null) {
+            recorder.finish(hull.length);
+        }
+        return hull;
+    }
+
+    /**
+     * Graham Scan over a PointBuffer.
+     * @return indices (into points) of the hull vertices
+     */
+    int[] computeHull(PointBuffer points) {
+        return computeHull(points, null, null, null);
+    }
+
+    /**
+     * @param recorder receives operation counts and phase times; null when metrics are disabled
+     * @param progress receives the scan position and is polled for cancellation; may be null
+     * @param trace records the pushes and pops of the scan; may be null
+     */
+    int[] computeHull(PointBuffer points, MetricsRecorder recorder, HullProgress progress, HullTrace trace) {
+        int n = points.size();
+        if (n < 3) {
+            return null;
+        }
+        // Counted in locals, which costs next to nothing, and reported only if recording
+        long orientationTests = 0;
+        long stackPops = 0;
+
         // Handle special case: all points are collinear
+        if (recorder != null) {
+            recorder.phase("collinear check");
+        }
+        // The line is taken through point 0 and the first point that differs from it,
+        // since a duplicate of point 0 would make every point look collinear
+        int second = 1;
+        while (second < n && HullIndices.samePoint(points, 0, second)) {
+            second++;
+        }
         boolean allCollinear = true;
-        if (points.size() >= 3) {
-            Point p1 = points.get(0);
-            Point p2 = points.get(1);
-            
-            for (int i = 2; i < points.size(); i++) {
-                if (geometryUtil.orientation(p1, p2, points.get(i)) != 0) {
-                    allCollinear = false;
-                    break;
-                }
+        for (int i = second + 1; i < n; i++) {
+            orientationTests++;
+            if (geometryUtil.orientation(points, 0, second, i) != 0) {
+                allCollinear = false;
+                break;
             }
         }
-        
+
         if (allCollinear) {
             // For collinear points, return just the endpoints
-            Point minX = points.get(0);
-            Point maxX = points.get(0);
-            
-            for (Point p : points) {
-                if (p.getX() < minX.getX() || (p.getX() == minX.getX() && p.getY() < minX.getY())) {
-                    minX = p;
+            int minX = 0;
+            int maxX = 0;
+
+            for (int i = 1; i < n; i++) {
+                double x = points.getX(i);
+                double y = points.getY(i);
+                if (x < points.getX(minX) || (x == points.getX(minX) && y < points.getY(minX))) {
+                    minX = i;
                 }
-                if (p.getX() > maxX.getX() || (p.getX() == maxX.getX() && p.getY() > maxX.getY())) {
-                    maxX = p;
+                if (x > points.getX(maxX) || (x == points.getX(maxX) && y > points.getY(maxX))) {
+                    maxX = i;
                 }
             }
-            
-            List<Point> hull = new ArrayList<>();
-            hull.add(minX);
-            if (!minX.equals(maxX)) {
-                hull.add(maxX);
+
+            if (recorder != null) {
+                recorder.count("orientation tests", orientationTests);
+            }
+            if (trace != null) {
+                trace.event(HullTrace.START, points.getX(minX), points.getY(minX));
+                trace.event(HullTrace.PUSH, points.getX(minX), points.getY(minX));
+                trace.event(HullTrace.PUSH, points.getX(maxX), points.getY(maxX));
+            }
+            if (HullIndices.samePoint(points, minX, maxX)) {
+                return new int[] { minX };
             }
-            return hull;
+            return new int[] { minX, maxX };
         }
-        
+
         // Standard Graham Scan implementation for non-collinear points
-        convexHull = new ArrayList<>();
-        
+
         // Find the point with lowest y-coordinate (anchor point)
-        Point anchorPoint = geometryUtil.findLowestPoint(points);
-        
-        // Create a copy of points and remove anchor point
-        List<Point> sortedPoints = new ArrayList<>(points);
-        sortedPoints.remove(anchorPoint);
-        
-        // Sort points by polar angle with respect to anchor point
-        geometryUtil.sortPointByPolarAngle(sortedPoints, anchorPoint);
-        
-        // Start with first three points
-        Stack<Point> stack = new Stack<>();
-        stack.push(anchorPoint);
-        
-        // Handle edge cases with few points
-        if (sortedPoints.size() > 0) {
-            stack.push(sortedPoints.get(0));
-        }
-        
+        if (recorder != null) {
+            recorder.phase("anchor");
+        }
+        int anchor = 0;
+        for (int i = 1; i < n; i++) {
+            double y = points.getY(i);
+            if (y < points.getY(anchor) || (y == points.getY(anchor) && points.getX(i) < points.getX(anchor))) {
+                anchor = i;
+            }
+        }
+        double anchorX = points.getX(anchor);
+        double anchorY = points.getY(anchor);
+
+        // Index permutation of all points except the anchor
+        int[] order = new int[n - 1];
+        for (int i = 0, k = 0; i < n; i++) {
+            if (i != anchor) {
+                order[k++] = i;
+            }
+        }
+
+        // Sort by polar angle around the anchor, closer points first on ties.
+        // Every other point lies in the anchor's upper half-plane, so cross-product signs
+        // order them exactly, without trigonometry.
+        IndexSort.IndexComparator byAngle =
+            (a, b) -> geometryUtil.comparePolar(anchorX, anchorY, points.getX(a), points.getY(a),
+                                                points.getX(b), points.getY(b));
+        long[] comparisons = null;
+        if (recorder != null) {
+            recorder.phase("sort");
+            // Counting wraps the comparator only while recording
+            long[] counter = new long[1];
+            IndexSort.IndexComparator uncounted = byAngle;
+            byAngle = (a, b) -> {
+                counter[0]++;
+                return uncounted.compare(a, b);
+            };
+            comparisons = counter;
+        }
+        if (progress != null) {
+            HullComputation.update(progress, "sort", 0, n);
+        }
+        IndexSort.sort(order, 0, order.length, byAngle);
+
+        if (recorder != null) {
+            recorder.phase("scan");
+        }
+
+        IntStack stack = new IntStack(Math.min(n, 1024));
+        stack.push(anchor);
+        stack.push(order[0]);
+        if (trace != null) {
+            trace.event(HullTrace.START, anchorX, anchorY);
+            trace.event(HullTrace.PUSH, anchorX, anchorY);
+            trace.event(HullTrace.PUSH, points.getX(order[0]), points.getY(order[0]));
+        }
+
         // Process remaining points
-        for (int i = 1; i < sortedPoints.size(); i++) {
-            Point top = stack.pop();
-            
+        for (int i = 1; i < order.length; i++) {
+            if (progress != null && (i & (HullComputation.CHECK_INTERVAL - 1)) == 0) {
+                HullComputation.update(progress, "scan", i, order.length);
+            }
+            int next = order[i];
+            int top = stack.pop();
+
             // Remove points that make a non-left turn
-            while (!stack.isEmpty() && geometryUtil.orientation(stack.peek(), top, sortedPoints.get(i)) >= 0) {
+            while (!stack.isEmpty() && geometryUtil.orientation(points, stack.peek(), top, next) >= 0) {
+                if (trace != null) {
+                    trace.event(HullTrace.POP, points.getX(top), points.getY(top));
+                }
                 top = stack.pop();
+                stackPops++;
             }
-            
+            // Every pop passed one test; a non-empty stack means one more test failed
+            orientationTests += stack.isEmpty() ? 0 : 1;
+
             stack.push(top);
-            stack.push(sortedPoints.get(i));
+            stack.push(next);
+            if (trace != null) {
+                trace.event(HullTrace.PUSH, points.getX(next), points.getY(next));
+            }
         }
-        
-        // Convert stack to list
-        convexHull = new ArrayList<>(stack);
-        return convexHull;
 
+        if (recorder != null) {
+            recorder.count("orientation tests", orientationTests + stackPops);
+            recorder.count("comparisons", comparisons[0]);
+            recorder.count("stack pops", stackPops);
+        }
+        return stack.toArray();
     }
 
-}
\ No newline at end of file
+}
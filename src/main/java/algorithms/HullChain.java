@@ -0,0 +1,252 @@
+package algorithms;
+
+import geometry.GeometryUtil;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * One chain of a convex hull, upper or lower, with its vertices in a balanced search tree keyed by x.
+ * Insertion follows {@link DynamicHull}: a point is inserted only if it lies strictly outside the
+ * chain, and the neighbouring vertices it makes non-convex are removed.
+ * Insertions made with {@link #push} can be undone in reverse order with {@link #pop}, which puts
+ * back exactly the vertices the insertion removed. Every vertex enters the undo log at most once,
+ * so a chain built by n pushes and taken apart by n pops holds O(n) entries and takes amortized
+ * O(log h) per operation.
+ */
+final class HullChain {
+    static final int UPPER = 1;
+    static final int LOWER = -1;
+
+    private GeometryUtil geometryUtil = new GeometryUtil();
+    // Orientation of three consecutive vertices: clockwise (1) for the upper chain, counter-clockwise for the lower
+    private final int side;
+    private final TreeMap<Double, Double> vertices = new TreeMap<>();
+
+    // Undo log: one bit per push telling whether it changed the chain, and for each change
+    // the x it inserted and where the vertices it removed start in removedXs/removedYs
+    private long[] changedBits = new long[1];
+    private int pushes;
+    private double[] insertedXs = new double[16];
+    private int[] removedFrom = new int[16];
+    private int changes;
+    private double[] removedXs = new double[16];
+    private double[] removedYs = new double[16];
+    private int removedCount;
+
+    HullChain(int side) {
+        if (side != UPPER && side != LOWER) {
+            throw new IllegalArgumentException("Side must be UPPER or LOWER: " + side);
+        }
+        this.side = side;
+    }
+
+    /**
+     * Adds a point without recording how to undo it.
+     * @param x must not be -0.0, which the tree would order before 0.0
+     * @return true if the chain changed
+     */
+    boolean add(double x, double y) {
+        return insert(x, y, false);
+    }
+
+    /**
+     * Adds a point and records how to undo it with {@link #pop}.
+     * @return true if the chain changed
+     */
+    boolean push(double x, double y) {
+        if (pushes == changedBits.length * 64) {
+            changedBits = Arrays.copyOf(changedBits, changedBits.length * 2);
+        }
+        if (changes == insertedXs.length) {
+            insertedXs = Arrays.copyOf(insertedXs, changes * 2);
+            removedFrom = Arrays.copyOf(removedFrom, changes * 2);
+        }
+        int removedStart = removedCount;
+        boolean changed = insert(x, y, true);
+        if (changed) {
+            changedBits[pushes >>> 6] |= 1L << pushes;
+            insertedXs[changes] = x;
+            removedFrom[changes] = removedStart;
+            changes++;
+        }
+        pushes++;
+        return changed;
+    }
+
+    /**
+     * Undoes the most recent {@link #push} that has not been undone yet.
+     * @return true if the chain changed
+     */
+    boolean pop() {
+        if (pushes == 0) {
+            throw new IllegalStateException("No push to undo");
+        }
+        pushes--;
+        long bit = 1L << pushes;
+        if ((changedBits[pushes >>> 6] & bit) == 0) {
+            return false;
+        }
+        changedBits[pushes >>> 6] &= ~bit;
+
+        changes--;
+        vertices.remove(insertedXs[changes]);
+        int from = removedFrom[changes];
+        for (int i = from; i < removedCount; i++) {
+            vertices.put(removedXs[i], removedYs[i]);
+        }
+        removedCount = from;
+        return true;
+    }
+
+    int size() {
+        return vertices.size();
+    }
+
+    /**
+     * Removes every vertex and forgets the undo log.
+     */
+    void clear() {
+        vertices.clear();
+        Arrays.fill(changedBits, 0);
+        pushes = 0;
+        changes = 0;
+        removedCount = 0;
+    }
+
+    /**
+     * Writes the chain of the union of this chain's and another chain's vertices into xs and ys, left to right.
+     * Both chains are already sorted by x, so this is a linear merge followed by one convexity scan.
+     * @param other a chain of the same side
+     * @param xs    at least size() + other.size() long, as is ys
+     * @return the number of vertices written
+     */
+    int union(HullChain other, double[] xs, double[] ys) {
+        int sizeA = size();
+        int sizeB = other.size();
+        double[] ax = new double[sizeA];
+        double[] ay = new double[sizeA];
+        double[] bx = new double[sizeB];
+        double[] by = new double[sizeB];
+        copy(ax, ay);
+        other.copy(bx, by);
+
+        int i = 0;
+        int j = 0;
+        int top = 0;
+        while (i < sizeA || j < sizeB) {
+            double x;
+            double y;
+            if (j == sizeB || (i < sizeA && ax[i] < bx[j])) {
+                x = ax[i];
+                y = ay[i++];
+            } else if (i == sizeA || bx[j] < ax[i]) {
+                x = bx[j];
+                y = by[j++];
+            } else {
+                // Same x in both chains: only the vertex further out can be on the union's chain
+                x = ax[i];
+                y = side == UPPER ? Math.max(ay[i], by[j]) : Math.min(ay[i], by[j]);
+                i++;
+                j++;
+            }
+            while (top >= 2 && geometryUtil.orientation(xs[top - 2], ys[top - 2], xs[top - 1], ys[top - 1], x, y) != side) {
+                top--;
+            }
+            xs[top] = x;
+            ys[top] = y;
+            top++;
+        }
+        return top;
+    }
+
+    /**
+     * Writes the vertices into xs and ys, left to right.
+     */
+    void copy(double[] xs, double[] ys) {
+        int i = 0;
+        for (Map.Entry<Double, Double> entry : vertices.entrySet()) {
+            xs[i] = entry.getKey();
+            ys[i] = entry.getValue();
+            i++;
+        }
+    }
+
+    private boolean insert(double x, double y, boolean record) {
+        if (!outside(x, y)) {
+            return false;
+        }
+        Double replaced = vertices.put(x, y);
+        if (record && replaced != null) {
+            logRemoved(x, replaced);
+        }
+
+        Map.Entry<Double, Double> left = vertices.lowerEntry(x);
+        while (left != null) {
+            Map.Entry<Double, Double> leftOfLeft = vertices.lowerEntry(left.getKey());
+            if (leftOfLeft == null || turn(leftOfLeft, left, x, y) == side) {
+                break;
+            }
+            remove(left, record);
+            left = leftOfLeft;
+        }
+
+        Map.Entry<Double, Double> right = vertices.higherEntry(x);
+        while (right != null) {
+            Map.Entry<Double, Double> rightOfRight = vertices.higherEntry(right.getKey());
+            if (rightOfRight == null || turnFrom(x, y, right, rightOfRight) == side) {
+                break;
+            }
+            remove(right, record);
+            right = rightOfRight;
+        }
+        return true;
+    }
+
+    private void remove(Map.Entry<Double, Double> vertex, boolean record) {
+        vertices.remove(vertex.getKey());
+        if (record) {
+            logRemoved(vertex.getKey(), vertex.getValue());
+        }
+    }
+
+    private void logRemoved(double x, double y) {
+        if (removedCount == removedXs.length) {
+            removedXs = Arrays.copyOf(removedXs, removedCount * 2);
+            removedYs = Arrays.copyOf(removedYs, removedCount * 2);
+        }
+        removedXs[removedCount] = x;
+        removedYs[removedCount] = y;
+        removedCount++;
+    }
+
+    /**
+     * @return true if the point lies strictly above the upper chain (or below the lower one),
+     *         including outside the chain's x range
+     */
+    private boolean outside(double x, double y) {
+        if (vertices.isEmpty()) {
+            return true;
+        }
+        Double sameX = vertices.get(x);
+        if (sameX != null) {
+            return side == UPPER ? y > sameX : y < sameX;
+        }
+        Map.Entry<Double, Double> left = vertices.lowerEntry(x);
+        Map.Entry<Double, Double> right = vertices.higherEntry(x);
+        if (left == null || right == null) {
+            return true;
+        }
+        return geometryUtil.orientation(left.getKey(), left.getValue(), x, y,
+                                        right.getKey(), right.getValue()) == side;
+    }
+
+    private int turn(Map.Entry<Double, Double> a, Map.Entry<Double, Double> b, double x, double y) {
+        return geometryUtil.orientation(a.getKey(), a.getValue(), b.getKey(), b.getValue(), x, y);
+    }
+
+    private int turnFrom(double x, double y, Map.Entry<Double, Double> b, Map.Entry<Double, Double> c) {
+        return geometryUtil.orientation(x, y, b.getKey(), b.getValue(), c.getKey(), c.getValue());
+    }
+}
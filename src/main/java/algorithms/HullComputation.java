@@ -0,0 +1,65 @@
+package algorithms;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+
+/**
+ * Runs hull computations with a {@link HullProgress} bound to the calling thread. Engines look
+ * the progress up once per run, so computations started without one pay a single thread-local
+ * read and never check for cancellation.
+ */
+public final class HullComputation {
+    // Loops that do constant work per iteration poll every this many iterations (a power of two)
+    static final int CHECK_INTERVAL = 1 << 12;
+
+    private static final ThreadLocal<HullProgress> CURRENT = new ThreadLocal<>();
+
+    private HullComputation() {
+    }
+
+    /**
+     * Runs the computation on this thread with progress installed.
+     * @throws CancellationException if an engine saw the progress cancelled
+     */
+    public static <T> T run(HullProgress progress, Supplier<T> computation) {
+        if (progress == null) {
+            throw new IllegalArgumentException("Progress must not be null");
+        }
+        HullProgress previous = CURRENT.get();
+        CURRENT.set(progress);
+        try {
+            return computation.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return the progress of the computation running on this thread, or null
+     */
+    static HullProgress current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Reports progress and stops the computation if it was cancelled.
+     * @throws CancellationException if progress is cancelled
+     */
+    static void update(HullProgress progress, String stage, long done, long total) {
+        checkCancelled(progress);
+        progress.update(stage, done, total);
+    }
+
+    /**
+     * @throws CancellationException if progress is cancelled
+     */
+    static void checkCancelled(HullProgress progress) {
+        if (progress.isCancelled()) {
+            throw new CancellationException("Hull computation cancelled");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adapters between the index-based hull results of the PointBuffer code paths and the List&lt;Point&gt; API.
+ */
+final class HullIndices {
+
+    private HullIndices() {
+    }
+
+    /**
+     * Maps hull indices back to the caller's Point instances, or null when there is no hull.
+     */
+    static List<Point> toPoints(List<Point> points, int[] hullIndices) {
+        if (hullIndices == null) {
+            return null;
+        }
+        List<Point> hull = new ArrayList<>(hullIndices.length);
+        for (int index : hullIndices) {
+            hull.add(points.get(index));
+        }
+        return hull;
+    }
+
+    /**
+     * Coordinate equality with the same semantics as Point.equals.
+     */
+    static boolean samePoint(PointBuffer points, int i, int j) {
+        return Double.compare(points.getX(i), points.getX(j)) == 0
+            && Double.compare(points.getY(i), points.getY(j)) == 0;
+    }
+}
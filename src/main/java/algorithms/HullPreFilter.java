@@ -0,0 +1,14 @@
+package algorithms;
+
+import geometry.PointBuffer;
+
+/**
+ * A pipeline stage that discards points which cannot be hull vertices before an engine runs.
+ */
+public interface HullPreFilter {
+
+    /**
+     * @return indices of the points that may lie on the hull, in input order
+     */
+    int[] filter(PointBuffer points);
+}
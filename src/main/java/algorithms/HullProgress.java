@@ -0,0 +1,22 @@
+package algorithms;
+
+/**
+ * Receives progress from a running engine and tells it whether to stop. Installed for the
+ * current thread with {@link HullComputation#run}; engines that run long loops (Jarvis March,
+ * Graham Scan, Chan's Algorithm) report through it and poll for cancellation between steps.
+ */
+public interface HullProgress {
+
+    /**
+     * Reports that the named stage has done work units out of total.
+     * @param total the expected number of units, or -1 if unknown (e.g. hull vertices still to be found)
+     */
+    void update(String stage, long done, long total);
+
+    /**
+     * @return true to make the engine abandon the computation; by default, when the thread is interrupted
+     */
+    default boolean isCancelled() {
+        return Thread.currentThread().isInterrupted();
+    }
+}
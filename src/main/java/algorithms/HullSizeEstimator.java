@@ -0,0 +1,134 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Estimates the hull size h of a point set from the hull of a seeded random subsample.
+ * The sample's hull ratio and bounding-box fill select a growth model for h:
+ * linear for points on a curve, logarithmic for uniform points in a polygon,
+ * and n^(1/3) for uniform points in a smooth convex region.
+ */
+class HullSizeEstimator {
+    static final int DEFAULT_SAMPLE_SIZE = 1024;
+    // Sample hulls filling more than this share of their bounding box look polygonal (h ~ log n)
+    private static final double POLYGONAL_FILL = 0.9;
+    // A sample with this share of points on its hull looks like points on a curve (h ~ n)
+    private static final double CURVE_HULL_RATIO = 0.5;
+
+    private final MonotoneChain monotoneChain = new MonotoneChain();
+    private int sampleSize = DEFAULT_SAMPLE_SIZE;
+    private long seed = 0x5DEECE66DL;
+    private double lastBoundingBoxFill;
+
+    void setSampleSize(int sampleSize) {
+        if (sampleSize < 3) {
+            throw new IllegalArgumentException("Sample size must be at least 3: " + sampleSize);
+        }
+        this.sampleSize = sampleSize;
+    }
+
+    int getSampleSize() {
+        return sampleSize;
+    }
+
+    void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return the share of the last sample's bounding box covered by its hull (0 if no sample was taken)
+     */
+    double getLastBoundingBoxFill() {
+        return lastBoundingBoxFill;
+    }
+
+    /**
+     * @return a random sample of the points, or null if the input is under twice the sample size
+     */
+    PointBuffer sample(List<Point> points) {
+        int n = points.size();
+        if (n < 2 * sampleSize) {
+            return null;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        PointBuffer sample = new PointBuffer(sampleSize);
+        for (int i = 0; i < sampleSize; i++) {
+            Point p = points.get(random.nextInt(n));
+            sample.add(p.getX(), p.getY());
+        }
+        return sample;
+    }
+
+    /**
+     * @return a random sample of the points, or null if the input is under twice the sample size
+     */
+    PointBuffer sample(PointBuffer points) {
+        int n = points.size();
+        if (n < 2 * sampleSize) {
+            return null;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        PointBuffer sample = new PointBuffer(sampleSize);
+        for (int i = 0; i < sampleSize; i++) {
+            int index = random.nextInt(n);
+            sample.add(points.getX(index), points.getY(index));
+        }
+        return sample;
+    }
+
+    /**
+     * Estimates the hull size of n points from a sample of them.
+     * @return the estimate, between 3 and n, or 0 if sample is null
+     */
+    double estimate(int n, PointBuffer sample) {
+        lastBoundingBoxFill = 0;
+        if (sample == null) {
+            return 0;
+        }
+
+        int[] sampleHull = monotoneChain.computeHull(sample);
+        int s = sample.size();
+        int hs = sampleHull.length;
+        lastBoundingBoxFill = boundingBoxFill(sample, sampleHull);
+
+        double estimate;
+        if ((double) hs / s >= CURVE_HULL_RATIO) {
+            // Most sampled points are extreme: the hull grows linearly with n
+            estimate = (double) hs / s * n;
+        } else if (lastBoundingBoxFill >= POLYGONAL_FILL) {
+            // Uniform in a polygon: expected hull size grows like log n
+            estimate = hs * Math.log(n) / Math.log(s);
+        } else {
+            // Uniform in a smooth convex region: expected hull size grows like n^(1/3)
+            estimate = hs * Math.cbrt((double) n / s);
+        }
+        return Math.max(3, Math.min(estimate, n));
+    }
+
+    private static double boundingBoxFill(PointBuffer points, int[] hull) {
+        double minX = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        double twiceArea = 0;
+        for (int i = 0; i < hull.length; i++) {
+            int a = hull[i];
+            int b = hull[(i + 1) % hull.length];
+            twiceArea += points.getX(a) * points.getY(b) - points.getX(b) * points.getY(a);
+            minX = Math.min(minX, points.getX(a));
+            maxX = Math.max(maxX, points.getX(a));
+            minY = Math.min(minY, points.getY(a));
+            maxY = Math.max(maxY, points.getY(a));
+        }
+        double boxArea = (maxX - minX) * (maxY - minY);
+        return boxArea > 0 ? Math.abs(twiceArea) / 2 / boxArea : 0;
+    }
+}
@@ -0,0 +1,134 @@
+package algorithms;
+
+import java.util.function.Supplier;
+
+/**
+ * Opt-in record of the steps an engine takes, for replaying a computation. Events go into a
+ * ring buffer of primitive arrays allocated up front, so recording never allocates; once it is
+ * full, the oldest events are overwritten. Events carry coordinates rather than indices, so
+ * they stay meaningful when an engine works on a filtered or chunked copy of the input.
+ * Graham Scan, Jarvis March and Chan's Algorithm record while a trace is bound to their thread
+ * with {@link #record}; otherwise they only test a local variable for null.
+ */
+public final class HullTrace {
+    /** A top-level engine run starts; the hull built so far is discarded. */
+    public static final int START = 0;
+    /** A point is added to the hull under construction. */
+    public static final int PUSH = 1;
+    /** The last point of the hull under construction is removed. */
+    public static final int POP = 2;
+    /** A point becomes the best candidate for the next hull vertex. */
+    public static final int CANDIDATE = 3;
+    /** A point is tested as the next hull vertex and rejected. */
+    public static final int REJECT = 4;
+    /** The tangent from the last hull vertex over all mini-hulls is chosen as the next vertex. */
+    public static final int TANGENT = 5;
+
+    private static final ThreadLocal<HullTrace> CURRENT = new ThreadLocal<>();
+
+    private final byte[] kinds;
+    private final double[] xs;
+    private final double[] ys;
+    private final int mask;
+    private long count;
+
+    /**
+     * @param capacity the number of most recent events kept, rounded up to a power of two
+     */
+    public HullTrace(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        kinds = new byte[size];
+        xs = new double[size];
+        ys = new double[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Runs the computation on this thread with this trace recording its engine steps.
+     */
+    public <T> T record(Supplier<T> computation) {
+        HullTrace previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return computation.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * @return the trace recording on this thread, or null
+     */
+    static HullTrace current() {
+        return CURRENT.get();
+    }
+
+    void event(int kind, double x, double y) {
+        int slot = (int) count & mask;
+        kinds[slot] = (byte) kind;
+        xs[slot] = x;
+        ys[slot] = y;
+        count++;
+    }
+
+    /**
+     * @return the number of events held, at most the capacity
+     */
+    public int size() {
+        return (int) Math.min(count, kinds.length);
+    }
+
+    public int getCapacity() {
+        return kinds.length;
+    }
+
+    /**
+     * @return the number of events recorded since the last clear, including overwritten ones
+     */
+    public long getEventCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of oldest events that were overwritten
+     */
+    public long getDropped() {
+        return count - size();
+    }
+
+    /**
+     * @param i position among the held events, 0 being the oldest
+     */
+    public int getKind(int i) {
+        return kinds[slot(i)];
+    }
+
+    public double getX(int i) {
+        return xs[slot(i)];
+    }
+
+    public double getY(int i) {
+        return ys[slot(i)];
+    }
+
+    private int slot(int i) {
+        if (i < 0 || i >= size()) {
+            throw new IndexOutOfBoundsException("Event " + i + " of " + size());
+        }
+        return (int) (getDropped() + i) & mask;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+}
@@ -0,0 +1,50 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Growable array-backed stack of point indices, used by the engines in place of Stack&lt;Point&gt;.
+ */
+class IntStack {
+    private int[] elements;
+    private int size;
+
+    IntStack() {
+        this(16);
+    }
+
+    IntStack(int initialCapacity) {
+        elements = new int[Math.max(initialCapacity, 4)];
+    }
+
+    void push(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size + (size >> 1) + 1);
+        }
+        elements[size++] = value;
+    }
+
+    int pop() {
+        return elements[--size];
+    }
+
+    int peek() {
+        return elements[size - 1];
+    }
+
+    int get(int index) {
+        return elements[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+}
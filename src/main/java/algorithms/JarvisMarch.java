@@ -2,118 +2,185 @@ package algorithms;
 
 import geometry.Point;
 import geometry.GeometryUtil;
+import geometry.PointBuffer;
+import geometry.io.PointFileReader;
+import metrics.HullMetrics;
+import metrics.MetricsRecorder;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.nio.file.Paths;
 import java.util.List;
 
 /**
  * Implementation of the Jarvis March (Gift Wrapping) algorithm for computing the convex hull of a set of points.
  * Time complexity: O(nh) where n is the number of points and h is the number of points on the hull.
  */
-public class JarvisMarch {
+public class JarvisMarch implements ConvexHullAlgorithm {
     private GeometryUtil geometryUtil = new GeometryUtil();
     private List<Point> convexHull;
     
 
     public List<Point> readPointsFromFile(String filename) throws IOException {
-        List<Point> points = new ArrayList<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty() || line.startsWith("#")) {
-                    continue;
-                }
-
-                // Handle comma-separated or space-separated formats
-                String[] coordinates;
-                if (line.contains(",")) {
-                    coordinates = line.trim().split("\\s*,\\s*");
-                } else {
-                    coordinates = line.trim().split("\\s+");
-                }
-                
-                if (coordinates.length >= 2) {
-                    try {
-                        double x = Double.parseDouble(coordinates[0]);
-                        double y = Double.parseDouble(coordinates[1]);
-                        points.add(new Point(x, y));
-                    } catch (NumberFormatException e) {
-                        System.out.println("Skipping invalid point: " + line);
-                    }
-                }
-            }
-        }
-        return points;
+        return PointFileReader.readAll(Paths.get(filename)).toList();
     }
     
    
+    @Override
+    public String getName() {
+        return ConvexHullAlgorithms.JARVIS_MARCH;
+    }
+
+    @Override
+    public String describeSettings() {
+        return "orientation=" + geometryUtil.getOrientationMode();
+    }
+
+    @Override
     public List<Point> findConvexHull(List<Point> points) {
         // Basic validations
         if (points == null || points.size() < 3) {
             return null; // Not enough points to form a convex hull
         }
         
-        convexHull = new ArrayList<>();
+        convexHull = HullIndices.toPoints(points, computeHullRecorded(PointBuffer.fromList(points)));
+        return convexHull;
+    }
+
+    /**
+     * Computes the convex hull directly on packed coordinates.
+     * @return the hull vertices starting at the leftmost point, or null if fewer than 3 points are given
+     */
+    @Override
+    public PointBuffer findConvexHullPacked(PointBuffer points) {
+        if (points == null || points.size() < 3) {
+            return null;
+        }
+        return points.select(computeHullRecorded(points));
+    }
+
+    // Runs the wrap as a top-level computation, reporting its metrics, progress and trace when they are enabled
+    private int[] computeHullRecorded(PointBuffer points) {
+        MetricsRecorder recorder = HullMetrics.startRun(getName(), points.size());
+        int[] hull = computeHull(points, recorder, HullComputation.current(), HullTrace.current());
+        if (recorder != null) {
+            recorder.finish(hull.length);
+        }
+        return hull;
+    }
+
+    /**
+     * Gift wrapping over a PointBuffer.
+     * @return indices (into points) of the hull vertices
+     */
+    int[] computeHull(PointBuffer points) {
+        return computeHull(points, null, null, null);
+    }
+
+    /**
+     * @param recorder receives operation counts and phase times; null when metrics are disabled
+     * @param progress receives the number of hull vertices found and is polled for cancellation
+     *                 before every step; may be null
+     * @param trace records every hull vertex and every candidate taken or rejected; may be null
+     */
+    int[] computeHull(PointBuffer points, MetricsRecorder recorder, HullProgress progress, HullTrace trace) {
+        int n = points.size();
+        if (n < 3) {
+            return null;
+        }
+        long steps = 0;
+        long orientationTests = 0;
+
+        IntStack hull = new IntStack();
         
         // Find the leftmost point (with the smallest x-coordinate)
-        Point startPoint = findLeftmostPoint(points);
+        if (recorder != null) {
+            recorder.phase("leftmost");
+        }
+        int startPoint = findLeftmostPoint(points);
+        if (trace != null) {
+            trace.event(HullTrace.START, points.getX(startPoint), points.getY(startPoint));
+        }
+        if (recorder != null) {
+            recorder.phase("wrap");
+        }
         
         // Start from the leftmost point and keep finding the next point
-        Point currentPoint = startPoint;
+        int currentPoint = startPoint;
         
         do {
+            // Each step scans every point, so reporting per step costs nothing in comparison
+            if (progress != null) {
+                HullComputation.update(progress, "wrap", hull.size(), -1);
+            }
             // Add the current point to the convex hull
-            convexHull.add(currentPoint);
+            hull.push(currentPoint);
+            steps++;
+            if (trace != null) {
+                trace.event(HullTrace.PUSH, points.getX(currentPoint), points.getY(currentPoint));
+            }
+            double currentX = points.getX(currentPoint);
+            double currentY = points.getY(currentPoint);
             
             // Find the next point with the smallest polar angle
-            Point nextPoint = points.get(0);
+            int nextPoint = 0;
             
             // If the next candidate is the same as our current point, select another candidate
-            if (nextPoint.equals(currentPoint) && points.size() > 1) {
-                nextPoint = points.get(1);
+            if (HullIndices.samePoint(points, nextPoint, currentPoint)) {
+                nextPoint = 1;
             }
             
             // Find the point with the smallest polar angle from the current point
-            for (Point candidate : points) {
+            for (int candidate = 0; candidate < n; candidate++) {
+                double candidateX = points.getX(candidate);
+                double candidateY = points.getY(candidate);
+
                 // Skip the current point
-                if (candidate.equals(currentPoint)) {
+                if (Double.compare(candidateX, currentX) == 0 && Double.compare(candidateY, currentY) == 0) {
                     continue;
                 }
                 
-                // If next is not yet set or the candidate is better, update next
-                int orientation = geometryUtil.orientation(currentPoint, nextPoint, candidate);
+                double nextX = points.getX(nextPoint);
+                double nextY = points.getY(nextPoint);
+                int orientation = geometryUtil.orientation(currentX, currentY, nextX, nextY, candidateX, candidateY);
+                orientationTests++;
                 
                 // If candidate is more counter-clockwise than next
-                if (nextPoint.equals(currentPoint) ||
+                if (HullIndices.samePoint(points, nextPoint, currentPoint) ||
                     orientation == -1 || // Counter-clockwise turn
                     // If collinear, take the farthest point
-                    (orientation == 0 && geometryUtil.squaredDistance(currentPoint, candidate) > 
-                     geometryUtil.squaredDistance(currentPoint, nextPoint))) {
+                    (orientation == 0 && geometryUtil.squaredDistance(currentX, currentY, candidateX, candidateY) >
+                     geometryUtil.squaredDistance(currentX, currentY, nextX, nextY))) {
                     nextPoint = candidate;
+                    if (trace != null) {
+                        trace.event(HullTrace.CANDIDATE, candidateX, candidateY);
+                    }
+                } else if (trace != null) {
+                    trace.event(HullTrace.REJECT, candidateX, candidateY);
                 }
             }
             
             // Next becomes our new current
             currentPoint = nextPoint;
             
-        } while (!currentPoint.equals(startPoint)); // Continue until we reach our starting point
+        } while (!HullIndices.samePoint(points, currentPoint, startPoint)); // Continue until we reach our starting point
         
-        return convexHull;
+        if (recorder != null) {
+            recorder.count("hull steps", steps);
+            recorder.count("candidate scans", steps * n);
+            recorder.count("orientation tests", orientationTests);
+        }
+        return hull.toArray();
     }
     
     
-    private Point findLeftmostPoint(List<Point> points) {
-        Point leftmost = points.get(0);
+    private int findLeftmostPoint(PointBuffer points) {
+        int leftmost = 0;
         
-        for (Point p : points) {
+        for (int i = 1; i < points.size(); i++) {
             // If p is more to the left than the current leftmost
-            if (p.getX() < leftmost.getX() || 
-                (p.getX() == leftmost.getX() && p.getY() < leftmost.getY())) {
-                leftmost = p;
+            if (points.getX(i) < points.getX(leftmost) || 
+                (points.getX(i) == points.getX(leftmost) && points.getY(i) < points.getY(leftmost))) {
+                leftmost = i;
             }
         }
         
@@ -0,0 +1,167 @@
+package algorithms;
+
+import geometry.GeometryUtil;
+import geometry.IndexSort;
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Implementation of the Merge Hull (divide and conquer) algorithm as a fork-join computation.
+ * The points are sorted lexicographically once, then the sorted range is split recursively;
+ * both halves are hulled in parallel and merged by finding the lower and upper bridges
+ * (common tangents) between them. Ranges below the sequential cutoff are hulled with the
+ * monotone chain on the current thread.
+ * Time complexity: O(n log n) work, with the recursion and the presort spread over the pool.
+ */
+public class MergeHull implements ConvexHullAlgorithm {
+    private static final int DEFAULT_SEQUENTIAL_CUTOFF = 1 << 14;
+
+    private GeometryUtil geometryUtil = new GeometryUtil();
+    private MonotoneChain monotoneChain = new MonotoneChain();
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private int sequentialCutoff = DEFAULT_SEQUENTIAL_CUTOFF;
+
+    @Override
+    public String getName() {
+        return ConvexHullAlgorithms.MERGE_HULL;
+    }
+
+    @Override
+    public String describeSettings() {
+        return "orientation=" + geometryUtil.getOrientationMode();
+    }
+
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Sets the size below which a range is hulled without further splitting.
+     */
+    public void setSequentialCutoff(int sequentialCutoff) {
+        if (sequentialCutoff < 3) {
+            throw new IllegalArgumentException("Sequential cutoff must be at least 3: " + sequentialCutoff);
+        }
+        this.sequentialCutoff = sequentialCutoff;
+    }
+
+    @Override
+    public List<Point> findConvexHull(List<Point> points) {
+        // Basic validations
+        if (points == null || points.size() < 3) {
+            return null; // Not enough points to form a convex hull
+        }
+
+        return HullIndices.toPoints(points, computeHull(PointBuffer.fromList(points)));
+    }
+
+    /**
+     * Computes the convex hull directly on packed coordinates.
+     * @return the hull vertices in counter-clockwise order starting at the lexicographically smallest point,
+     *         or null if fewer than 3 points are given
+     */
+    @Override
+    public PointBuffer findConvexHullPacked(PointBuffer points) {
+        if (points == null || points.size() < 3) {
+            return null;
+        }
+        return points.select(computeHull(points));
+    }
+
+    /**
+     * Merge Hull over a PointBuffer.
+     * @return indices (into points) of the hull vertices
+     */
+    int[] computeHull(PointBuffer points) {
+        int n = points.size();
+        if (n < 3) {
+            return null;
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        IndexSort.parallelSortLexicographic(order, 0, n, points, pool);
+
+        Chains chains = pool.invoke(new HullTask(points, order, 0, n));
+        return monotoneChain.joinChains(points, chains.lower, chains.upper);
+    }
+
+    /**
+     * Lower and upper chain of a sub-hull, both ordered left to right.
+     */
+    private static class Chains {
+        final int[] lower;
+        final int[] upper;
+
+        Chains(int[] lower, int[] upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    private class HullTask extends RecursiveTask<Chains> {
+        private final PointBuffer points;
+        private final int[] sorted;
+        private final int from;
+        private final int to;
+
+        HullTask(PointBuffer points, int[] sorted, int from, int to) {
+            this.points = points;
+            this.sorted = sorted;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Chains compute() {
+            if (to - from <= sequentialCutoff) {
+                return new Chains(monotoneChain.lowerChain(points, sorted, from, to),
+                                  monotoneChain.upperChain(points, sorted, from, to));
+            }
+
+            int mid = (from + to) >>> 1;
+            HullTask left = new HullTask(points, sorted, from, mid);
+            left.fork();
+            Chains right = new HullTask(points, sorted, mid, to).compute();
+            Chains leftChains = left.join();
+
+            return new Chains(bridge(leftChains.lower, right.lower, -1),
+                              bridge(leftChains.upper, right.upper, 1));
+        }
+
+        /**
+         * Merges two chains of lexicographically separated point sets through their common tangent.
+         * @param keptTurn -1 for lower chains (counter-clockwise turns), 1 for upper chains (clockwise turns)
+         */
+        private int[] bridge(int[] left, int[] right, int keptTurn) {
+            int i = left.length - 1;
+            int j = 0;
+            boolean moved = true;
+            while (moved) {
+                moved = false;
+                // Walk left along the left chain while its vertex is not a proper turn towards right[j]
+                while (i > 0 && geometryUtil.orientation(points, left[i - 1], left[i], right[j]) != keptTurn) {
+                    i--;
+                    moved = true;
+                }
+                // Walk right along the right chain while its vertex is not a proper turn from left[i]
+                while (j < right.length - 1
+                       && geometryUtil.orientation(points, left[i], right[j], right[j + 1]) != keptTurn) {
+                    j++;
+                    moved = true;
+                }
+            }
+
+            int[] merged = new int[i + 1 + right.length - j];
+            System.arraycopy(left, 0, merged, 0, i + 1);
+            System.arraycopy(right, j, merged, i + 1, right.length - j);
+            return merged;
+        }
+    }
+}
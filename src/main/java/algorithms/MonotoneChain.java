@@ -0,0 +1,164 @@
+package algorithms;
+
+import geometry.GeometryUtil;
+import geometry.IndexSort;
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.List;
+
+/**
+ * Implementation of Andrew's Monotone Chain algorithm for computing the convex hull of a set of points.
+ * Points are sorted lexicographically (x, then y) and the lower and upper chains are built with a
+ * single array-backed stack. Collinear inputs need no special pre-scan: both chains collapse to the
+ * two extreme points.
+ * Time complexity: O(n log n), dominated by the primitive index sort.
+ */
+public class MonotoneChain implements ConvexHullAlgorithm {
+    private GeometryUtil geometryUtil = new GeometryUtil();
+
+    @Override
+    public String getName() {
+        return ConvexHullAlgorithms.MONOTONE_CHAIN;
+    }
+
+    @Override
+    public String describeSettings() {
+        return "orientation=" + geometryUtil.getOrientationMode();
+    }
+
+    @Override
+    public List<Point> findConvexHull(List<Point> points) {
+        // Basic validations
+        if (points == null || points.size() < 3) {
+            return null; // Not enough points to form a convex hull
+        }
+
+        return HullIndices.toPoints(points, computeHull(PointBuffer.fromList(points)));
+    }
+
+    /**
+     * Computes the convex hull directly on packed coordinates.
+     * @return the hull vertices in counter-clockwise order starting at the lexicographically smallest point,
+     *         or null if fewer than 3 points are given
+     */
+    @Override
+    public PointBuffer findConvexHullPacked(PointBuffer points) {
+        if (points == null || points.size() < 3) {
+            return null;
+        }
+        return points.select(computeHull(points));
+    }
+
+    /**
+     * Monotone chain over a PointBuffer.
+     * @return indices (into points) of the hull vertices
+     */
+    int[] computeHull(PointBuffer points) {
+        int n = points.size();
+        if (n < 3) {
+            return null;
+        }
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        IndexSort.sortLexicographic(order, 0, n, points);
+
+        return hullOfSorted(points, order, 0, n);
+    }
+
+    /**
+     * Builds the hull of the points whose indices are in sorted[from, to),
+     * which must already be in lexicographic order.
+     * @return indices of the hull vertices in counter-clockwise order
+     */
+    int[] hullOfSorted(PointBuffer points, int[] sorted, int from, int to) {
+        int count = to - from;
+        // Lower and upper chains share one stack
+        int[] stack = new int[2 * count];
+        int k = 0;
+
+        // Lower chain: left to right, keeping only counter-clockwise turns
+        for (int i = from; i < to; i++) {
+            int p = sorted[i];
+            while (k >= 2 && geometryUtil.orientation(points, stack[k - 2], stack[k - 1], p) >= 0) {
+                k--;
+            }
+            stack[k++] = p;
+        }
+
+        // Upper chain: right to left, never popping into the lower chain
+        int lowerSize = k + 1;
+        for (int i = to - 2; i >= from; i--) {
+            int p = sorted[i];
+            while (k >= lowerSize && geometryUtil.orientation(points, stack[k - 2], stack[k - 1], p) >= 0) {
+                k--;
+            }
+            stack[k++] = p;
+        }
+
+        // The last point pushed is the starting point again
+        int hullSize = Math.max(k - 1, 1);
+
+        // All points coincide: both chains degenerate to copies of one point
+        if (hullSize == 2 && HullIndices.samePoint(points, stack[0], stack[1])) {
+            hullSize = 1;
+        }
+
+        int[] hull = new int[hullSize];
+        System.arraycopy(stack, 0, hull, 0, hullSize);
+        return hull;
+    }
+
+    /**
+     * Builds the lower chain of sorted[from, to), left to right.
+     */
+    int[] lowerChain(PointBuffer points, int[] sorted, int from, int to) {
+        return chain(points, sorted, from, to, -1);
+    }
+
+    /**
+     * Builds the upper chain of sorted[from, to), left to right.
+     */
+    int[] upperChain(PointBuffer points, int[] sorted, int from, int to) {
+        return chain(points, sorted, from, to, 1);
+    }
+
+    // Keeps only turns whose orientation equals keptTurn (-1 counter-clockwise, 1 clockwise)
+    private int[] chain(PointBuffer points, int[] sorted, int from, int to, int keptTurn) {
+        int[] stack = new int[to - from];
+        int k = 0;
+        for (int i = from; i < to; i++) {
+            int p = sorted[i];
+            while (k >= 2 && geometryUtil.orientation(points, stack[k - 2], stack[k - 1], p) != keptTurn) {
+                k--;
+            }
+            stack[k++] = p;
+        }
+        int[] chain = new int[k];
+        System.arraycopy(stack, 0, chain, 0, k);
+        return chain;
+    }
+
+    /**
+     * Joins a lower and an upper chain (both left to right and sharing their endpoints)
+     * into a counter-clockwise hull starting at the leftmost point.
+     */
+    int[] joinChains(PointBuffer points, int[] lower, int[] upper) {
+        int hullSize = lower.length + Math.max(upper.length - 2, 0);
+        if (hullSize == 2 && HullIndices.samePoint(points, lower[0], lower[1])) {
+            hullSize = 1;
+        }
+        int[] hull = new int[hullSize];
+        int k = 0;
+        for (int i = 0; i < lower.length && k < hullSize; i++) {
+            hull[k++] = lower[i];
+        }
+        for (int i = upper.length - 2; i >= 1; i--) {
+            hull[k++] = upper[i];
+        }
+        return hull;
+    }
+}
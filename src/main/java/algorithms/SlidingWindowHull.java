@@ -0,0 +1,201 @@
+package algorithms;
+
+import geometry.PointBuffer;
+
+import java.util.Arrays;
+
+/**
+ * Convex hull of the most recent points of a stream, bounded by a point count and/or an age.
+ * The window is a two-stack queue, and each stack keeps its hull as an upper and a lower {@link HullChain}:
+ * <ul>
+ *   <li>the back stack receives new points and adds them to its chains;</li>
+ *   <li>the front stack holds older points in chains built by pushing them newest first, so the
+ *       chains hold the hull of every front point and expiring the oldest point undoes the last push.</li>
+ * </ul>
+ * When the front stack runs empty, the back stack is flipped into it. The undo log shares one pair
+ * of chains between all suffixes of the front stack instead of keeping a hull per suffix, so the flip
+ * takes O(n log h) time and O(n) space even when every point is a hull vertex.
+ * A query merges the x-sorted chains of both stacks in O(h).
+ * Insertion and expiry take amortized O(log n).
+ */
+public class SlidingWindowHull {
+    private final int maxPoints;
+    private final long maxAge;
+
+    // Back stack, in arrival order, and the chains of its hull
+    private PointBuffer back = new PointBuffer();
+    private long[] backTimes = new long[16];
+    private final HullChain backUpper = new HullChain(HullChain.UPPER);
+    private final HullChain backLower = new HullChain(HullChain.LOWER);
+
+    // Front stack: entries [frontStart, frontEnd) are live, oldest first, and their hull is in the chains
+    private long[] frontTimes = new long[0];
+    private final HullChain frontUpper = new HullChain(HullChain.UPPER);
+    private final HullChain frontLower = new HullChain(HullChain.LOWER);
+    private int frontStart;
+    private int frontEnd;
+
+    private PointBuffer hull;
+
+    /**
+     * @param maxPoints the largest number of points in the window
+     * @param maxAge    the largest age of a point in the window, in the stream's timestamp unit
+     */
+    public SlidingWindowHull(int maxPoints, long maxAge) {
+        if (maxPoints < 1) {
+            throw new IllegalArgumentException("Window must hold at least one point: " + maxPoints);
+        }
+        if (maxAge < 0) {
+            throw new IllegalArgumentException("Maximum age must be non-negative: " + maxAge);
+        }
+        this.maxPoints = maxPoints;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * @return a window over the last maxPoints points
+     */
+    public static SlidingWindowHull lastPoints(int maxPoints) {
+        return new SlidingWindowHull(maxPoints, Long.MAX_VALUE);
+    }
+
+    /**
+     * @return a window over the points at most maxAge older than the latest timestamp
+     */
+    public static SlidingWindowHull lastDuration(long maxAge) {
+        return new SlidingWindowHull(Integer.MAX_VALUE, maxAge);
+    }
+
+    /**
+     * Adds a point to a count-bounded window.
+     */
+    public void add(double x, double y) {
+        add(x, y, latestTime());
+    }
+
+    /**
+     * Adds a point observed at the given time and expires the points it pushes out of the window.
+     * @param timestamp must not be earlier than the previous point's
+     */
+    public void add(double x, double y, long timestamp) {
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            throw new IllegalArgumentException("Coordinates must not be NaN: (" + x + ", " + y + ")");
+        }
+        if (size() > 0 && timestamp < latestTime()) {
+            throw new IllegalArgumentException("Timestamps must not decrease: " + timestamp + " < " + latestTime());
+        }
+        if (back.size() == backTimes.length) {
+            backTimes = Arrays.copyOf(backTimes, backTimes.length * 2);
+        }
+        // Normalize -0.0, which the chains would otherwise order before 0.0
+        x += 0.0;
+        y += 0.0;
+        backTimes[back.size()] = timestamp;
+        back.add(x, y);
+        boolean changedUpper = backUpper.add(x, y);
+        boolean changedLower = backLower.add(x, y);
+        if (changedUpper || changedLower) {
+            hull = null;
+        }
+
+        while (size() > maxPoints) {
+            removeOldest();
+        }
+        expire(timestamp);
+    }
+
+    /**
+     * Removes the points older than maxAge at time now.
+     */
+    public void expire(long now) {
+        while (size() > 0 && now - oldestTime() > maxAge) {
+            removeOldest();
+        }
+    }
+
+    /**
+     * @return the number of points in the window
+     */
+    public int size() {
+        return frontEnd - frontStart + back.size();
+    }
+
+    /**
+     * @return the hull of the points in the window, counter-clockwise from the lexicographically smallest
+     *         vertex; fewer than 3 points while the window is degenerate. Reused until the hull changes.
+     */
+    public PointBuffer getHull() {
+        if (hull == null) {
+            hull = computeHull();
+        }
+        return hull;
+    }
+
+    private PointBuffer computeHull() {
+        int capacity = frontUpper.size() + backUpper.size() + frontLower.size() + backLower.size();
+        double[] lowerXs = new double[capacity];
+        double[] lowerYs = new double[capacity];
+        double[] upperXs = new double[capacity];
+        double[] upperYs = new double[capacity];
+        int lowerCount = frontLower.union(backLower, lowerXs, lowerYs);
+        int upperCount = frontUpper.union(backUpper, upperXs, upperYs);
+
+        // Lower chain left to right, then upper chain right to left, without repeating shared endpoints
+        PointBuffer result = new PointBuffer(lowerCount + upperCount);
+        for (int i = 0; i < lowerCount; i++) {
+            result.add(lowerXs[i], lowerYs[i]);
+        }
+        for (int i = upperCount - 1; i >= 0; i--) {
+            double x = upperXs[i];
+            double y = upperYs[i];
+            int last = result.size() - 1;
+            if (!(x == result.getX(last) && y == result.getY(last)) && !(x == result.getX(0) && y == result.getY(0))) {
+                result.add(x, y);
+            }
+        }
+        return result;
+    }
+
+    private void removeOldest() {
+        if (frontStart == frontEnd) {
+            flip();
+        }
+        boolean changedUpper = frontUpper.pop();
+        boolean changedLower = frontLower.pop();
+        frontStart++;
+        if (changedUpper || changedLower) {
+            hull = null;
+        }
+    }
+
+    // Moves the back stack to the front stack, pushing its points into the front chains newest first
+    private void flip() {
+        int count = back.size();
+        frontUpper.clear();
+        frontLower.clear();
+        for (int i = count - 1; i >= 0; i--) {
+            frontUpper.push(back.getX(i), back.getY(i));
+            frontLower.push(back.getX(i), back.getY(i));
+        }
+
+        long[] spareTimes = frontTimes;
+        frontTimes = backTimes;
+        frontStart = 0;
+        frontEnd = count;
+        back.clear();
+        backTimes = spareTimes.length >= 16 ? spareTimes : new long[16];
+        backUpper.clear();
+        backLower.clear();
+    }
+
+    private long oldestTime() {
+        return frontStart < frontEnd ? frontTimes[frontStart] : backTimes[0];
+    }
+
+    private long latestTime() {
+        if (!back.isEmpty()) {
+            return backTimes[back.size() - 1];
+        }
+        return frontStart < frontEnd ? frontTimes[frontEnd - 1] : 0;
+    }
+}
@@ -0,0 +1,123 @@
+package batch;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Outcome and timing record of one file in a batch.
+ */
+public final class BatchResult {
+    public static final String CSV_HEADER = "file,status,points,vertices,eliminated,parse_ms,hull_ms,write_ms,total_ms,error";
+
+    /**
+     * Whether the hull of a file was computed and written.
+     */
+    public enum Status {
+        OK,
+        FAILED
+    }
+
+    private final Path file;
+    private final Status status;
+    private final long pointCount;
+    private final int vertexCount;
+    private final long eliminatedCount;
+    private final long parseNanos;
+    private final long hullNanos;
+    private final long writeNanos;
+    private final String error;
+
+    BatchResult(Path file, Status status, long pointCount, int vertexCount, long eliminatedCount,
+                long parseNanos, long hullNanos, long writeNanos, String error) {
+        this.file = file;
+        this.status = status;
+        this.pointCount = pointCount;
+        this.vertexCount = vertexCount;
+        this.eliminatedCount = eliminatedCount;
+        this.parseNanos = parseNanos;
+        this.hullNanos = hullNanos;
+        this.writeNanos = writeNanos;
+        this.error = error;
+    }
+
+    static BatchResult failed(Path file, Throwable error, long parseNanos, long hullNanos) {
+        String message = error.getMessage() != null ? error.getMessage() : "";
+        return new BatchResult(file, Status.FAILED, 0, 0, 0, parseNanos, hullNanos, 0,
+                               error.getClass().getSimpleName() + (message.isEmpty() ? "" : ": " + message));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isSuccess() {
+        return status == Status.OK;
+    }
+
+    public long getPointCount() {
+        return pointCount;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * @return the number of points the pre-filter discarded; 0 without pre-filtering or for cached hulls
+     */
+    public long getEliminatedCount() {
+        return eliminatedCount;
+    }
+
+    /**
+     * @return the time spent reading the file; for files streamed in chunks, reading and hulling together
+     */
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    public long getHullNanos() {
+        return hullNanos;
+    }
+
+    public long getWriteNanos() {
+        return writeNanos;
+    }
+
+    public long getTotalNanos() {
+        return parseNanos + hullNanos + writeNanos;
+    }
+
+    /**
+     * @return a description of the failure, or null if the file succeeded
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return the record as one line matching {@link #CSV_HEADER}
+     */
+    public String toCsvLine() {
+        return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%s",
+                             csvField(file.toString()), status, pointCount, vertexCount, eliminatedCount,
+                             parseNanos / 1e6, hullNanos / 1e6, writeNanos / 1e6, getTotalNanos() / 1e6,
+                             error == null ? "" : csvField(error));
+    }
+
+    private static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public String toString() {
+        return toCsvLine();
+    }
+}
@@ -0,0 +1,440 @@
+package batch;
+
+import algorithms.ChunkedHull;
+import algorithms.ConvexHullAlgorithm;
+import algorithms.ConvexHullAlgorithms;
+import algorithms.FilteredHull;
+import cache.CachingHullAlgorithm;
+import cache.HullCache;
+import geometry.PointBuffer;
+import geometry.io.BinaryPointFile;
+import geometry.io.BinaryPointWriter;
+import geometry.io.PointFileReader;
+import geometry.io.PointFileWriter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Computes the hulls of many point files concurrently in one JVM.
+ * Each file is read, hulled and written by one task, so the parsing of some files overlaps the
+ * hull computation of others. Tasks run on a fixed pool of platform threads, or on virtual
+ * threads when the JDK provides them. Backpressure is applied before a task is submitted:
+ * <ul>
+ *   <li>at most maxOpenFiles files are in flight at once;</li>
+ *   <li>the estimated heap use of the files in flight stays within the memory budget. A file
+ *       estimated to need more than the whole budget is streamed through {@link ChunkedHull}
+ *       with the budget as its heap limit, and runs alone.</li>
+ * </ul>
+ * Every file yields a {@link BatchResult}; a file that fails, for any reason including running
+ * out of memory, is reported as failed and the batch continues.
+ */
+public class BatchRunner {
+    public static final String TEXT_SUFFIX = ".hull.txt";
+    public static final String BINARY_SUFFIX = ".hull" + BinaryPointFile.EXTENSION;
+
+    // Estimated peak heap per point while hulling, as in ChunkedHull
+    private static final int BYTES_PER_POINT = 64;
+    // Conservative average length of a text line, so that text files are not underestimated
+    private static final int MIN_TEXT_BYTES_PER_POINT = 16;
+    private static final int PERMIT_BYTES = 1024;
+    // ChunkedHull needs room for at least 1024 points per chunk
+    private static final long MIN_MEMORY_BUDGET = 1024L * BYTES_PER_POINT;
+
+    private final Supplier<ConvexHullAlgorithm> engineFactory;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int maxOpenFiles = 2 * parallelism;
+    private long memoryBudget = Runtime.getRuntime().maxMemory() / 2;
+    private boolean useVirtualThreads = virtualThreadsAvailable();
+    private Path outputDirectory;
+    private boolean binaryOutput;
+    private int decimals = PointFileWriter.LOSSLESS;
+    private HullCache cache;
+    private boolean prefilter;
+
+    /**
+     * @param engineName the name of a registered engine; see {@link ConvexHullAlgorithms}
+     */
+    public BatchRunner(String engineName) {
+        // Fail now rather than once per file
+        ConvexHullAlgorithms.create(engineName);
+        this.engineFactory = () -> ConvexHullAlgorithms.create(engineName);
+    }
+
+    /**
+     * @param engineFactory creates the engine for each file, since engines are not thread-safe
+     */
+    public BatchRunner(Supplier<ConvexHullAlgorithm> engineFactory) {
+        this.engineFactory = engineFactory;
+    }
+
+    /**
+     * @return true if the running JDK can create virtual threads
+     */
+    public static boolean virtualThreadsAvailable() {
+        return virtualThreadExecutorFactory() != null;
+    }
+
+    /**
+     * Sets the number of platform worker threads; ignored when virtual threads are used.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the largest number of files being read, hulled or written at the same time.
+     */
+    public void setMaxOpenFiles(int maxOpenFiles) {
+        if (maxOpenFiles < 1) {
+            throw new IllegalArgumentException("Maximum open files must be positive: " + maxOpenFiles);
+        }
+        this.maxOpenFiles = maxOpenFiles;
+    }
+
+    public int getMaxOpenFiles() {
+        return maxOpenFiles;
+    }
+
+    /**
+     * Sets the heap, in bytes, that the files in flight may use together.
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget < MIN_MEMORY_BUDGET) {
+            throw new IllegalArgumentException("Memory budget must be at least " + MIN_MEMORY_BUDGET + " bytes: "
+                                               + memoryBudget);
+        }
+        this.memoryBudget = memoryBudget;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Runs tasks on virtual threads instead of a fixed pool.
+     * @throws UnsupportedOperationException if the JDK has no virtual threads
+     */
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        if (useVirtualThreads && !virtualThreadsAvailable()) {
+            throw new UnsupportedOperationException("Virtual threads need JDK 21 or later");
+        }
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    public boolean isUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    /**
+     * Sets the directory that receives one hull file per input, named after the input file with
+     * {@link #TEXT_SUFFIX} or {@link #BINARY_SUFFIX}; null computes the hulls without writing them.
+     */
+    public void setOutputDirectory(Path outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    public Path getOutputDirectory() {
+        return outputDirectory;
+    }
+
+    /**
+     * Writes hull files in the binary point format instead of text.
+     */
+    public void setBinaryOutput(boolean binaryOutput) {
+        this.binaryOutput = binaryOutput;
+    }
+
+    public boolean isBinaryOutput() {
+        return binaryOutput;
+    }
+
+    /**
+     * Rounds text hull files to the given number of decimals, from 0 to 9; the default,
+     * {@link PointFileWriter#LOSSLESS}, writes every coordinate exactly.
+     */
+    public void setDecimals(int decimals) {
+        if (decimals != PointFileWriter.LOSSLESS && (decimals < 0 || decimals > 9)) {
+            throw new IllegalArgumentException("Decimals must be between 0 and 9: " + decimals);
+        }
+        this.decimals = decimals;
+    }
+
+    public int getDecimals() {
+        return decimals;
+    }
+
+    /**
+     * Looks hulls up in a cache shared by all workers, so repeated inputs are not recomputed;
+     * null disables caching. Files streamed in chunks are not cached.
+     */
+    public void setCache(HullCache cache) {
+        this.cache = cache;
+    }
+
+    public HullCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Runs an Akl–Toussaint pre-filter in front of the engine, discarding interior points first.
+     */
+    public void setPrefilter(boolean prefilter) {
+        this.prefilter = prefilter;
+    }
+
+    public boolean isPrefilter() {
+        return prefilter;
+    }
+
+    /**
+     * @return the regular files directly inside a directory, sorted by name
+     */
+    public static List<Path> listDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Reads a manifest with one file path per line; blank lines and lines starting with '#' are
+     * skipped, and relative paths are resolved against the manifest's directory.
+     */
+    public static List<Path> readManifest(Path manifest) throws IOException {
+        Path base = manifest.toAbsolutePath().getParent();
+        List<Path> files = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    files.add(base.resolve(line));
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Processes every file and waits for all of them to finish.
+     * @param listener receives each file's result as soon as it is done, from the worker threads;
+     *                 it must be thread-safe
+     */
+    public BatchSummary run(Iterable<Path> files, Consumer<BatchResult> listener) throws InterruptedException {
+        if (outputDirectory != null) {
+            try {
+                Files.createDirectories(outputDirectory);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot create output directory " + outputDirectory, e);
+            }
+        }
+
+        long start = System.nanoTime();
+        int totalPermits = (int) Math.min(memoryBudget / PERMIT_BYTES, Integer.MAX_VALUE);
+        Semaphore openFiles = new Semaphore(maxOpenFiles);
+        // Fair, so that a large file waiting for memory is not overtaken forever by small ones
+        Semaphore memory = new Semaphore(totalPermits, true);
+        AtomicInteger fileCount = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+        AtomicLong pointCount = new AtomicLong();
+        Set<String> outputNames = ConcurrentHashMap.newKeySet();
+
+        Consumer<BatchResult> recorder = result -> {
+            fileCount.incrementAndGet();
+            if (result.isSuccess()) {
+                pointCount.addAndGet(result.getPointCount());
+            } else {
+                failedCount.incrementAndGet();
+            }
+            try {
+                listener.accept(result);
+            } catch (RuntimeException e) {
+                System.err.println("Batch listener failed for " + result.getFile() + ": " + e);
+            }
+        };
+
+        ExecutorService executor = createExecutor();
+        try {
+            for (Path file : files) {
+                long cost;
+                try {
+                    cost = estimateHeapBytes(file);
+                } catch (IOException | RuntimeException e) {
+                    recorder.accept(BatchResult.failed(file, e, 0, 0));
+                    continue;
+                }
+                boolean streamed = cost > memoryBudget;
+                int permits = (int) Math.max(1, Math.min((cost + PERMIT_BYTES - 1) / PERMIT_BYTES, totalPermits));
+
+                openFiles.acquire();
+                try {
+                    memory.acquire(permits);
+                } catch (InterruptedException e) {
+                    openFiles.release();
+                    throw e;
+                }
+                try {
+                    executor.execute(() -> {
+                        BatchResult result;
+                        try {
+                            result = process(file, streamed, outputNames);
+                        } finally {
+                            memory.release(permits);
+                            openFiles.release();
+                        }
+                        recorder.accept(result);
+                    });
+                } catch (RejectedExecutionException | OutOfMemoryError e) {
+                    // The task will never run to release its permits, e.g. because no thread could be started
+                    memory.release(permits);
+                    openFiles.release();
+                    recorder.accept(BatchResult.failed(file, e, 0, 0));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+            // Keep waiting; files can take arbitrarily long
+        }
+        return new BatchSummary(fileCount.get(), failedCount.get(), pointCount.get(), System.nanoTime() - start);
+    }
+
+    private BatchResult process(Path file, boolean streamed, Set<String> outputNames) {
+        long parseNanos = 0;
+        long hullNanos = 0;
+        try {
+            Path output = outputPath(file, outputNames);
+            ConvexHullAlgorithm engine = engineFactory.get();
+            FilteredHull filter = null;
+            if (prefilter) {
+                filter = FilteredHull.withAklToussaint(engine);
+                engine = filter;
+            }
+
+            long pointCount;
+            PointBuffer hull;
+            long start = System.nanoTime();
+            if (streamed) {
+                ChunkedHull chunkedHull = new ChunkedHull(engine);
+                chunkedHull.setHeapBudget(memoryBudget);
+                hull = chunkedHull.computeHull(file);
+                pointCount = chunkedHull.getLastPointCount();
+                parseNanos = System.nanoTime() - start;
+            } else {
+                PointBuffer points = isBinary(file) ? BinaryPointFile.readAll(file) : PointFileReader.readAll(file);
+                pointCount = points.size();
+                long parsed = System.nanoTime();
+                parseNanos = parsed - start;
+                ConvexHullAlgorithm cached = cache != null ? new CachingHullAlgorithm(engine, cache) : engine;
+                hull = cached.findConvexHullPacked(points);
+                hullNanos = System.nanoTime() - parsed;
+            }
+            if (hull == null) {
+                hull = new PointBuffer(0);
+            }
+
+            long writeStart = System.nanoTime();
+            if (output != null) {
+                write(output, hull);
+            }
+            long eliminated = filter != null ? filter.getTotalEliminatedCount() : 0;
+            return new BatchResult(file, BatchResult.Status.OK, pointCount, hull.size(), eliminated,
+                                   parseNanos, hullNanos, System.nanoTime() - writeStart, null);
+        } catch (Exception | OutOfMemoryError | StackOverflowError e) {
+            return BatchResult.failed(file, e, parseNanos, hullNanos);
+        }
+    }
+
+    private Path outputPath(Path file, Set<String> outputNames) throws IOException {
+        if (outputDirectory == null) {
+            return null;
+        }
+        String name = file.getFileName() + (binaryOutput ? BINARY_SUFFIX : TEXT_SUFFIX);
+        if (!outputNames.add(name)) {
+            throw new IOException("Another input in the batch has the same output file " + name);
+        }
+        return outputDirectory.resolve(name);
+    }
+
+    private void write(Path output, PointBuffer hull) throws IOException {
+        if (binaryOutput) {
+            BinaryPointWriter.write(output, hull);
+        } else {
+            try (PointFileWriter writer = new PointFileWriter(output, decimals)) {
+                writer.addAll(hull);
+            }
+        }
+    }
+
+    /**
+     * @return the estimated heap needed to read and hull the file in one piece
+     */
+    static long estimateHeapBytes(Path file) throws IOException {
+        long size = Files.size(file);
+        long points = isBinary(file)
+            ? Math.max(0, size - BinaryPointFile.HEADER_SIZE) / (2 * Double.BYTES)
+            : size / MIN_TEXT_BYTES_PER_POINT + 1;
+        return points * BYTES_PER_POINT;
+    }
+
+    private static boolean isBinary(Path file) {
+        return file.getFileName().toString().endsWith(BinaryPointFile.EXTENSION);
+    }
+
+    private ExecutorService createExecutor() {
+        if (useVirtualThreads) {
+            try {
+                return (ExecutorService) virtualThreadExecutorFactory().invoke(null);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create a virtual thread executor", e);
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = task -> {
+            Thread thread = new Thread(task, "hull-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    // Looked up reflectively so the code still compiles and runs on JDK 11; JDK 19 and 20 only have them as a preview
+    private static Method virtualThreadExecutorFactory() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
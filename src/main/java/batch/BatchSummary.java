@@ -0,0 +1,53 @@
+package batch;
+
+import java.util.Locale;
+
+/**
+ * Totals of a completed batch.
+ */
+public final class BatchSummary {
+    private final int fileCount;
+    private final int failedCount;
+    private final long pointCount;
+    private final long elapsedNanos;
+
+    BatchSummary(int fileCount, int failedCount, long pointCount, long elapsedNanos) {
+        this.fileCount = fileCount;
+        this.failedCount = failedCount;
+        this.pointCount = pointCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getFileCount() {
+        return fileCount;
+    }
+
+    public int getSucceededCount() {
+        return fileCount - failedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * @return the number of points read from the files that succeeded
+     */
+    public long getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * @return the wall-clock time of the whole batch
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        double seconds = elapsedNanos / 1e9;
+        return String.format(Locale.ROOT, "%d files (%d failed), %d points in %.3f s (%.1f files/s)",
+                             fileCount, failedCount, pointCount, seconds, seconds > 0 ? fileCount / seconds : 0.0);
+    }
+}
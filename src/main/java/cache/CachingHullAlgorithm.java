@@ -0,0 +1,123 @@
+package cache;
+
+import algorithms.ConvexHullAlgorithm;
+import geometry.Point;
+import geometry.PointBuffer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engine decorator that looks results up in a {@link HullCache} before computing them.
+ * Inputs with fewer than 3 points are passed straight through. Like the engines it wraps, an
+ * instance is not thread-safe, but any number of instances may share one cache.
+ */
+public class CachingHullAlgorithm implements ConvexHullAlgorithm {
+    private final ConvexHullAlgorithm engine;
+    private final HullCache cache;
+    private final String extraOptions;
+    private boolean lastHit;
+
+    /**
+     * Keys results by the engine's name and {@link ConvexHullAlgorithm#describeSettings() settings},
+     * read at every lookup so that later changes to the engine's configuration are respected.
+     */
+    public CachingHullAlgorithm(ConvexHullAlgorithm engine, HullCache cache) {
+        this(engine, cache, "");
+    }
+
+    /**
+     * @param extraOptions describes settings outside the engine that can change its result; added to
+     *                     the engine's own settings in the cache key
+     */
+    public CachingHullAlgorithm(ConvexHullAlgorithm engine, HullCache cache, String extraOptions) {
+        this.engine = engine;
+        this.cache = cache;
+        this.extraOptions = extraOptions;
+    }
+
+    @Override
+    public String getName() {
+        return engine.getName();
+    }
+
+    @Override
+    public String describeSettings() {
+        String settings = engine.describeSettings();
+        return extraOptions.isEmpty() ? settings : settings + ";" + extraOptions;
+    }
+
+    public ConvexHullAlgorithm getEngine() {
+        return engine;
+    }
+
+    public HullCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return true if the most recent call was answered from the cache
+     */
+    public boolean wasLastHit() {
+        return lastHit;
+    }
+
+    @Override
+    public PointBuffer findConvexHullPacked(PointBuffer points) {
+        lastHit = false;
+        if (points == null || points.size() < 3) {
+            return engine.findConvexHullPacked(points);
+        }
+        HullCacheKey key = HullCacheKey.of(points, engine.getName(), describeSettings());
+        PointBuffer hull = cache.get(key);
+        if (hull != null) {
+            lastHit = true;
+            return hull;
+        }
+        hull = engine.findConvexHullPacked(points);
+        if (hull != null) {
+            cache.put(key, hull);
+        }
+        return hull;
+    }
+
+    /**
+     * Computes the hull through the packed path, then maps the vertices back to instances
+     * from the input list as the interface requires.
+     */
+    @Override
+    public List<Point> findConvexHull(List<Point> points) {
+        if (points == null || points.size() < 3) {
+            lastHit = false;
+            return engine.findConvexHull(points);
+        }
+        PointBuffer hull = findConvexHullPacked(PointBuffer.fromList(points));
+        if (hull == null) {
+            return null;
+        }
+
+        // Vertex -> first input instance with the same coordinates
+        List<Point> vertices = hull.toList();
+        Map<Point, Point> instances = new HashMap<>();
+        for (Point vertex : vertices) {
+            instances.put(vertex, null);
+        }
+        int remaining = instances.size();
+        for (Point p : points) {
+            if (instances.containsKey(p) && instances.get(p) == null) {
+                instances.put(p, p);
+                if (--remaining == 0) {
+                    break;
+                }
+            }
+        }
+        List<Point> result = new ArrayList<>(vertices.size());
+        for (Point vertex : vertices) {
+            Point instance = instances.get(vertex);
+            result.add(instance != null ? instance : vertex);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,336 @@
+package cache;
+
+import geometry.PointBuffer;
+import geometry.io.BinaryPointFile;
+import geometry.io.BinaryPointWriter;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Two-tier cache of hull results, safe for use from several threads.
+ * <ul>
+ *   <li>The memory tier is an LRU map bounded by the bytes of the hulls it holds.</li>
+ *   <li>The optional disk tier keeps one binary point file per entry in a directory, so results
+ *       survive restarts. It is bounded by total file size, evicting the least recently used files
+ *       by modification time. Entries are written to a temporary file and moved into place, so
+ *       readers never see a partial entry; unreadable entries are treated as misses and deleted.</li>
+ * </ul>
+ * A disk hit is promoted to the memory tier. Hit and miss counters are kept for sizing.
+ */
+public class HullCache {
+    // Estimated heap per memory entry besides the coordinates: key, map node, buffer and arrays
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+    private static final String ENTRY_SUFFIX = BinaryPointFile.EXTENSION;
+
+    private final long maxMemoryBytes;
+    private final Path directory;
+    private final long maxDiskBytes;
+
+    private final LinkedHashMap<HullCacheKey, PointBuffer> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private final AtomicLong diskBytes = new AtomicLong();
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder memoryEvictions = new LongAdder();
+    private final LongAdder diskEvictions = new LongAdder();
+    private final LongAdder diskErrors = new LongAdder();
+
+    /**
+     * Creates a memory-only cache.
+     */
+    public HullCache(long maxMemoryBytes) {
+        if (maxMemoryBytes < 0) {
+            throw new IllegalArgumentException("Memory limit must be non-negative: " + maxMemoryBytes);
+        }
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.directory = null;
+        this.maxDiskBytes = 0;
+    }
+
+    /**
+     * Creates a cache with a disk tier in the given directory, which is created if needed and may
+     * already hold entries from earlier runs.
+     */
+    public HullCache(long maxMemoryBytes, Path directory, long maxDiskBytes) throws IOException {
+        if (maxMemoryBytes < 0 || maxDiskBytes < 0) {
+            throw new IllegalArgumentException("Limits must be non-negative: " + maxMemoryBytes + ", " + maxDiskBytes);
+        }
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.directory = Files.createDirectories(directory);
+        this.maxDiskBytes = maxDiskBytes;
+        long existing = 0;
+        for (Path entry : listEntries()) {
+            existing += Files.size(entry);
+        }
+        diskBytes.set(existing);
+        evictDisk();
+    }
+
+    /**
+     * @return a copy of the cached hull, or null if neither tier has it
+     */
+    public PointBuffer get(HullCacheKey key) {
+        synchronized (memory) {
+            PointBuffer hull = memory.get(key);
+            if (hull != null) {
+                memoryHits.increment();
+                return hull.copy();
+            }
+        }
+
+        if (directory != null) {
+            Path entry = directory.resolve(key.fileName() + ENTRY_SUFFIX);
+            if (Files.exists(entry)) {
+                try {
+                    PointBuffer hull = BinaryPointFile.readAll(entry);
+                    Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+                    diskHits.increment();
+                    putInMemory(key, hull);
+                    return hull.copy();
+                } catch (IOException | RuntimeException e) {
+                    diskErrors.increment();
+                    deleteEntry(entry);
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a hull in both tiers. The buffer is copied.
+     */
+    public void put(HullCacheKey key, PointBuffer hull) {
+        PointBuffer copy = hull.copy();
+        putInMemory(key, copy);
+        if (directory != null) {
+            putOnDisk(key, copy);
+        }
+    }
+
+    private void putInMemory(HullCacheKey key, PointBuffer hull) {
+        long bytes = entryBytes(hull);
+        if (bytes > maxMemoryBytes) {
+            return;
+        }
+        synchronized (memory) {
+            PointBuffer previous = memory.put(key, hull);
+            if (previous != null) {
+                memoryBytes -= entryBytes(previous);
+            }
+            memoryBytes += bytes;
+            Iterator<PointBuffer> eldest = memory.values().iterator();
+            while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+                memoryBytes -= entryBytes(eldest.next());
+                eldest.remove();
+                memoryEvictions.increment();
+            }
+        }
+    }
+
+    private void putOnDisk(HullCacheKey key, PointBuffer hull) {
+        Path entry = directory.resolve(key.fileName() + ENTRY_SUFFIX);
+        if (Files.exists(entry)) {
+            return;
+        }
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, key.fileName(), ".tmp");
+            BinaryPointWriter.write(temp, hull);
+            long size = Files.size(temp);
+            if (size > maxDiskBytes) {
+                Files.delete(temp);
+                return;
+            }
+            try {
+                Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (diskBytes.addAndGet(size) > maxDiskBytes) {
+                evictDisk();
+            }
+        } catch (IOException e) {
+            diskErrors.increment();
+            if (temp != null) {
+                deleteEntry(temp);
+            }
+        }
+    }
+
+    // Deletes the least recently used entries until the disk tier is within its limit
+    private synchronized void evictDisk() throws IOException {
+        if (diskBytes.get() <= maxDiskBytes) {
+            return;
+        }
+        // Recount from the directory, which also corrects for entries written twice by racing threads
+        Map<Path, FileTime> times = new HashMap<>();
+        long total = 0;
+        for (Path entry : listEntries()) {
+            times.put(entry, Files.getLastModifiedTime(entry));
+            total += Files.size(entry);
+        }
+        diskBytes.set(total);
+
+        List<Path> oldestFirst = new ArrayList<>(times.keySet());
+        oldestFirst.sort(Comparator.comparing(times::get));
+        for (Path entry : oldestFirst) {
+            if (diskBytes.get() <= maxDiskBytes) {
+                break;
+            }
+            long size = Files.size(entry);
+            if (Files.deleteIfExists(entry)) {
+                diskBytes.addAndGet(-size);
+                diskEvictions.increment();
+            }
+        }
+    }
+
+    private void deleteEntry(Path entry) {
+        try {
+            long size = Files.size(entry);
+            if (Files.deleteIfExists(entry) && entry.toString().endsWith(ENTRY_SUFFIX)) {
+                diskBytes.addAndGet(-size);
+            }
+        } catch (IOException e) {
+            // Already gone or not deletable; either way it is not served again
+        }
+    }
+
+    private List<Path> listEntries() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(ENTRY_SUFFIX)).collect(Collectors.toList());
+        }
+    }
+
+    private static long entryBytes(PointBuffer hull) {
+        return 2L * Double.BYTES * hull.size() + ENTRY_OVERHEAD_BYTES;
+    }
+
+    /**
+     * Empties the memory tier; the disk tier is kept.
+     */
+    public void clearMemory() {
+        synchronized (memory) {
+            memory.clear();
+            memoryBytes = 0;
+        }
+    }
+
+    /**
+     * Empties both tiers.
+     */
+    public void clear() throws IOException {
+        clearMemory();
+        if (directory != null) {
+            for (Path entry : listEntries()) {
+                deleteEntry(entry);
+            }
+        }
+    }
+
+    public long getMemoryHits() {
+        return memoryHits.sum();
+    }
+
+    public long getDiskHits() {
+        return diskHits.sum();
+    }
+
+    public long getHits() {
+        return getMemoryHits() + getDiskHits();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the fraction of lookups served by either tier, or 0 before the first lookup
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    public long getMemoryEvictions() {
+        return memoryEvictions.sum();
+    }
+
+    public long getDiskEvictions() {
+        return diskEvictions.sum();
+    }
+
+    /**
+     * @return the number of disk entries that could not be read or written
+     */
+    public long getDiskErrors() {
+        return diskErrors.sum();
+    }
+
+    public int getMemoryEntryCount() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    /**
+     * @return the estimated heap held by the memory tier
+     */
+    public long getMemoryBytes() {
+        synchronized (memory) {
+            return memoryBytes;
+        }
+    }
+
+    /**
+     * @return the directory of the disk tier, or null for a memory-only cache
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return the total size of the disk tier's files, 0 without a disk tier
+     */
+    public long getDiskBytes() {
+        return diskBytes.get();
+    }
+
+    public void resetStatistics() {
+        memoryHits.reset();
+        diskHits.reset();
+        misses.reset();
+        memoryEvictions.reset();
+        diskEvictions.reset();
+        diskErrors.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "cache: %d memory hits, %d disk hits, %d misses (%.1f%% hit rate), "
+                                          + "%d entries / %d bytes in memory, %d bytes on disk",
+                             getMemoryHits(), getDiskHits(), getMisses(), 100 * getHitRate(),
+                             getMemoryEntryCount(), getMemoryBytes(), getDiskBytes());
+    }
+}
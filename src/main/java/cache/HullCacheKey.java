@@ -0,0 +1,115 @@
+package cache;
+
+import geometry.PointBuffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Identifies a hull result by the content of its input and the engine that computed it.
+ * The content hash is a 128-bit non-cryptographic hash over the raw bits of every coordinate,
+ * in input order, computed in one pass at a few hundred million points per second.
+ * Engines that are configured differently must be given different option strings.
+ */
+public final class HullCacheKey {
+    private static final long P1 = 0x9E3779B185EBCA87L;
+    private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long P3 = 0x165667B19E3779F9L;
+
+    private final long contentHigh;
+    private final long contentLow;
+    private final int pointCount;
+    private final String engine;
+    private final String options;
+
+    private HullCacheKey(long contentHigh, long contentLow, int pointCount, String engine, String options) {
+        this.contentHigh = contentHigh;
+        this.contentLow = contentLow;
+        this.pointCount = pointCount;
+        this.engine = engine;
+        this.options = options;
+    }
+
+    /**
+     * @param engine  the engine's name
+     * @param options a description of every engine setting that can change the result; may be empty
+     */
+    public static HullCacheKey of(PointBuffer points, String engine, String options) {
+        Objects.requireNonNull(engine, "engine");
+        Objects.requireNonNull(options, "options");
+        double[] xs = points.xArray();
+        double[] ys = points.yArray();
+        int offset = points.offset();
+        int n = points.size();
+
+        // Two independent lanes, one per column, in the style of xxHash64 rounds
+        long laneX = P1;
+        long laneY = P2;
+        for (int i = offset; i < offset + n; i++) {
+            laneX = Long.rotateLeft(laneX + Double.doubleToLongBits(xs[i]) * P2, 31) * P1;
+            laneY = Long.rotateLeft(laneY + Double.doubleToLongBits(ys[i]) * P1, 29) * P3;
+        }
+        long high = avalanche(laneX ^ Long.rotateLeft(laneY, 17) ^ n);
+        long low = avalanche(laneY + laneX * P3 + ((long) n << 32));
+        return new HullCacheKey(high, low, n, engine, options);
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+    public String getOptions() {
+        return options;
+    }
+
+    /**
+     * @return a 32-digit hex name for the on-disk entry, covering the content, engine and options
+     */
+    String fileName() {
+        long salt = P3;
+        for (byte b : (engine + '\0' + options).getBytes(StandardCharsets.UTF_8)) {
+            salt = Long.rotateLeft(salt + b * P2, 31) * P1;
+        }
+        salt = avalanche(salt);
+        return String.format(Locale.ROOT, "%016x%016x", contentHigh ^ salt, avalanche(contentLow + salt));
+    }
+
+    // xxHash64 finalizer
+    private static long avalanche(long h) {
+        h ^= h >>> 33;
+        h *= P2;
+        h ^= h >>> 29;
+        h *= P3;
+        h ^= h >>> 32;
+        return h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HullCacheKey)) {
+            return false;
+        }
+        HullCacheKey other = (HullCacheKey) o;
+        return contentHigh == other.contentHigh && contentLow == other.contentLow && pointCount == other.pointCount
+               && engine.equals(other.engine) && options.equals(other.options);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(contentHigh) * 31 + Long.hashCode(contentLow);
+    }
+
+    @Override
+    public String toString() {
+        return engine + (options.isEmpty() ? "" : " [" + options + "]") + " on " + pointCount + " points "
+               + String.format(Locale.ROOT, "%016x%016x", contentHigh, contentLow);
+    }
+}
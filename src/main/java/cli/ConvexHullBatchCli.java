@@ -0,0 +1,248 @@
+package cli;
+
+import algorithms.ConvexHullAlgorithms;
+import batch.BatchResult;
+import batch.BatchRunner;
+import batch.BatchSummary;
+import cache.HullCache;
+import metrics.JmxHullMetrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Command-line front end of {@link BatchRunner}: computes the hulls of every file in a directory
+ * or manifest and writes one CSV timing record per file.
+ */
+public class ConvexHullBatchCli {
+    private static final String USAGE =
+        "Usage: ConvexHullBatchCli [options] <directory | manifest file>\n"
+        + "Computes the convex hull of every point file in a directory, or of every file listed in a\n"
+        + "manifest (one path per line, relative to the manifest).\n"
+        + "Options:\n"
+        + "  -e, --engine <name>        engine to use (default: " + ConvexHullAlgorithms.MONOTONE_CHAIN + ")\n"
+        + "  -o, --output <directory>   write one hull file per input into this directory\n"
+        + "  -b, --binary               write hull files in the binary point format\n"
+        + "  -d, --decimals <n>         round text hull files to n decimals (0-9; default: every digit)\n"
+        + "  -p, --prefilter            discard interior points with an Akl-Toussaint filter before the engine\n"
+        + "  -r, --report <file>        write the CSV timing records to a file instead of standard output\n"
+        + "  -j, --parallelism <n>      platform worker threads (default: available processors)\n"
+        + "      --max-open <n>         files in flight at once (default: 2 x parallelism)\n"
+        + "      --memory <MB>          heap the files in flight may use together (default: half the heap)\n"
+        + "      --threads <kind>       'virtual' or 'platform' (default: virtual when the JDK supports it)\n"
+        + "      --cache <directory>    cache hulls by input content in this directory, across runs\n"
+        + "      --cache-memory <MB>    memory tier of the cache (default 64)\n"
+        + "      --jmx                  publish metric totals as the MXBean " + JmxHullMetrics.OBJECT_NAME + " while running\n"
+        + "  -q, --quiet                do not print the summary\n"
+        + "  -h, --help                 print this help and exit\n";
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        String engine = ConvexHullAlgorithms.MONOTONE_CHAIN;
+        Path input = null;
+        Path output = null;
+        Path report = null;
+        boolean binary = false;
+        Integer decimals = null;
+        boolean prefilter = false;
+        boolean jmx = false;
+        boolean quiet = false;
+        Integer parallelism = null;
+        Integer maxOpen = null;
+        Long memoryMegabytes = null;
+        String threads = null;
+        Path cacheDirectory = null;
+        long cacheMemoryMegabytes = 64;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "-e":
+                    case "--engine":
+                        engine = ConvexHullCli.resolveEngine(value(args, ++i, arg));
+                        break;
+                    case "-o":
+                    case "--output":
+                        output = Paths.get(value(args, ++i, arg));
+                        break;
+                    case "-b":
+                    case "--binary":
+                        binary = true;
+                        break;
+                    case "-d":
+                    case "--decimals":
+                        decimals = intValue(args, ++i, arg);
+                        if (decimals < 0 || decimals > 9) {
+                            throw new IllegalArgumentException("Decimals must be between 0 and 9: " + decimals);
+                        }
+                        break;
+                    case "-p":
+                    case "--prefilter":
+                        prefilter = true;
+                        break;
+                    case "-r":
+                    case "--report":
+                        report = Paths.get(value(args, ++i, arg));
+                        break;
+                    case "-j":
+                    case "--parallelism":
+                        parallelism = intValue(args, ++i, arg);
+                        if (parallelism < 1) {
+                            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+                        }
+                        break;
+                    case "--max-open":
+                        maxOpen = intValue(args, ++i, arg);
+                        if (maxOpen < 1) {
+                            throw new IllegalArgumentException("Open file limit must be positive: " + maxOpen);
+                        }
+                        break;
+                    case "--memory":
+                        memoryMegabytes = longValue(args, ++i, arg);
+                        if (memoryMegabytes < 1) {
+                            throw new IllegalArgumentException("Memory budget must be positive: " + memoryMegabytes);
+                        }
+                        break;
+                    case "--threads":
+                        threads = value(args, ++i, arg);
+                        if (!threads.equals("virtual") && !threads.equals("platform")) {
+                            throw new IllegalArgumentException("Thread kind must be 'virtual' or 'platform': " + threads);
+                        }
+                        break;
+                    case "--cache":
+                        cacheDirectory = Paths.get(value(args, ++i, arg));
+                        break;
+                    case "--cache-memory":
+                        cacheMemoryMegabytes = longValue(args, ++i, arg);
+                        break;
+                    case "--jmx":
+                        jmx = true;
+                        break;
+                    case "-q":
+                    case "--quiet":
+                        quiet = true;
+                        break;
+                    case "-h":
+                    case "--help":
+                        out.print(USAGE);
+                        return ConvexHullCli.EXIT_OK;
+                    default:
+                        if (arg.startsWith("-") && arg.length() > 1) {
+                            throw new IllegalArgumentException("Unknown option: " + arg);
+                        }
+                        if (input != null) {
+                            throw new IllegalArgumentException("Only one directory or manifest is supported: " + arg);
+                        }
+                        input = Paths.get(arg);
+                }
+            }
+            if (input == null) {
+                throw new IllegalArgumentException("Missing directory or manifest");
+            }
+
+            BatchRunner runner = new BatchRunner(engine);
+            runner.setOutputDirectory(output);
+            runner.setBinaryOutput(binary);
+            if (decimals != null) {
+                runner.setDecimals(decimals);
+            }
+            runner.setPrefilter(prefilter);
+            if (parallelism != null) {
+                runner.setParallelism(parallelism);
+                runner.setMaxOpenFiles(2 * parallelism);
+            }
+            if (maxOpen != null) {
+                runner.setMaxOpenFiles(maxOpen);
+            }
+            if (memoryMegabytes != null) {
+                runner.setMemoryBudget(memoryMegabytes * 1024 * 1024);
+            }
+            if (threads != null) {
+                runner.setUseVirtualThreads(threads.equals("virtual"));
+            }
+            if (cacheDirectory != null) {
+                try {
+                    runner.setCache(new HullCache(cacheMemoryMegabytes * 1024 * 1024, cacheDirectory, Long.MAX_VALUE));
+                } catch (IOException e) {
+                    err.println("Error: cannot open cache directory " + cacheDirectory + ": " + e.getMessage());
+                    return ConvexHullCli.EXIT_FAILURE;
+                }
+            }
+            if (!jmx) {
+                return execute(runner, input, report, quiet, out, err);
+            }
+            JmxHullMetrics.register();
+            try {
+                return execute(runner, input, report, quiet, out, err);
+            } finally {
+                JmxHullMetrics.unregister();
+            }
+        } catch (IllegalArgumentException | UnsupportedOperationException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return ConvexHullCli.EXIT_USAGE;
+        }
+    }
+
+    private static int execute(BatchRunner runner, Path input, Path report, boolean quiet,
+                               PrintStream out, PrintStream err) {
+        try {
+            List<Path> files = Files.isDirectory(input) ? BatchRunner.listDirectory(input) : BatchRunner.readManifest(input);
+            PrintWriter records = report != null
+                ? new PrintWriter(Files.newBufferedWriter(report, StandardCharsets.UTF_8))
+                : new PrintWriter(out);
+            BatchSummary summary;
+            try {
+                records.println(BatchResult.CSV_HEADER);
+                summary = runner.run(files, result -> {
+                    synchronized (records) {
+                        records.println(result.toCsvLine());
+                    }
+                });
+            } finally {
+                // Standard output stays open
+                if (report != null) {
+                    records.close();
+                } else {
+                    records.flush();
+                }
+            }
+            if (!quiet) {
+                err.println(summary + (runner.isUseVirtualThreads() ? " on virtual threads" : ""));
+                if (runner.getCache() != null) {
+                    err.println(runner.getCache());
+                }
+            }
+            return summary.getFailedCount() == 0 ? ConvexHullCli.EXIT_OK : ConvexHullCli.EXIT_FAILURE;
+        } catch (IOException e) {
+            err.println("Error: " + e.getMessage());
+            return ConvexHullCli.EXIT_FAILURE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            err.println("Interrupted");
+            return ConvexHullCli.EXIT_FAILURE;
+        }
+    }
+
+    private static String value(String[] args, int index, String option) {
+        return ConvexHullCli.Options.value(args, index, option);
+    }
+
+    private static int intValue(String[] args, int index, String option) {
+        return ConvexHullCli.Options.intValue(args, index, option);
+    }
+
+    private static long longValue(String[] args, int index, String option) {
+        return ConvexHullCli.Options.longValue(args, index, option);
+    }
+}
@@ -0,0 +1,351 @@
+package cli;
+
+import algorithms.ChunkedHull;
+import algorithms.ConvexHullAlgorithm;
+import algorithms.ConvexHullAlgorithms;
+import algorithms.FilteredHull;
+import geometry.PointBuffer;
+import geometry.io.BinaryPointFile;
+import geometry.io.BinaryPointWriter;
+import geometry.io.PointFileReader;
+import geometry.io.PointFileWriter;
+import metrics.HullMetrics;
+import metrics.HullMetricsListener;
+import metrics.JmxHullMetrics;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Headless command-line entry point: computes the hull of a point file without loading JavaFX.
+ * Hull vertices go to standard output or to a file, and timings and counts go to standard error,
+ * so the command can sit in a pipeline.
+ */
+public class ConvexHullCli {
+    static final int EXIT_OK = 0;
+    static final int EXIT_FAILURE = 1;
+    static final int EXIT_USAGE = 2;
+
+    private static final String USAGE =
+        "Usage: ConvexHullCli [options] <input file>\n"
+        + "Computes the convex hull of a text or binary (.bin) point file.\n"
+        + "Options:\n"
+        + "  -e, --engine <name>     engine to use (default: " + ConvexHullAlgorithms.MONOTONE_CHAIN + ");\n"
+        + "                          case, spaces and punctuation are ignored, a unique prefix is enough\n"
+        + "  -o, --output <file>     write the hull vertices to a file, binary if it ends in .bin;\n"
+        + "                          '-' writes them to standard output (default)\n"
+        + "  -d, --decimals <n>      round text output files to n decimals (0-9; default: every digit)\n"
+        + "  -c, --chunked           stream the input in chunks, for files larger than the heap\n"
+        + "      --chunk-size <n>    points per chunk with --chunked\n"
+        + "  -n, --no-vertices       compute the hull but do not write its vertices\n"
+        + "  -p, --prefilter         discard interior points with an Akl-Toussaint filter before the engine\n"
+        + "  -m, --metrics           print the engine's operation counts and phase times\n"
+        + "      --jmx               publish metric totals as the MXBean " + JmxHullMetrics.OBJECT_NAME + " while running\n"
+        + "  -q, --quiet             do not print timings and counts\n"
+        + "  -l, --list-engines      print the available engine names and exit\n"
+        + "  -h, --help              print this help and exit\n";
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * Runs the command with the given arguments.
+     * @return the process exit code
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.print(USAGE);
+            return EXIT_USAGE;
+        }
+        if (options.help) {
+            out.print(USAGE);
+            return EXIT_OK;
+        }
+        if (options.listEngines) {
+            for (String name : ConvexHullAlgorithms.names()) {
+                out.println(name);
+            }
+            return EXIT_OK;
+        }
+
+        HullMetricsListener metricsPrinter = options.metrics ? err::println : null;
+        if (metricsPrinter != null) {
+            HullMetrics.addListener(metricsPrinter);
+        }
+        if (options.jmx) {
+            JmxHullMetrics.register();
+        }
+        try {
+            execute(options, out, err);
+            return EXIT_OK;
+        } catch (IOException e) {
+            err.println("Error: " + e.getMessage());
+            return EXIT_FAILURE;
+        } finally {
+            if (metricsPrinter != null) {
+                HullMetrics.removeListener(metricsPrinter);
+            }
+            if (options.jmx) {
+                JmxHullMetrics.unregister();
+            }
+        }
+    }
+
+    private static void execute(Options options, PrintStream out, PrintStream err) throws IOException {
+        if (!Files.isRegularFile(options.input)) {
+            throw new IOException("Input file not found: " + options.input);
+        }
+        ConvexHullAlgorithm engine = ConvexHullAlgorithms.create(options.engine);
+        FilteredHull filter = null;
+        if (options.prefilter) {
+            filter = FilteredHull.withAklToussaint(engine);
+            engine = filter;
+        }
+
+        long pointCount;
+        long loadNanos;
+        long hullNanos;
+        PointBuffer hull;
+        long start = System.nanoTime();
+        if (options.chunked) {
+            // Reading and hulling are interleaved, so only the total is meaningful
+            ChunkedHull chunkedHull = new ChunkedHull(engine);
+            if (options.chunkSize > 0) {
+                chunkedHull.setChunkSize(options.chunkSize);
+            }
+            hull = chunkedHull.computeHull(options.input);
+            pointCount = chunkedHull.getLastPointCount();
+            loadNanos = 0;
+            hullNanos = System.nanoTime() - start;
+        } else {
+            PointBuffer points = isBinary(options.input)
+                ? BinaryPointFile.readAll(options.input)
+                : PointFileReader.readAll(options.input);
+            pointCount = points.size();
+            long loaded = System.nanoTime();
+            loadNanos = loaded - start;
+            hull = engine.findConvexHullPacked(points);
+            hullNanos = System.nanoTime() - loaded;
+        }
+        if (hull == null) {
+            hull = new PointBuffer(0);
+        }
+
+        long writeStart = System.nanoTime();
+        if (options.writeVertices) {
+            writeVertices(hull, options, out);
+        }
+        long writeNanos = System.nanoTime() - writeStart;
+
+        if (!options.quiet) {
+            err.printf(Locale.ROOT, "input     %s%n", options.input);
+            err.printf(Locale.ROOT, "engine    %s%n", options.engine);
+            err.printf(Locale.ROOT, "points    %d%n", pointCount);
+            err.printf(Locale.ROOT, "vertices  %d%n", hull.size());
+            if (filter != null) {
+                err.printf(Locale.ROOT, "filtered  %d%n", filter.getTotalEliminatedCount());
+            }
+            if (!options.chunked) {
+                err.printf(Locale.ROOT, "load      %.3f ms%n", loadNanos / 1e6);
+            }
+            err.printf(Locale.ROOT, options.chunked ? "load+hull %.3f ms%n" : "hull      %.3f ms%n", hullNanos / 1e6);
+            if (options.writeVertices) {
+                err.printf(Locale.ROOT, "write     %.3f ms%n", writeNanos / 1e6);
+            }
+        }
+    }
+
+    private static void writeVertices(PointBuffer hull, Options options, PrintStream out) throws IOException {
+        if (options.output == null) {
+            // Standard output keeps every digit, so vertices can be matched against the input exactly
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < hull.size(); i++) {
+                line.setLength(0);
+                line.append(hull.getX(i)).append(", ").append(hull.getY(i));
+                out.println(line);
+            }
+            out.flush();
+        } else if (isBinary(options.output)) {
+            BinaryPointWriter.write(options.output, hull);
+        } else {
+            try (PointFileWriter writer = new PointFileWriter(options.output, options.decimals)) {
+                writer.addAll(hull);
+            }
+        }
+    }
+
+    private static boolean isBinary(Path path) {
+        return path.getFileName().toString().endsWith(BinaryPointFile.EXTENSION);
+    }
+
+    /**
+     * Resolves an engine name leniently: exact names first, then names compared without case,
+     * spaces or punctuation, then a unique prefix of those.
+     * @throws IllegalArgumentException if the name matches no engine or several
+     */
+    static String resolveEngine(String name) {
+        if (ConvexHullAlgorithms.names().contains(name)) {
+            return name;
+        }
+        String key = normalize(name);
+        String prefixMatch = null;
+        int prefixMatches = 0;
+        for (String candidate : ConvexHullAlgorithms.names()) {
+            String normalized = normalize(candidate);
+            if (normalized.equals(key)) {
+                return candidate;
+            }
+            if (!key.isEmpty() && normalized.startsWith(key)) {
+                prefixMatch = candidate;
+                prefixMatches++;
+            }
+        }
+        if (prefixMatches == 1) {
+            return prefixMatch;
+        }
+        throw new IllegalArgumentException((prefixMatches > 1 ? "Ambiguous" : "Unknown") + " engine: " + name
+                                           + " (available: " + String.join(", ", ConvexHullAlgorithms.names()) + ")");
+    }
+
+    private static String normalize(String name) {
+        StringBuilder result = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * Parsed command-line options.
+     */
+    static final class Options {
+        Path input;
+        Path output;
+        String engine = ConvexHullAlgorithms.MONOTONE_CHAIN;
+        int decimals = PointFileWriter.LOSSLESS;
+        boolean chunked;
+        int chunkSize;
+        boolean writeVertices = true;
+        boolean prefilter;
+        boolean metrics;
+        boolean jmx;
+        boolean quiet;
+        boolean listEngines;
+        boolean help;
+
+        /**
+         * @throws IllegalArgumentException with a message for the user if the arguments are invalid
+         */
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "-e":
+                    case "--engine":
+                        options.engine = resolveEngine(value(args, ++i, arg));
+                        break;
+                    case "-o":
+                    case "--output": {
+                        String output = value(args, ++i, arg);
+                        options.output = output.equals("-") ? null : Paths.get(output);
+                        break;
+                    }
+                    case "-d":
+                    case "--decimals":
+                        options.decimals = intValue(args, ++i, arg);
+                        if (options.decimals < 0 || options.decimals > 9) {
+                            throw new IllegalArgumentException("Decimals must be between 0 and 9: " + options.decimals);
+                        }
+                        break;
+                    case "-c":
+                    case "--chunked":
+                        options.chunked = true;
+                        break;
+                    case "--chunk-size":
+                        options.chunkSize = intValue(args, ++i, arg);
+                        if (options.chunkSize < 1) {
+                            throw new IllegalArgumentException("Chunk size must be positive: " + options.chunkSize);
+                        }
+                        break;
+                    case "-n":
+                    case "--no-vertices":
+                        options.writeVertices = false;
+                        break;
+                    case "-p":
+                    case "--prefilter":
+                        options.prefilter = true;
+                        break;
+                    case "-m":
+                    case "--metrics":
+                        options.metrics = true;
+                        break;
+                    case "--jmx":
+                        options.jmx = true;
+                        break;
+                    case "-q":
+                    case "--quiet":
+                        options.quiet = true;
+                        break;
+                    case "-l":
+                    case "--list-engines":
+                        options.listEngines = true;
+                        break;
+                    case "-h":
+                    case "--help":
+                        options.help = true;
+                        break;
+                    default:
+                        if (arg.startsWith("-") && arg.length() > 1) {
+                            throw new IllegalArgumentException("Unknown option: " + arg);
+                        }
+                        if (options.input != null) {
+                            throw new IllegalArgumentException("Only one input file is supported: " + arg);
+                        }
+                        options.input = Paths.get(arg);
+                }
+            }
+            if (options.input == null && !options.help && !options.listEngines) {
+                throw new IllegalArgumentException("Missing input file");
+            }
+            return options;
+        }
+
+        static String value(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            return args[index];
+        }
+
+        static int intValue(String[] args, int index, String option) {
+            String value = value(args, index, option);
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number for " + option + ": " + value);
+            }
+        }
+
+        static long longValue(String[] args, int index, String option) {
+            String value = value(args, index, option);
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number for " + option + ": " + value);
+            }
+        }
+    }
+}
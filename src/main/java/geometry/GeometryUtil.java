@@ -5,10 +5,64 @@ import java.util.Collections;
 
 public class GeometryUtil{
 
+    /**
+     * How orientation() decides the sign of a turn.
+     */
+    public enum OrientationMode {
+        /** Cross product compared against a fixed absolute epsilon of 1e-10. */
+        EPSILON,
+        /** Exact sign from {@link RobustPredicates#orient2d}: a floating-point filter with an adaptive exact fallback. */
+        ROBUST
+    }
+
+    // Mode of instances created without an explicit mode, i.e. of every engine created afterwards
+    private static volatile OrientationMode defaultOrientationMode = OrientationMode.ROBUST;
+
+    private final boolean robust;
+
+    public GeometryUtil(){
+        this(defaultOrientationMode);
+    }
+
+    public GeometryUtil(OrientationMode mode){
+        if (mode == null) {
+            throw new IllegalArgumentException("Orientation mode must not be null");
+        }
+        this.robust = mode == OrientationMode.ROBUST;
+    }
+
+    /**
+     * Selects the orientation mode engine-wide: every GeometryUtil, and therefore every
+     * hull engine, created after this call uses it.
+     */
+    public static void setDefaultOrientationMode(OrientationMode mode){
+        if (mode == null) {
+            throw new IllegalArgumentException("Orientation mode must not be null");
+        }
+        defaultOrientationMode = mode;
+    }
+
+    public static OrientationMode getDefaultOrientationMode(){
+        return defaultOrientationMode;
+    }
+
+    public OrientationMode getOrientationMode(){
+        return robust ? OrientationMode.ROBUST : OrientationMode.EPSILON;
+    }
+
     // Orientation Operations
     public int orientation(Point p1, Point p2, Point p3){
-        double val = (p2.getX() - p1.getX()) * (p3.getY() - p1.getY()) - 
-                     (p2.getY() - p1.getY()) * (p3.getX() - p1.getX());
+        return orientation(p1.getX(), p1.getY(), p2.getX(), p2.getY(), p3.getX(), p3.getY());
+    }
+
+    // Raw-coordinate variant used by the PointBuffer code paths
+    public int orientation(double x1, double y1, double x2, double y2, double x3, double y3){
+        if (robust) {
+            double det = RobustPredicates.orient2d(x1, y1, x2, y2, x3, y3);
+            return det > 0 ? -1 : (det < 0 ? 1 : 0);
+        }
+        double val = (x2 - x1) * (y3 - y1) - 
+                     (y2 - y1) * (x3 - x1);
         
         final double EPSILON = 1e-10;
         if (Math.abs(val) < EPSILON) {
@@ -17,6 +71,11 @@ public class GeometryUtil{
         return (val > 0) ? -1 : 1; // Counter-Clockwise : Clockwise
     }
 
+    public int orientation(PointBuffer points, int i, int j, int k){
+        return orientation(points.getX(i), points.getY(i), points.getX(j), points.getY(j),
+                           points.getX(k), points.getY(k));
+    }
+
 
     public boolean isCounterClockwise(Point p1, Point p2, Point p3){
         return orientation(p1, p2, p3) == -1;
@@ -48,9 +107,17 @@ public class GeometryUtil{
 
     // Distance Utilities
     public double squaredDistance(Point p1, Point p2){
-        double deltaX = p2.getX() - p1.getX();
-        double deltaY = p2.getY() - p1.getY();
-        return Math.pow(deltaX, 2) + Math.pow(deltaY, 2);
+        return squaredDistance(p1.getX(), p1.getY(), p2.getX(), p2.getY());
+    }
+
+    public double squaredDistance(double x1, double y1, double x2, double y2){
+        double deltaX = x2 - x1;
+        double deltaY = y2 - y1;
+        return deltaX * deltaX + deltaY * deltaY;
+    }
+
+    public double squaredDistance(PointBuffer points, int i, int j){
+        return squaredDistance(points.getX(i), points.getY(i), points.getX(j), points.getY(j));
     }
 
 
@@ -60,37 +127,112 @@ public class GeometryUtil{
 
     // Convex Hull Helpers
     public Point findLowestPoint(List<Point> points){
+        int lowest = findLowestPointIndex(points);
+        return lowest < 0 ? null : points.get(lowest);
+    }
+
+    /**
+     * @return the index of the point with the lowest y, then the lowest x, or -1 for a null or empty list
+     */
+    public int findLowestPointIndex(List<Point> points){
         if (points == null || points.isEmpty()){
-            return null;
+            return -1;
         }
-        return Collections.min(points, Comparator.comparing(Point::getY).thenComparing(Point::getX));
+        int lowest = 0;
+        for (int i = 1; i < points.size(); i++) {
+            Point p = points.get(i);
+            Point best = points.get(lowest);
+            if (p.getY() < best.getY() || (p.getY() == best.getY() && p.getX() < best.getX())) {
+                lowest = i;
+            }
+        }
+        return lowest;
     }
 
+    /**
+     * Sorts points by polar angle around the reference point, in (-180, 180] degrees as
+     * returned by {@link #polarAngle}, closer points first on equal angles.
+     * Points equal to the reference stay in the list; use {@link #sortPointByPolarAngle(List, int)}
+     * to take the anchor out.
+     */
     public void sortPointByPolarAngle(List<Point> points, Point referencePoint){
         if (points == null || points.isEmpty()){
-            System.out.print("List is Empty");
             return;
         }
-        if (points.contains(referencePoint)){
-            points.remove(referencePoint);
+        points.sort(polarAngleComparator(referencePoint));
+    }
+
+    /**
+     * Removes the point at anchorIndex and sorts the others by polar angle around it, as
+     * {@link #sortPointByPolarAngle(List, Point)} does. Other copies of the anchor stay in the list.
+     */
+    public void sortPointByPolarAngle(List<Point> points, int anchorIndex){
+        if (points == null || points.isEmpty()){
+            return;
+        }
+        // Move the anchor to the end and sort the rest, so dropping it is O(1)
+        int last = points.size() - 1;
+        Point anchor = points.get(anchorIndex);
+        Collections.swap(points, anchorIndex, last);
+        points.subList(0, last).sort(polarAngleComparator(anchor));
+        points.remove(last);
+    }
+
+    /**
+     * Orders points by polar angle around the reference, closer points first on equal angles.
+     * Uses quadrant classification and cross-product signs instead of trigonometry,
+     * so it is a total order consistent with {@link #comparePolar}.
+     */
+    public Comparator<Point> polarAngleComparator(Point reference){
+        double refX = reference.getX();
+        double refY = reference.getY();
+        return (p1, p2) -> comparePolar(refX, refY, p1.getX(), p1.getY(), p2.getX(), p2.getY());
+    }
+
+    /**
+     * Compares the polar angles of (x1, y1) and (x2, y2) around (refX, refY) without trigonometry.
+     * Angles run over (-180, 180] degrees as in {@link #polarAngle}; the reference point itself
+     * sorts at angle 0. Ties are broken by squared distance, closer first.
+     */
+    public int comparePolar(double refX, double refY, double x1, double y1, double x2, double y2){
+        double dx1 = x1 - refX;
+        double dy1 = y1 - refY;
+        double dx2 = x2 - refX;
+        double dy2 = y2 - refY;
+
+        int half1 = polarHalf(dx1, dy1);
+        int half2 = polarHalf(dx2, dy2);
+        if (half1 != half2) {
+            return Integer.compare(half1, half2);
         }
-        // Sorting Based on Polar Angle
-        Collections.sort(points, (p1, p2) -> {
-            // Compare polar angles
-            double angle1 = polarAngle(referencePoint, p1);
-            double angle2 = polarAngle(referencePoint, p2);
-            
-            // Handle special case for collinear points
-            if (Math.abs(angle1 - angle2) < 1e-9) {
-                // If angles are the same, sort by distance (closer points first)
-                double dist1 = squaredDistance(referencePoint, p1);
-                double dist2 = squaredDistance(referencePoint, p2);
-                return Double.compare(dist1, dist2);
-            } else {
-                return Double.compare(angle1, angle2);
+        // Within one half-plane the angle from 1 to 2 is below 180 degrees, so the turn orders them.
+        // Its sign is always taken exactly, whatever the orientation mode, so that the order stays transitive
+        if (half1 == HALF_LOWER || half1 == HALF_UPPER) {
+            double turn = RobustPredicates.orient2d(refX, refY, x1, y1, x2, y2);
+            if (turn > 0) {
+                return -1;
+            }
+            if (turn < 0) {
+                return 1;
             }
-        });
+        }
+        return Double.compare(dx1 * dx1 + dy1 * dy1, dx2 * dx2 + dy2 * dy2);
+    }
+
+    // Angle classes in increasing angle order: (-180, 0), the reference itself, [0, 180), exactly 180
+    private static final int HALF_LOWER = 0;
+    private static final int HALF_ORIGIN = 1;
+    private static final int HALF_UPPER = 2;
+    private static final int HALF_NEGATIVE_X_AXIS = 3;
 
+    private static int polarHalf(double dx, double dy){
+        if (dy < 0) {
+            return HALF_LOWER;
+        }
+        if (dy > 0 || dx > 0) {
+            return HALF_UPPER;
+        }
+        return dx < 0 ? HALF_NEGATIVE_X_AXIS : HALF_ORIGIN;
     }
 
 
@@ -0,0 +1,189 @@
+package geometry;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorting of primitive index permutations by primitive keys.
+ * Used by the hull engines to order points stored in a {@link PointBuffer}
+ * without boxing indices or allocating a comparator per element.
+ */
+public final class IndexSort {
+    private static final int INSERTION_SORT_THRESHOLD = 24;
+    // Ranges at most this long are sorted on the current thread
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private IndexSort() {
+    }
+
+    /**
+     * Order over indices, for sorts that cannot be expressed as a pair of precomputed keys.
+     */
+    public interface IndexComparator {
+        int compare(int a, int b);
+    }
+
+    /**
+     * Stable sort of idx[from, to) by the given comparator.
+     */
+    public static void sort(int[] idx, int from, int to, IndexComparator comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        int[] tmp = new int[idx.length];
+        mergeSort(idx, tmp, from, to, comparator);
+    }
+
+    /**
+     * Stable sort of idx[from, to) by (primary, secondary) ascending.
+     * Keys are looked up as primary[keyOffset + idx[i]].
+     */
+    public static void sortByKeys(int[] idx, int from, int to, double[] primary, double[] secondary, int keyOffset) {
+        if (to - from < 2) {
+            return;
+        }
+        int[] tmp = new int[idx.length];
+        mergeSort(idx, tmp, from, to, primary, secondary, keyOffset);
+    }
+
+    /**
+     * Sorts idx[from, to) lexicographically by x then y of the points in the buffer.
+     */
+    public static void sortLexicographic(int[] idx, int from, int to, PointBuffer points) {
+        sortByKeys(idx, from, to, points.xArray(), points.yArray(), points.offset());
+    }
+
+    /**
+     * Lexicographic sort of idx[from, to) that sorts both halves of each range in parallel on the given pool.
+     */
+    public static void parallelSortLexicographic(int[] idx, int from, int to, PointBuffer points, ForkJoinPool pool) {
+        if (to - from <= PARALLEL_SORT_THRESHOLD) {
+            sortLexicographic(idx, from, to, points);
+            return;
+        }
+        int[] tmp = new int[idx.length];
+        pool.invoke(new ParallelMergeSort(idx, tmp, from, to, points.xArray(), points.yArray(), points.offset()));
+    }
+
+    private static class ParallelMergeSort extends RecursiveAction {
+        private final int[] a;
+        private final int[] tmp;
+        private final int lo;
+        private final int hi;
+        private final double[] k1;
+        private final double[] k2;
+        private final int off;
+
+        ParallelMergeSort(int[] a, int[] tmp, int lo, int hi, double[] k1, double[] k2, int off) {
+            this.a = a;
+            this.tmp = tmp;
+            this.lo = lo;
+            this.hi = hi;
+            this.k1 = k1;
+            this.k2 = k2;
+            this.off = off;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= PARALLEL_SORT_THRESHOLD) {
+                mergeSort(a, tmp, lo, hi, k1, k2, off);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ParallelMergeSort(a, tmp, lo, mid, k1, k2, off),
+                      new ParallelMergeSort(a, tmp, mid, hi, k1, k2, off));
+            merge(a, tmp, lo, mid, hi, k1, k2, off);
+        }
+    }
+
+    private static void mergeSort(int[] a, int[] tmp, int lo, int hi,
+                                  double[] k1, double[] k2, int off) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(a, lo, hi, k1, k2, off);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergeSort(a, tmp, lo, mid, k1, k2, off);
+        mergeSort(a, tmp, mid, hi, k1, k2, off);
+        merge(a, tmp, lo, mid, hi, k1, k2, off);
+    }
+
+    // Merges the sorted runs a[lo, mid) and a[mid, hi), using tmp[lo, hi) as scratch space
+    private static void merge(int[] a, int[] tmp, int lo, int mid, int hi, double[] k1, double[] k2, int off) {
+        // Already in order: nothing to merge
+        if (!less(a[mid], a[mid - 1], k1, k2, off)) {
+            return;
+        }
+
+        System.arraycopy(a, lo, tmp, lo, hi - lo);
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while (i < mid && j < hi) {
+            a[k++] = less(tmp[j], tmp[i], k1, k2, off) ? tmp[j++] : tmp[i++];
+        }
+        while (i < mid) {
+            a[k++] = tmp[i++];
+        }
+        while (j < hi) {
+            a[k++] = tmp[j++];
+        }
+    }
+
+    private static void insertionSort(int[] a, int lo, int hi, double[] k1, double[] k2, int off) {
+        for (int i = lo + 1; i < hi; i++) {
+            int value = a[i];
+            int j = i - 1;
+            while (j >= lo && less(value, a[j], k1, k2, off)) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = value;
+        }
+    }
+
+    private static boolean less(int a, int b, double[] k1, double[] k2, int off) {
+        double pa = k1[off + a];
+        double pb = k1[off + b];
+        if (pa != pb) {
+            return pa < pb;
+        }
+        return k2[off + a] < k2[off + b];
+    }
+
+    private static void mergeSort(int[] a, int[] tmp, int lo, int hi, IndexComparator comparator) {
+        if (hi - lo <= INSERTION_SORT_THRESHOLD) {
+            for (int i = lo + 1; i < hi; i++) {
+                int value = a[i];
+                int j = i - 1;
+                while (j >= lo && comparator.compare(value, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = value;
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        mergeSort(a, tmp, lo, mid, comparator);
+        mergeSort(a, tmp, mid, hi, comparator);
+        if (comparator.compare(a[mid], a[mid - 1]) >= 0) {
+            return;
+        }
+
+        System.arraycopy(a, lo, tmp, lo, hi - lo);
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while (i < mid && j < hi) {
+            a[k++] = comparator.compare(tmp[j], tmp[i]) < 0 ? tmp[j++] : tmp[i++];
+        }
+        while (i < mid) {
+            a[k++] = tmp[i++];
+        }
+        while (j < hi) {
+            a[k++] = tmp[j++];
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable struct-of-arrays container of 2D points.
+ * Coordinates are kept in two primitive arrays so that large inputs cost 16 bytes per point
+ * and can be scanned without dereferencing a {@link Point} object per element.
+ * A slice is a view that shares the coordinate arrays of its parent; views cannot grow.
+ */
+public class PointBuffer {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private double[] xs;
+    private double[] ys;
+    private final int offset;
+    private int size;
+    private final boolean view;
+
+    public PointBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PointBuffer(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative: " + initialCapacity);
+        }
+        this.xs = new double[initialCapacity];
+        this.ys = new double[initialCapacity];
+        this.offset = 0;
+        this.size = 0;
+        this.view = false;
+    }
+
+    private PointBuffer(double[] xs, double[] ys, int offset, int size, boolean view) {
+        this.xs = xs;
+        this.ys = ys;
+        this.offset = offset;
+        this.size = size;
+        this.view = view;
+    }
+
+    /**
+     * Wraps existing coordinate arrays without copying them.
+     * The buffer takes ownership of the arrays and may replace them when it grows.
+     */
+    public static PointBuffer wrap(double[] xs, double[] ys, int size) {
+        if (xs.length < size || ys.length < size) {
+            throw new IllegalArgumentException("Coordinate arrays are shorter than size " + size);
+        }
+        return new PointBuffer(xs, ys, 0, size, false);
+    }
+
+    public static PointBuffer wrap(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length");
+        }
+        return wrap(xs, ys, xs.length);
+    }
+
+    /**
+     * Copies the coordinates of a list of points into a new buffer.
+     */
+    public static PointBuffer fromList(List<Point> points) {
+        PointBuffer buffer = new PointBuffer(points.size());
+        for (Point p : points) {
+            buffer.add(p.getX(), p.getY());
+        }
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double getX(int index) {
+        return xs[offset + index];
+    }
+
+    public double getY(int index) {
+        return ys[offset + index];
+    }
+
+    public void set(int index, double x, double y) {
+        checkIndex(index);
+        xs[offset + index] = x;
+        ys[offset + index] = y;
+    }
+
+    public void add(double x, double y) {
+        checkGrowable();
+        if (size == xs.length - offset) {
+            grow(size + 1);
+        }
+        xs[offset + size] = x;
+        ys[offset + size] = y;
+        size++;
+    }
+
+    public void addAll(PointBuffer other) {
+        checkGrowable();
+        ensureCapacity(size + other.size);
+        System.arraycopy(other.xs, other.offset, xs, offset + size, other.size);
+        System.arraycopy(other.ys, other.offset, ys, offset + size, other.size);
+        size += other.size;
+    }
+
+    public void clear() {
+        checkGrowable();
+        size = 0;
+    }
+
+    public void ensureCapacity(int capacity) {
+        if (capacity > xs.length - offset) {
+            grow(capacity);
+        }
+    }
+
+    /**
+     * Returns a view of the points in [from, to) that shares this buffer's coordinate arrays.
+     * Index 0 of the view corresponds to index {@code from} of this buffer.
+     */
+    public PointBuffer slice(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid slice [" + from + ", " + to + ") of size " + size);
+        }
+        return new PointBuffer(xs, ys, offset + from, to - from, true);
+    }
+
+    /**
+     * Returns a new buffer containing the points at the given indices, in that order.
+     */
+    public PointBuffer select(int[] indices) {
+        PointBuffer selected = new PointBuffer(indices.length);
+        for (int index : indices) {
+            selected.add(getX(index), getY(index));
+        }
+        return selected;
+    }
+
+    public PointBuffer copy() {
+        double[] xCopy = Arrays.copyOfRange(xs, offset, offset + size);
+        double[] yCopy = Arrays.copyOfRange(ys, offset, offset + size);
+        return new PointBuffer(xCopy, yCopy, 0, size, false);
+    }
+
+    public Point toPoint(int index) {
+        checkIndex(index);
+        return new Point(xs[offset + index], ys[offset + index]);
+    }
+
+    public List<Point> toList() {
+        List<Point> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new Point(xs[offset + i], ys[offset + i]));
+        }
+        return points;
+    }
+
+    // Raw access for hot loops: element i lives at xArray()[offset() + i]
+    public double[] xArray() {
+        return xs;
+    }
+
+    public double[] yArray() {
+        return ys;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    private void grow(int minCapacity) {
+        checkGrowable();
+        int newCapacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, xs.length + (xs.length >> 1)));
+        xs = Arrays.copyOf(xs, newCapacity);
+        ys = Arrays.copyOf(ys, newCapacity);
+    }
+
+    // Slices share the parent's arrays, so resizing them would overwrite the parent's points
+    private void checkGrowable() {
+        if (view) {
+            throw new UnsupportedOperationException("Cannot resize a slice of a PointBuffer");
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PointBuffer [size=" + size + "]";
+    }
+}
@@ -0,0 +1,26 @@
+package geometry;
+
+/**
+ * Point distributions produced by {@link PointGenerator}, with their expected hull sizes.
+ * All are scaled by the generator's scale s.
+ */
+public enum PointDistribution {
+    /** Uniform in the square [0, s)^2; O(log n) hull vertices. */
+    UNIFORM_SQUARE,
+    /** Uniform in the disk of radius s/2 around the origin; O(n^(1/3)) hull vertices. */
+    UNIFORM_DISK,
+    /**
+     * On the circle of radius s/2 around the origin, so nearly every point is a hull vertex.
+     * The worst case for Jarvis March (O(n^2)) and Chan's algorithm (O(n log n)).
+     */
+    CIRCLE,
+    /** Gaussian clusters with standard deviation s/50 around fixed centers in [0, s)^2. */
+    GAUSSIAN_CLUSTERS,
+    /**
+     * Within a few ulps of a line through the origin, over x in [0, s). Orientation tests on these
+     * points are close to zero, which stresses the predicates and collinearity handling.
+     */
+    NEAR_COLLINEAR,
+    /** Drawn from an 8 x 8 lattice spanning [0, s]^2, so almost every point is repeated. */
+    HEAVY_DUPLICATES
+}
@@ -0,0 +1,211 @@
+package geometry;
+
+import geometry.io.BinaryPointWriter;
+import geometry.io.PointFileWriter;
+import geometry.io.PointSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Deterministic generator of synthetic point sets for tests and benchmarks.
+ * Point i is a pure function of the seed and i: its random draws are taken from the SplitMix64
+ * sequence at positions derived from i, so any range of the set can be produced independently
+ * and the same seed always yields the same points however they are chunked. Counts are longs,
+ * and the file writers stream in chunks, so sets far larger than the heap can be written.
+ */
+public final class PointGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int DRAWS_PER_POINT = 4;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final int CLUSTER_COUNT = 8;
+    private static final int LATTICE_SIZE = 8;
+    private static final double LINE_SLOPE = 1.0 / 3.0;
+
+    private final PointDistribution distribution;
+    private final long seed;
+    private final long key;
+    private double scale = 1000;
+
+    private final double[] clusterX = new double[CLUSTER_COUNT];
+    private final double[] clusterY = new double[CLUSTER_COUNT];
+
+    public PointGenerator(PointDistribution distribution, long seed) {
+        if (distribution == null) {
+            throw new IllegalArgumentException("Distribution must not be null");
+        }
+        this.distribution = distribution;
+        this.seed = seed;
+        this.key = mix(seed ^ 0x5DEECE66DL);
+        // Cluster centers come from negative positions, which point indices never reach
+        for (int k = 0; k < CLUSTER_COUNT; k++) {
+            clusterX[k] = unit(mix(key - (2L * k + 1) * GOLDEN_GAMMA));
+            clusterY[k] = unit(mix(key - (2L * k + 2) * GOLDEN_GAMMA));
+        }
+    }
+
+    /**
+     * Generates the first n points of a distribution.
+     */
+    public static PointBuffer generate(PointDistribution distribution, int n, long seed) {
+        return new PointGenerator(distribution, seed).generate(n);
+    }
+
+    /**
+     * Sets the size of the region the points are spread over; see {@link PointDistribution}.
+     */
+    public PointGenerator setScale(double scale) {
+        if (!(scale > 0) || Double.isInfinite(scale)) {
+            throw new IllegalArgumentException("Scale must be positive and finite: " + scale);
+        }
+        this.scale = scale;
+        return this;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public PointDistribution getDistribution() {
+        return distribution;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return points 0 to n - 1
+     */
+    public PointBuffer generate(int n) {
+        PointBuffer points = new PointBuffer(n);
+        generate(0, n, points);
+        return points;
+    }
+
+    /**
+     * Appends points first to first + count - 1 to target.
+     */
+    public void generate(long first, int count, PointBuffer target) {
+        if (first < 0 || count < 0) {
+            throw new IllegalArgumentException("Invalid range: first " + first + ", count " + count);
+        }
+        target.ensureCapacity(target.size() + count);
+        for (long i = first; i < first + count; i++) {
+            addPoint(i, target);
+        }
+    }
+
+    private void addPoint(long index, PointBuffer target) {
+        long base = key + index * DRAWS_PER_POINT * GOLDEN_GAMMA;
+        double u0 = unit(mix(base));
+        double u1 = unit(mix(base + GOLDEN_GAMMA));
+        double u2 = unit(mix(base + 2 * GOLDEN_GAMMA));
+
+        switch (distribution) {
+            case UNIFORM_SQUARE:
+                target.add(u0 * scale, u1 * scale);
+                break;
+            case UNIFORM_DISK: {
+                double radius = 0.5 * scale * Math.sqrt(u0);
+                double angle = 2 * Math.PI * u1;
+                target.add(radius * Math.cos(angle), radius * Math.sin(angle));
+                break;
+            }
+            case CIRCLE: {
+                double angle = 2 * Math.PI * u0;
+                target.add(0.5 * scale * Math.cos(angle), 0.5 * scale * Math.sin(angle));
+                break;
+            }
+            case GAUSSIAN_CLUSTERS: {
+                // Box-Muller transform around the chosen cluster's center
+                int cluster = (int) (u0 * CLUSTER_COUNT);
+                double radius = scale / 50 * Math.sqrt(-2 * Math.log(1 - u1));
+                double angle = 2 * Math.PI * u2;
+                target.add(clusterX[cluster] * scale + radius * Math.cos(angle),
+                           clusterY[cluster] * scale + radius * Math.sin(angle));
+                break;
+            }
+            case NEAR_COLLINEAR: {
+                double x = u0 * scale;
+                double y = x * LINE_SLOPE;
+                // Move y by -2 to 2 ulps off the line
+                int ulps = (int) (u1 * 5) - 2;
+                target.add(x, y + ulps * Math.ulp(y));
+                break;
+            }
+            case HEAVY_DUPLICATES: {
+                double step = scale / (LATTICE_SIZE - 1);
+                target.add((int) (u0 * LATTICE_SIZE) * step, (int) (u1 * LATTICE_SIZE) * step);
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unknown distribution: " + distribution);
+        }
+    }
+
+    /**
+     * @return a source that streams points 0 to n - 1 without holding them in memory
+     */
+    public PointSource source(long n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Count must be non-negative: " + n);
+        }
+        return new PointSource() {
+            private long next;
+
+            @Override
+            public int read(PointBuffer target, int maxPoints) {
+                int count = (int) Math.min(maxPoints, n - next);
+                generate(next, count, target);
+                next += count;
+                return count;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    /**
+     * Writes points 0 to n - 1 to a text point file, preceded by a comment naming the distribution and seed.
+     */
+    public void writeText(Path path, long n) throws IOException {
+        try (PointFileWriter writer = new PointFileWriter(path)) {
+            writer.comment(distribution + " seed=" + seed + " scale=" + scale + " n=" + n);
+            PointBuffer chunk = new PointBuffer(CHUNK_SIZE);
+            for (long first = 0; first < n; first += CHUNK_SIZE) {
+                chunk.clear();
+                generate(first, (int) Math.min(CHUNK_SIZE, n - first), chunk);
+                writer.addAll(chunk);
+            }
+        }
+    }
+
+    /**
+     * Writes points 0 to n - 1 to a binary point file.
+     */
+    public void writeBinary(Path path, long n) throws IOException {
+        try (BinaryPointWriter writer = new BinaryPointWriter(path, n)) {
+            PointBuffer chunk = new PointBuffer(CHUNK_SIZE);
+            for (long first = 0; first < n; first += CHUNK_SIZE) {
+                chunk.clear();
+                generate(first, (int) Math.min(CHUNK_SIZE, n - first), chunk);
+                writer.addAll(chunk);
+            }
+        }
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Uniform double in [0, 1) from the top 53 bits
+    private static double unit(long bits) {
+        return (bits >>> 11) * 0x1.0p-53;
+    }
+}
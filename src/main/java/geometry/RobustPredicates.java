@@ -0,0 +1,236 @@
+package geometry;
+
+/**
+ * Adaptive-precision geometric predicates after Shewchuk, "Adaptive Precision Floating-Point
+ * Arithmetic and Fast Robust Geometric Predicates" (1997).
+ * The determinant is first evaluated in plain double arithmetic together with an error bound.
+ * Only when the bound cannot certify its sign is the computation repeated with increasing
+ * precision, ending in exact floating-point expansion arithmetic. The sign of the result is
+ * therefore always exact, while unambiguous inputs cost little more than the plain formula.
+ */
+public final class RobustPredicates {
+    // Half an ulp of 1.0, the relative rounding error of one double operation
+    private static final double EPSILON = 0x1p-53;
+    // 2^ceil(53 / 2) + 1, splits a double into two halves that multiply exactly
+    private static final double SPLITTER = 0x1p27 + 1.0;
+
+    private static final double RESULT_ERR_BOUND = (3.0 + 8.0 * EPSILON) * EPSILON;
+    private static final double CCW_ERR_BOUND_A = (3.0 + 16.0 * EPSILON) * EPSILON;
+    private static final double CCW_ERR_BOUND_B = (2.0 + 12.0 * EPSILON) * EPSILON;
+    private static final double CCW_ERR_BOUND_C = (9.0 + 64.0 * EPSILON) * EPSILON * EPSILON;
+
+    private RobustPredicates() {
+    }
+
+    /**
+     * Returns a value whose sign is exactly the sign of the determinant
+     * (ax - cx) * (by - cy) - (ay - cy) * (bx - cx):
+     * positive if a, b, c turn counter-clockwise, negative if clockwise, zero if collinear.
+     */
+    public static double orient2d(double ax, double ay, double bx, double by, double cx, double cy) {
+        double detLeft = (ax - cx) * (by - cy);
+        double detRight = (ay - cy) * (bx - cx);
+        double det = detLeft - detRight;
+
+        double detSum;
+        if (detLeft > 0.0) {
+            if (detRight <= 0.0) {
+                return det;
+            }
+            detSum = detLeft + detRight;
+        } else if (detLeft < 0.0) {
+            if (detRight >= 0.0) {
+                return det;
+            }
+            detSum = -detLeft - detRight;
+        } else {
+            return det;
+        }
+
+        double errBound = CCW_ERR_BOUND_A * detSum;
+        if (det >= errBound || -det >= errBound) {
+            return det;
+        }
+        return orient2dAdapt(ax, ay, bx, by, cx, cy, detSum);
+    }
+
+    private static double orient2dAdapt(double ax, double ay, double bx, double by, double cx, double cy,
+                                        double detSum) {
+        double acx = ax - cx;
+        double bcx = bx - cx;
+        double acy = ay - cy;
+        double bcy = by - cy;
+
+        // Exact value of the determinant of the rounded differences, as a 4-component expansion
+        double detLeft = acx * bcy;
+        double detLeftTail = twoProductTail(acx, bcy, detLeft);
+        double detRight = acy * bcx;
+        double detRightTail = twoProductTail(acy, bcx, detRight);
+        double[] b = new double[4];
+        twoTwoDiff(detLeft, detLeftTail, detRight, detRightTail, b);
+
+        double det = b[0] + b[1] + b[2] + b[3];
+        double errBound = CCW_ERR_BOUND_B * detSum;
+        if (det >= errBound || -det >= errBound) {
+            return det;
+        }
+
+        // Rounding errors of the differences themselves
+        double acxTail = twoDiffTail(ax, cx, acx);
+        double bcxTail = twoDiffTail(bx, cx, bcx);
+        double acyTail = twoDiffTail(ay, cy, acy);
+        double bcyTail = twoDiffTail(by, cy, bcy);
+        if (acxTail == 0.0 && acyTail == 0.0 && bcxTail == 0.0 && bcyTail == 0.0) {
+            return det;
+        }
+
+        errBound = CCW_ERR_BOUND_C * detSum + RESULT_ERR_BOUND * Math.abs(det);
+        det += (acx * bcyTail + bcy * acxTail) - (acy * bcxTail + bcx * acyTail);
+        if (det >= errBound || -det >= errBound) {
+            return det;
+        }
+
+        // Exact: add the remaining cross terms to the expansion one by one
+        double[] u = new double[4];
+        double s = acxTail * bcy;
+        double t = acyTail * bcx;
+        twoTwoDiff(s, twoProductTail(acxTail, bcy, s), t, twoProductTail(acyTail, bcx, t), u);
+        double[] c1 = new double[8];
+        int c1Length = fastExpansionSumZeroElim(4, b, 4, u, c1);
+
+        s = acx * bcyTail;
+        t = acy * bcxTail;
+        twoTwoDiff(s, twoProductTail(acx, bcyTail, s), t, twoProductTail(acy, bcxTail, t), u);
+        double[] c2 = new double[12];
+        int c2Length = fastExpansionSumZeroElim(c1Length, c1, 4, u, c2);
+
+        s = acxTail * bcyTail;
+        t = acyTail * bcxTail;
+        twoTwoDiff(s, twoProductTail(acxTail, bcyTail, s), t, twoProductTail(acyTail, bcxTail, t), u);
+        double[] d = new double[16];
+        int dLength = fastExpansionSumZeroElim(c2Length, c2, 4, u, d);
+
+        // The largest component of a nonoverlapping expansion carries its sign
+        return d[dLength - 1];
+    }
+
+    // Error of x = a + b, so that a + b == x + tail exactly
+    private static double twoSumTail(double a, double b, double x) {
+        double bVirtual = x - a;
+        double aVirtual = x - bVirtual;
+        double bRound = b - bVirtual;
+        double aRound = a - aVirtual;
+        return aRound + bRound;
+    }
+
+    // Error of x = a - b, so that a - b == x + tail exactly
+    private static double twoDiffTail(double a, double b, double x) {
+        double bVirtual = a - x;
+        double aVirtual = x + bVirtual;
+        double bRound = bVirtual - b;
+        double aRound = a - aVirtual;
+        return aRound + bRound;
+    }
+
+    // Error of x = a * b, so that a * b == x + tail exactly (Dekker's product)
+    private static double twoProductTail(double a, double b, double x) {
+        double c = SPLITTER * a;
+        double aHi = c - (c - a);
+        double aLo = a - aHi;
+        c = SPLITTER * b;
+        double bHi = c - (c - b);
+        double bLo = b - bHi;
+        double err1 = x - aHi * bHi;
+        double err2 = err1 - aLo * bHi;
+        double err3 = err2 - aHi * bLo;
+        return aLo * bLo - err3;
+    }
+
+    // (a1 + a0) - (b1 + b0) as a 4-component expansion, smallest component first
+    private static void twoTwoDiff(double a1, double a0, double b1, double b0, double[] out) {
+        double i = a0 - b0;
+        out[0] = twoDiffTail(a0, b0, i);
+        double j = a1 + i;
+        double k = twoSumTail(a1, i, j);
+
+        i = k - b1;
+        out[1] = twoDiffTail(k, b1, i);
+        out[3] = j + i;
+        out[2] = twoSumTail(j, i, out[3]);
+    }
+
+    /**
+     * Sums two nonoverlapping expansions into h, dropping zero components.
+     * @return the number of components written to h
+     */
+    private static int fastExpansionSumZeroElim(int eLength, double[] e, int fLength, double[] f, double[] h) {
+        double eNow = e[0];
+        double fNow = f[0];
+        int eIndex = 0;
+        int fIndex = 0;
+        double q;
+        if ((fNow > eNow) == (fNow > -eNow)) {
+            q = eNow;
+            eNow = ++eIndex < eLength ? e[eIndex] : 0.0;
+        } else {
+            q = fNow;
+            fNow = ++fIndex < fLength ? f[fIndex] : 0.0;
+        }
+
+        int hIndex = 0;
+        double qNew;
+        double hh;
+        if (eIndex < eLength && fIndex < fLength) {
+            if ((fNow > eNow) == (fNow > -eNow)) {
+                qNew = eNow + q;
+                hh = q - (qNew - eNow);
+                eNow = ++eIndex < eLength ? e[eIndex] : 0.0;
+            } else {
+                qNew = fNow + q;
+                hh = q - (qNew - fNow);
+                fNow = ++fIndex < fLength ? f[fIndex] : 0.0;
+            }
+            q = qNew;
+            if (hh != 0.0) {
+                h[hIndex++] = hh;
+            }
+            while (eIndex < eLength && fIndex < fLength) {
+                if ((fNow > eNow) == (fNow > -eNow)) {
+                    qNew = q + eNow;
+                    hh = twoSumTail(q, eNow, qNew);
+                    eNow = ++eIndex < eLength ? e[eIndex] : 0.0;
+                } else {
+                    qNew = q + fNow;
+                    hh = twoSumTail(q, fNow, qNew);
+                    fNow = ++fIndex < fLength ? f[fIndex] : 0.0;
+                }
+                q = qNew;
+                if (hh != 0.0) {
+                    h[hIndex++] = hh;
+                }
+            }
+        }
+        while (eIndex < eLength) {
+            qNew = q + eNow;
+            hh = twoSumTail(q, eNow, qNew);
+            eNow = ++eIndex < eLength ? e[eIndex] : 0.0;
+            q = qNew;
+            if (hh != 0.0) {
+                h[hIndex++] = hh;
+            }
+        }
+        while (fIndex < fLength) {
+            qNew = q + fNow;
+            hh = twoSumTail(q, fNow, qNew);
+            fNow = ++fIndex < fLength ? f[fIndex] : 0.0;
+            q = qNew;
+            if (hh != 0.0) {
+                h[hIndex++] = hh;
+            }
+        }
+        if (q != 0.0 || hIndex == 0) {
+            h[hIndex++] = q;
+        }
+        return hIndex;
+    }
+}
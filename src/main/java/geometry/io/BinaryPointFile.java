@@ -0,0 +1,140 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory-mapped view of a binary columnar point file.
+ * Layout, all little-endian:
+ * <pre>
+ *   int    magic ("HULL")
+ *   int    version
+ *   long   count
+ *   double minX, minY, maxX, maxY   bounding box of all points
+ *   double x[count]
+ *   double y[count]
+ * </pre>
+ * The columns are exposed as {@link DoubleBuffer} views of the mapping, so nothing is decoded or
+ * copied until a caller asks for a {@link PointBuffer}, which then costs one bulk copy per column.
+ * Files are written by {@link BinaryPointWriter}; files too large to map at once are read in
+ * chunks by {@link BinaryPointReader}.
+ */
+public final class BinaryPointFile implements Closeable {
+    public static final int MAGIC = 0x4C4C5548;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 48;
+    public static final String EXTENSION = ".bin";
+
+    private final FileChannel channel;
+    private final int count;
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+    private final DoubleBuffer xs;
+    private final DoubleBuffer ys;
+
+    private BinaryPointFile(FileChannel channel) throws IOException {
+        this.channel = channel;
+        BinaryPointHeader header = BinaryPointHeader.read(channel);
+        // Each column must fit in one mapping, and the points in one PointBuffer
+        if (header.count > Integer.MAX_VALUE / Double.BYTES) {
+            throw new IOException("Too many points to map at once: " + header.count
+                                  + "; read the file in chunks with BinaryPointReader");
+        }
+        this.count = (int) header.count;
+        this.minX = header.minX;
+        this.minY = header.minY;
+        this.maxX = header.maxX;
+        this.maxY = header.maxY;
+
+        long columnBytes = (long) Double.BYTES * count;
+        this.xs = mapColumn(HEADER_SIZE, columnBytes);
+        this.ys = mapColumn(HEADER_SIZE + columnBytes, columnBytes);
+    }
+
+    /**
+     * Opens and validates a binary point file. The mapping stays valid after {@link #close()}.
+     */
+    public static BinaryPointFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new BinaryPointFile(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads every point of a binary point file into a new buffer.
+     */
+    public static PointBuffer readAll(Path path) throws IOException {
+        try (BinaryPointFile file = open(path)) {
+            return file.toPointBuffer();
+        }
+    }
+
+    private DoubleBuffer mapColumn(long start, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, length)
+                      .order(ByteOrder.LITTLE_ENDIAN)
+                      .asDoubleBuffer();
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * @return a read-only view of the x column, backed by the mapping
+     */
+    public DoubleBuffer xColumn() {
+        return xs.asReadOnlyBuffer();
+    }
+
+    /**
+     * @return a read-only view of the y column, backed by the mapping
+     */
+    public DoubleBuffer yColumn() {
+        return ys.asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies both columns into a new buffer with one bulk transfer each.
+     */
+    public PointBuffer toPointBuffer() {
+        double[] x = new double[count];
+        double[] y = new double[count];
+        xs.duplicate().get(x);
+        ys.duplicate().get(y);
+        return PointBuffer.wrap(x, y);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,56 @@
+package geometry.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Validated header of a binary point file (see {@link BinaryPointFile} for the layout).
+ */
+final class BinaryPointHeader {
+    final long count;
+    final double minX;
+    final double minY;
+    final double maxX;
+    final double maxY;
+
+    private BinaryPointHeader(long count, double minX, double minY, double maxX, double maxY) {
+        this.count = count;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+    }
+
+    /**
+     * Reads the header and checks it against the size of the file.
+     */
+    static BinaryPointHeader read(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < BinaryPointFile.HEADER_SIZE) {
+            throw new IOException("File is too short for a binary point file header: " + fileSize + " bytes");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(BinaryPointFile.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IOException("Unexpected end of file in binary point file header");
+            }
+        }
+        if (header.getInt(0) != BinaryPointFile.MAGIC) {
+            throw new IOException("Not a binary point file");
+        }
+        int version = header.getInt(4);
+        if (version != BinaryPointFile.VERSION) {
+            throw new IOException("Unsupported binary point file version " + version);
+        }
+        long count = header.getLong(8);
+        if (count < 0 || count > (fileSize - BinaryPointFile.HEADER_SIZE) / (2 * Double.BYTES)) {
+            throw new IOException("Binary point file is truncated: " + count + " points declared in "
+                                  + fileSize + " bytes");
+        }
+        return new BinaryPointHeader(count, header.getDouble(16), header.getDouble(24),
+                                     header.getDouble(32), header.getDouble(40));
+    }
+}
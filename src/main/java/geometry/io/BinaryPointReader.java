@@ -0,0 +1,92 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a binary point file of any size in chunks, with positional reads from both columns
+ * through two fixed-size direct buffers.
+ */
+public final class BinaryPointReader implements PointSource {
+    private static final int COLUMN_BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final BinaryPointHeader header;
+    private final ByteBuffer xBuffer = ByteBuffer.allocateDirect(COLUMN_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer yBuffer = ByteBuffer.allocateDirect(COLUMN_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long nextPoint;
+
+    public BinaryPointReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.header = BinaryPointHeader.read(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long getCount() {
+        return header.count;
+    }
+
+    /**
+     * The bounds below come from the file header, so they are known before any point is read.
+     */
+    public double getMinX() {
+        return header.minX;
+    }
+
+    public double getMinY() {
+        return header.minY;
+    }
+
+    public double getMaxX() {
+        return header.maxX;
+    }
+
+    public double getMaxY() {
+        return header.maxY;
+    }
+
+    @Override
+    public int read(PointBuffer target, int maxPoints) throws IOException {
+        int added = 0;
+        while (added < maxPoints && nextPoint < header.count) {
+            int batch = (int) Math.min(Math.min(maxPoints - added, header.count - nextPoint),
+                                       COLUMN_BUFFER_SIZE / Double.BYTES);
+            long xOffset = BinaryPointFile.HEADER_SIZE + nextPoint * Double.BYTES;
+            long yOffset = xOffset + header.count * Double.BYTES;
+            readFully(xBuffer, xOffset, batch * Double.BYTES);
+            readFully(yBuffer, yOffset, batch * Double.BYTES);
+
+            target.ensureCapacity(target.size() + batch);
+            for (int i = 0; i < batch; i++) {
+                target.add(xBuffer.getDouble(i * Double.BYTES), yBuffer.getDouble(i * Double.BYTES));
+            }
+            nextPoint += batch;
+            added += batch;
+        }
+        return added;
+    }
+
+    private void readFully(ByteBuffer buffer, long position, int length) throws IOException {
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of binary point file");
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,150 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams points into a binary columnar point file (see {@link BinaryPointFile}).
+ * The number of points is fixed up front so that both columns can be written in a single pass
+ * with positional writes; the bounding box is accumulated on the way and the header is written
+ * on {@link #close()}.
+ */
+public final class BinaryPointWriter implements Closeable {
+    private static final int COLUMN_BUFFER_SIZE = 1 << 16;
+    private static final int CONVERT_CHUNK_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final long count;
+    private final ByteBuffer xBuffer = ByteBuffer.allocateDirect(COLUMN_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer yBuffer = ByteBuffer.allocateDirect(COLUMN_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private long xPosition;
+    private long yPosition;
+    private long written;
+
+    private double minX = Double.POSITIVE_INFINITY;
+    private double minY = Double.POSITIVE_INFINITY;
+    private double maxX = Double.NEGATIVE_INFINITY;
+    private double maxY = Double.NEGATIVE_INFINITY;
+
+    /**
+     * @param count the exact number of points that will be added before closing
+     */
+    public BinaryPointWriter(Path path, long count) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must be non-negative: " + count);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                        StandardOpenOption.WRITE);
+        this.count = count;
+        this.xPosition = BinaryPointFile.HEADER_SIZE;
+        this.yPosition = BinaryPointFile.HEADER_SIZE + (long) Double.BYTES * count;
+    }
+
+    /**
+     * Writes a whole buffer of points to a new binary point file.
+     */
+    public static void write(Path path, PointBuffer points) throws IOException {
+        try (BinaryPointWriter writer = new BinaryPointWriter(path, points.size())) {
+            writer.addAll(points);
+        }
+    }
+
+    /**
+     * Converts a text point file to a binary point file in two streaming passes:
+     * one to count the points and one to write them.
+     * @return the number of points written
+     */
+    public static long convert(Path textFile, Path binaryFile) throws IOException {
+        PointBuffer chunk = new PointBuffer(CONVERT_CHUNK_SIZE);
+        long count = 0;
+        try (PointFileReader reader = new PointFileReader(textFile)) {
+            int read;
+            while ((read = reader.read(chunk, CONVERT_CHUNK_SIZE)) > 0) {
+                count += read;
+                chunk.clear();
+            }
+        }
+        try (PointFileReader reader = new PointFileReader(textFile);
+             BinaryPointWriter writer = new BinaryPointWriter(binaryFile, count)) {
+            while (reader.read(chunk, CONVERT_CHUNK_SIZE) > 0) {
+                writer.addAll(chunk);
+                chunk.clear();
+            }
+        }
+        return count;
+    }
+
+    public void add(double x, double y) throws IOException {
+        if (written == count) {
+            throw new IllegalStateException("All " + count + " points have already been written");
+        }
+        if (!xBuffer.hasRemaining()) {
+            flushColumns();
+        }
+        xBuffer.putDouble(x);
+        yBuffer.putDouble(y);
+        written++;
+
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
+    }
+
+    public void addAll(PointBuffer points) throws IOException {
+        for (int i = 0; i < points.size(); i++) {
+            add(points.getX(i), points.getY(i));
+        }
+    }
+
+    /**
+     * Writes the header and closes the file.
+     * @throws IOException if fewer points were added than declared
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flushColumns();
+            if (written != count) {
+                throw new IOException("Expected " + count + " points but " + written + " were written");
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(BinaryPointFile.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(BinaryPointFile.MAGIC)
+                  .putInt(BinaryPointFile.VERSION)
+                  .putLong(count)
+                  .putDouble(minX)
+                  .putDouble(minY)
+                  .putDouble(maxX)
+                  .putDouble(maxY)
+                  .flip();
+            writeFully(header, 0);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void flushColumns() throws IOException {
+        xBuffer.flip();
+        xPosition += writeFully(xBuffer, xPosition);
+        xBuffer.clear();
+        yBuffer.flip();
+        yPosition += writeFully(yBuffer, yPosition);
+        yBuffer.clear();
+    }
+
+    private int writeFully(ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            total += channel.write(buffer, position + total);
+        }
+        return total;
+    }
+}
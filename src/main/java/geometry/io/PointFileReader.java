@@ -0,0 +1,304 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streaming parser for text point files, one point per line.
+ * Coordinates are separated by a comma or by whitespace; blank lines and lines starting with '#'
+ * are ignored, as are columns after the second. Lines that do not start with two numbers
+ * are skipped and counted.
+ * The file is memory-mapped in windows and parsed in place: numbers are decoded straight from the
+ * mapped bytes into a {@link PointBuffer}, so the common case allocates nothing per line.
+ * Numbers the fast path cannot decode exactly (more than 15 to 16 significant digits, large
+ * exponents, hexadecimal, NaN, ...) fall back to {@link Double#parseDouble}.
+ */
+public final class PointFileReader implements PointSource {
+    private static final int DEFAULT_WINDOW_SIZE = 64 << 20;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+    // Mantissas below this are exactly representable as doubles
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    // Powers of ten that are exactly representable as doubles
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final int windowSize;
+    private ByteBuffer window = ByteBuffer.allocate(0);
+    private long windowStart;
+    private int position;
+
+    private long skippedLines;
+    // Coordinates of the line parsed last
+    private double lastX;
+    private double lastY;
+    private boolean parseFailed;
+    private byte[] scratch = new byte[64];
+
+    public PointFileReader(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * @param windowSize bytes mapped at a time; also the longest supported line
+     */
+    PointFileReader(Path path, int windowSize) throws IOException {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Reads every point of a file into a new buffer.
+     */
+    public static PointBuffer readAll(Path path) throws IOException {
+        try (PointFileReader reader = new PointFileReader(path)) {
+            PointBuffer points = new PointBuffer();
+            while (reader.read(points, DEFAULT_CHUNK_SIZE) > 0) {
+                // Keep reading until the end of the file
+            }
+            return points;
+        }
+    }
+
+    /**
+     * Appends up to maxPoints further points of the file to target.
+     * @return the number of points appended, 0 once the end of the file is reached
+     */
+    @Override
+    public int read(PointBuffer target, int maxPoints) throws IOException {
+        int added = 0;
+        while (added < maxPoints) {
+            int lineEnd = findLineEnd();
+            if (lineEnd < 0) {
+                break;
+            }
+            if (parseLine(position, lineEnd)) {
+                target.add(lastX, lastY);
+                added++;
+            }
+            position = lineEnd + 1;
+        }
+        return added;
+    }
+
+    /**
+     * @return the number of non-blank, non-comment lines skipped because they do not start with two numbers
+     */
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    /**
+     * @return the number of bytes of the file consumed so far
+     */
+    public long getBytesRead() {
+        return Math.min(windowStart + position, fileSize);
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Makes sure the line starting at position lies entirely inside the mapped window.
+     * @return the index in the window of the byte ending that line, or -1 at the end of the file
+     */
+    private int findLineEnd() throws IOException {
+        while (true) {
+            int limit = window.limit();
+            boolean lastWindow = windowStart + limit >= fileSize;
+            if (position >= limit) {
+                if (lastWindow) {
+                    return -1;
+                }
+                map(windowStart + position);
+                continue;
+            }
+            for (int i = position; i < limit; i++) {
+                byte b = window.get(i);
+                if (b == '\n' || b == '\r') {
+                    return i;
+                }
+            }
+            if (lastWindow) {
+                // Last line without a line terminator
+                return limit;
+            }
+            if (position == 0) {
+                throw new IOException("Line at offset " + windowStart + " is longer than " + windowSize + " bytes");
+            }
+            // The line continues past the window: map the next window starting at this line
+            map(windowStart + position);
+        }
+    }
+
+    private void map(long start) throws IOException {
+        long length = Math.min(windowSize, fileSize - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        windowStart = start;
+        position = 0;
+    }
+
+    private boolean parseLine(int start, int end) {
+        int i = skipBlanks(start, end);
+        if (i == end || window.get(i) == '#') {
+            return false;
+        }
+
+        int tokenEnd = tokenEnd(i, end);
+        double x = parseNumber(i, tokenEnd);
+        if (parseFailed) {
+            skippedLines++;
+            return false;
+        }
+
+        i = skipBlanks(tokenEnd, end);
+        if (i < end && window.get(i) == ',') {
+            i = skipBlanks(i + 1, end);
+        }
+        tokenEnd = tokenEnd(i, end);
+        double y = parseNumber(i, tokenEnd);
+        if (parseFailed) {
+            skippedLines++;
+            return false;
+        }
+
+        lastX = x;
+        lastY = y;
+        return true;
+    }
+
+    private int skipBlanks(int i, int end) {
+        while (i < end && isBlank(window.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private int tokenEnd(int i, int end) {
+        while (i < end) {
+            byte b = window.get(i);
+            if (b == ',' || isBlank(b)) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\f' || b == 0x0B;
+    }
+
+    /**
+     * Decodes the number in window[start, end). Decimal literals whose digits fit in a double's
+     * mantissa and whose exponent is at most 22 are computed exactly with a single multiplication
+     * or division (Clinger's fast path); anything else goes through Double.parseDouble.
+     */
+    private double parseNumber(int start, int end) {
+        parseFailed = false;
+        if (start == end) {
+            parseFailed = true;
+            return 0;
+        }
+
+        int i = start;
+        boolean negative = false;
+        byte b = window.get(i);
+        if (b == '-' || b == '+') {
+            negative = b == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean sawDigit = false;
+        boolean afterPoint = false;
+        for (; i < end; i++) {
+            b = window.get(i);
+            if (b >= '0' && b <= '9') {
+                sawDigit = true;
+                if (mantissa != 0 || b != '0') {
+                    if (++significantDigits > 18) {
+                        return parseSlow(start, end);
+                    }
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (afterPoint) {
+                    exponent--;
+                }
+            } else if (b == '.' && !afterPoint) {
+                afterPoint = true;
+            } else {
+                break;
+            }
+        }
+        if (!sawDigit) {
+            return parseSlow(start, end);
+        }
+
+        if (i < end && (b == 'e' || b == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (window.get(i) == '-' || window.get(i) == '+')) {
+                negativeExponent = window.get(i) == '-';
+                i++;
+            }
+            int explicitExponent = 0;
+            int exponentDigits = 0;
+            for (; i < end; i++) {
+                b = window.get(i);
+                if (b < '0' || b > '9' || ++exponentDigits > 4) {
+                    return parseSlow(start, end);
+                }
+                explicitExponent = explicitExponent * 10 + (b - '0');
+            }
+            if (exponentDigits == 0) {
+                return parseSlow(start, end);
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (i != end || mantissa > MAX_EXACT_MANTISSA || exponent < -22 || exponent > 22) {
+            return parseSlow(start, end);
+        }
+
+        // Both operands are exact, so the single rounding of this operation gives the correctly rounded result
+        double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private double parseSlow(int start, int end) {
+        int length = end - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        for (int k = 0; k < length; k++) {
+            scratch[k] = window.get(start + k);
+        }
+        try {
+            return Double.parseDouble(new String(scratch, 0, length, StandardCharsets.ISO_8859_1));
+        } catch (NumberFormatException e) {
+            parseFailed = true;
+            return 0;
+        }
+    }
+}
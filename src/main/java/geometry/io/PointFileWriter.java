@@ -0,0 +1,162 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes text point files in the "x, y" format read by {@link PointFileReader}.
+ * By default coordinates are written {@link #LOSSLESS losslessly}, so reading the file back gives
+ * the same doubles. With a set number of decimals they are instead rounded to fixed-point notation,
+ * formatted straight into a byte buffer; values too large for that fall back to {@link Double#toString}.
+ */
+public final class PointFileWriter implements Closeable {
+    /**
+     * Decimals setting that writes each coordinate as the shortest decimal that reads back to the same
+     * double: integers without a fraction, anything else as {@link Double#toString} writes it.
+     */
+    public static final int LOSSLESS = -1;
+    // Integers below this magnitude are exact doubles and are written with the fixed-point digit loop
+    private static final double EXACT_INTEGER_LIMIT = 1e15;
+    private static final int MAX_DECIMALS = 9;
+    private static final int BUFFER_SIZE = 1 << 16;
+    // Longest fixed-point line: two signed 19-digit numbers with a decimal point, separator and newline
+    private static final int MAX_LINE_LENGTH = 64;
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final int decimals;
+    private final long scale;
+    // Values at or above this magnitude would overflow the scaled long
+    private final double fixedPointLimit;
+    private final byte[] digits = new byte[20];
+
+    /**
+     * Creates a writer that writes coordinates losslessly.
+     */
+    public PointFileWriter(Path path) throws IOException {
+        this(path, LOSSLESS);
+    }
+
+    /**
+     * @param decimals digits after the decimal point, from 0 to 9, or {@link #LOSSLESS}
+     */
+    public PointFileWriter(Path path, int decimals) throws IOException {
+        if (decimals != LOSSLESS && (decimals < 0 || decimals > MAX_DECIMALS)) {
+            throw new IllegalArgumentException("Decimals must be between 0 and " + MAX_DECIMALS + ": " + decimals);
+        }
+        this.decimals = decimals;
+        this.scale = decimals == LOSSLESS ? 1 : POWERS_OF_TEN[decimals];
+        this.fixedPointLimit = decimals == LOSSLESS ? 0 : 9e18 / scale;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                        StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Writes a '#' comment line.
+     */
+    public void comment(String text) throws IOException {
+        byte[] bytes = ("# " + text + "\n").getBytes(StandardCharsets.UTF_8);
+        if (buffer.remaining() < bytes.length) {
+            flush();
+        }
+        if (bytes.length > buffer.capacity()) {
+            writeFully(ByteBuffer.wrap(bytes));
+        } else {
+            buffer.put(bytes);
+        }
+    }
+
+    public void add(double x, double y) throws IOException {
+        if (buffer.remaining() < MAX_LINE_LENGTH) {
+            flush();
+        }
+        writeNumber(x);
+        buffer.put((byte) ',').put((byte) ' ');
+        writeNumber(y);
+        buffer.put((byte) '\n');
+    }
+
+    public void addAll(PointBuffer points) throws IOException {
+        for (int i = 0; i < points.size(); i++) {
+            add(points.getX(i), points.getY(i));
+        }
+    }
+
+    private void writeNumber(double value) throws IOException {
+        if (decimals == LOSSLESS && Math.abs(value) < EXACT_INTEGER_LIMIT && value == Math.rint(value)) {
+            // Whole numbers without the ".0" of Double.toString; the sign bit also keeps -0.0 apart from 0.0
+            long whole = Math.abs((long) value);
+            if (Double.doubleToRawLongBits(value) < 0) {
+                buffer.put((byte) '-');
+            }
+            writeDigits(whole, 1);
+            return;
+        }
+        if (!(Math.abs(value) < fixedPointLimit)) {
+            // Lossless output, infinities, NaN and huge values; only the latter may exceed the reserved length
+            byte[] bytes = Double.toString(value).getBytes(StandardCharsets.US_ASCII);
+            if (buffer.remaining() < bytes.length + MAX_LINE_LENGTH) {
+                flush();
+            }
+            buffer.put(bytes);
+            return;
+        }
+
+        long scaled = Math.round(value * scale);
+        if (scaled < 0) {
+            buffer.put((byte) '-');
+            scaled = -scaled;
+        }
+        writeDigits(scaled / scale, 1);
+        if (decimals > 0) {
+            buffer.put((byte) '.');
+            writeDigits(scaled % scale, decimals);
+        }
+    }
+
+    // Writes value in decimal, left-padded with zeros to at least minDigits digits
+    private void writeDigits(long value, int minDigits) {
+        int count = 0;
+        do {
+            digits[count++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        while (count < minDigits) {
+            digits[count++] = '0';
+        }
+        while (count > 0) {
+            buffer.put(digits[--count]);
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
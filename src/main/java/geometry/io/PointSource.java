@@ -0,0 +1,30 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Sequential source of points that is read in bounded chunks, so that inputs larger than the
+ * heap can be processed piece by piece.
+ */
+public interface PointSource extends Closeable {
+
+    /**
+     * Appends up to maxPoints further points to target.
+     * @return the number of points appended, 0 once the source is exhausted
+     */
+    int read(PointBuffer target, int maxPoints) throws IOException;
+
+    /**
+     * Opens a point file for chunked reading: binary point files by their extension, text files otherwise.
+     */
+    static PointSource open(Path path) throws IOException {
+        if (path.getFileName().toString().endsWith(BinaryPointFile.EXTENSION)) {
+            return new BinaryPointReader(path);
+        }
+        return new PointFileReader(path);
+    }
+}
@@ -0,0 +1,53 @@
+package metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of metrics listeners, and the switch that turns engine instrumentation on.
+ * Instrumentation is enabled exactly while at least one listener is registered. When it is
+ * disabled, {@link #startRun} returns null and engines skip all recording: the remaining cost is
+ * one volatile read per run and a few increments of local variables.
+ */
+public final class HullMetrics {
+    private static final List<HullMetricsListener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static volatile boolean enabled;
+
+    private HullMetrics() {
+    }
+
+    public static void addListener(HullMetricsListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener must not be null");
+        }
+        synchronized (LISTENERS) {
+            LISTENERS.add(listener);
+            enabled = true;
+        }
+    }
+
+    public static void removeListener(HullMetricsListener listener) {
+        synchronized (LISTENERS) {
+            LISTENERS.remove(listener);
+            enabled = !LISTENERS.isEmpty();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts recording a run.
+     * @return a recorder, or null if no listener is registered
+     */
+    public static MetricsRecorder startRun(String engine, int pointCount) {
+        return enabled ? new MetricsRecorder(engine, pointCount) : null;
+    }
+
+    static void publish(HullRunMetrics metrics) {
+        for (HullMetricsListener listener : LISTENERS) {
+            listener.runCompleted(metrics);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package metrics;
+
+/**
+ * Receives the metrics of every instrumented hull computation while registered with
+ * {@link HullMetrics}. Called on the computing thread, so implementations must be thread-safe
+ * and quick.
+ */
+@FunctionalInterface
+public interface HullMetricsListener {
+
+    void runCompleted(HullRunMetrics metrics);
+}
@@ -0,0 +1,24 @@
+package metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the metrics accumulated by {@link JmxHullMetrics}. Counter and phase keys have
+ * the form "engine / name".
+ */
+public interface HullMetricsMXBean {
+
+    long getRuns();
+
+    long getTotalPoints();
+
+    Map<String, Long> getRunsByEngine();
+
+    Map<String, Long> getCounters();
+
+    Map<String, Double> getPhaseMillis();
+
+    Map<String, Double> getTotalMillisByEngine();
+
+    void reset();
+}
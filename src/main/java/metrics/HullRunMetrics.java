@@ -0,0 +1,82 @@
+package metrics;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Operation counts and phase timings of one hull computation.
+ * Counter and phase names depend on the engine; both maps keep the order in which the engine
+ * first recorded them.
+ */
+public final class HullRunMetrics {
+    private final String engine;
+    private final int pointCount;
+    private final int hullSize;
+    private final long totalNanos;
+    private final Map<String, Long> counters;
+    private final Map<String, Long> phaseNanos;
+
+    HullRunMetrics(String engine, int pointCount, int hullSize, long totalNanos,
+                   Map<String, Long> counters, Map<String, Long> phaseNanos) {
+        this.engine = engine;
+        this.pointCount = pointCount;
+        this.hullSize = hullSize;
+        this.totalNanos = totalNanos;
+        this.counters = Collections.unmodifiableMap(new LinkedHashMap<>(counters));
+        this.phaseNanos = Collections.unmodifiableMap(new LinkedHashMap<>(phaseNanos));
+    }
+
+    public String getEngine() {
+        return engine;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public int getHullSize() {
+        return hullSize;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    /**
+     * @return the value of a counter, 0 if the engine did not record it
+     */
+    public long getCounter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+
+    public Map<String, Long> getPhaseNanos() {
+        return phaseNanos;
+    }
+
+    /**
+     * @return the time spent in a phase, 0 if the engine did not record it
+     */
+    public long getPhaseNanos(String name) {
+        return phaseNanos.getOrDefault(name, 0L);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%s: %d points, %d vertices in %.3f ms",
+                                  engine, pointCount, hullSize, totalNanos / 1e6));
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            text.append("\n  ").append(counter.getKey()).append(": ").append(counter.getValue());
+        }
+        for (Map.Entry<String, Long> phase : phaseNanos.entrySet()) {
+            text.append(String.format(Locale.ROOT, "\n  %s: %.3f ms", phase.getKey(), phase.getValue() / 1e6));
+        }
+        return text.toString();
+    }
+}
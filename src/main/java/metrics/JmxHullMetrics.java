@@ -0,0 +1,139 @@
+package metrics;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listener that accumulates run metrics and publishes the totals as an MXBean named
+ * {@value #OBJECT_NAME} on the platform MBean server, for JConsole, VisualVM or any JMX client.
+ */
+public final class JmxHullMetrics implements HullMetricsListener, HullMetricsMXBean {
+    public static final String OBJECT_NAME = "convexhull:type=HullMetrics";
+
+    private static JmxHullMetrics registered;
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder totalPoints = new LongAdder();
+    private final Map<String, LongAdder> runsByEngine = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> phaseNanos = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> totalNanosByEngine = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the MXBean and starts collecting, if not done already.
+     * @return the registered instance
+     */
+    public static synchronized JmxHullMetrics register() {
+        if (registered == null) {
+            JmxHullMetrics metrics = new JmxHullMetrics();
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+            } catch (InstanceAlreadyExistsException e) {
+                throw new IllegalStateException(OBJECT_NAME + " is already registered by another class loader", e);
+            } catch (JMException e) {
+                throw new IllegalStateException("Cannot register " + OBJECT_NAME, e);
+            }
+            HullMetrics.addListener(metrics);
+            registered = metrics;
+        }
+        return registered;
+    }
+
+    /**
+     * Stops collecting and removes the MXBean.
+     */
+    public static synchronized void unregister() {
+        if (registered == null) {
+            return;
+        }
+        HullMetrics.removeListener(registered);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException e) {
+            // Already removed through JMX
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister " + OBJECT_NAME, e);
+        }
+        registered = null;
+    }
+
+    @Override
+    public void runCompleted(HullRunMetrics metrics) {
+        String engine = metrics.getEngine();
+        runs.increment();
+        totalPoints.add(metrics.getPointCount());
+        add(runsByEngine, engine, 1);
+        add(totalNanosByEngine, engine, metrics.getTotalNanos());
+        for (Map.Entry<String, Long> counter : metrics.getCounters().entrySet()) {
+            add(counters, engine + " / " + counter.getKey(), counter.getValue());
+        }
+        for (Map.Entry<String, Long> phase : metrics.getPhaseNanos().entrySet()) {
+            add(phaseNanos, engine + " / " + phase.getKey(), phase.getValue());
+        }
+    }
+
+    private static void add(Map<String, LongAdder> totals, String key, long value) {
+        totals.computeIfAbsent(key, k -> new LongAdder()).add(value);
+    }
+
+    @Override
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    @Override
+    public long getTotalPoints() {
+        return totalPoints.sum();
+    }
+
+    @Override
+    public Map<String, Long> getRunsByEngine() {
+        return snapshot(runsByEngine);
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        return snapshot(counters);
+    }
+
+    @Override
+    public Map<String, Double> getPhaseMillis() {
+        return millis(phaseNanos);
+    }
+
+    @Override
+    public Map<String, Double> getTotalMillisByEngine() {
+        return millis(totalNanosByEngine);
+    }
+
+    @Override
+    public void reset() {
+        runs.reset();
+        totalPoints.reset();
+        runsByEngine.clear();
+        counters.clear();
+        phaseNanos.clear();
+        totalNanosByEngine.clear();
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> totals) {
+        Map<String, Long> result = new TreeMap<>();
+        totals.forEach((key, value) -> result.put(key, value.sum()));
+        return result;
+    }
+
+    private static Map<String, Double> millis(Map<String, LongAdder> nanos) {
+        Map<String, Double> result = new TreeMap<>();
+        nanos.forEach((key, value) -> result.put(key, value.sum() / 1e6));
+        return result;
+    }
+}
@@ -0,0 +1,60 @@
+package metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the counters and phase timings of one run; obtained from {@link HullMetrics#startRun}.
+ * Phases are consecutive: starting one ends the previous one. Not thread-safe; engines that work
+ * in parallel record totals from the calling thread.
+ */
+public final class MetricsRecorder {
+    private final String engine;
+    private final int pointCount;
+    private final long start = System.nanoTime();
+    private final Map<String, Long> counters = new LinkedHashMap<>();
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private String phase;
+    private long phaseStart;
+
+    MetricsRecorder(String engine, int pointCount) {
+        this.engine = engine;
+        this.pointCount = pointCount;
+    }
+
+    /**
+     * Ends the current phase, if any, and starts the named one. Time spent in a phase that is
+     * entered several times is added up.
+     */
+    public void phase(String name) {
+        long now = System.nanoTime();
+        endPhase(now);
+        phase = name;
+        phaseStart = now;
+    }
+
+    /**
+     * Adds delta to the named counter.
+     */
+    public void count(String name, long delta) {
+        counters.merge(name, delta, Long::sum);
+    }
+
+    /**
+     * Ends the run and passes its metrics to the registered listeners.
+     */
+    public HullRunMetrics finish(int hullSize) {
+        long now = System.nanoTime();
+        endPhase(now);
+        phase = null;
+        HullRunMetrics metrics = new HullRunMetrics(engine, pointCount, hullSize, now - start, counters, phaseNanos);
+        HullMetrics.publish(metrics);
+        return metrics;
+    }
+
+    private void endPhase(long now) {
+        if (phase != null) {
+            phaseNanos.merge(phase, now - phaseStart, Long::sum);
+        }
+    }
+}
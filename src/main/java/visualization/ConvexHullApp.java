@@ -1,55 +1,127 @@
 package visualization;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.control.Slider;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
 import javafx.scene.paint.Color;
 import javafx.geometry.Insets;
 
+import algorithms.ConvexHullAlgorithm;
+import algorithms.ConvexHullAlgorithms;
+import algorithms.FilteredHull;
 import algorithms.GrahamScan;
-import algorithms.ChanAlgorithm;
-import algorithms.JarvisMarch;
+import algorithms.HullComputation;
+import algorithms.HullProgress;
+import algorithms.HullTrace;
+import cache.CachingHullAlgorithm;
+import cache.HullCache;
 import geometry.Point;
+import geometry.PointBuffer;
+import geometry.io.BinaryPointFile;
+import geometry.io.BinaryPointReader;
+import geometry.io.PointFileReader;
+import geometry.io.PointSource;
+import metrics.JmxHullMetrics;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 public class ConvexHullApp extends Application {
 
     private Canvas canvas;
     private GraphicsContext gc;
     private GrahamScan grahamScan;
-    private JarvisMarch jarvisMarch;
-    private ChanAlgorithm chanAlgorithm;
+    private Map<String, ConvexHullAlgorithm> algorithms;
+    // The same engines behind an Akl-Toussaint pre-filter, and the filters themselves for their counts
+    private Map<String, ConvexHullAlgorithm> filteredAlgorithms;
+    private Map<String, FilteredHull> filters;
+    private HullCache hullCache;
     private List<Point> points;
+    // The same points packed, for binning them into a density raster
+    private PointBuffer packedPoints;
     private List<Point> convexHull;
+    // Hull computations run here, one at a time, so the FX thread never waits for an engine
+    private ExecutorService hullExecutor;
+    private HullTask hullTask;
+    // Files are read on their own thread and shown batch by batch as they arrive
+    private ExecutorService loadExecutor;
+    private LoadTask loadTask;
+    // Bounding box of the points loaded so far
+    private double minX;
+    private double maxX;
+    private double minY;
+    private double maxY;
+    // Density rasters are binned here, apart from hull computations that may take minutes
+    private ExecutorService renderExecutor;
+    private RenderTask renderTask;
+    private RenderResult rendered;
+    // The steps of the last traced computation, and their replay when one is running
+    private HullTrace lastTrace;
+    private AnimationTimer replayTimer;
     
     // Algorithm selection
-    private String currentAlgorithm = "Graham Scan";
+    private String currentAlgorithm = ConvexHullAlgorithms.GRAHAM_SCAN;
     
     // Constants for visualization
     private static final int POINT_RADIUS = 5;
+    // Up to this many points in view are drawn as ovals; more are drawn as a density raster
+    private static final int OVAL_LIMIT = 20_000;
+    private static final double ZOOM_STEP = 1.25;
+    private static final double DEFAULT_OFFSET = 200;
+    // Points parsed before a batch is handed to the canvas
+    private static final int LOAD_BATCH_SIZE = 1 << 16;
+    // Traces keep this many most recent steps
+    private static final int TRACE_CAPACITY = 1 << 20;
+    private static final Color TRACE_CANDIDATE_COLOR = Color.GREEN;
+    private static final Color TRACE_REJECT_COLOR = Color.GRAY;
     private static final Color POINT_COLOR = Color.BLUE;
     private static final Color HULL_COLOR = Color.RED;
     private static final Color BACKGROUND_COLOR = Color.LIGHTGRAY;
+    private static final long CACHE_MEMORY_BYTES = 64L * 1024 * 1024;
+    private static final long CACHE_DISK_BYTES = 256L * 1024 * 1024;
+    // Directory of the on-disk hull cache; without it hulls are cached in memory only
+    static final String CACHE_DIRECTORY_PROPERTY = "convexhull.cacheDir";
     
     // Status information
     private Label statusLabel;
+    private ProgressBar progressBar;
+    private Button cancelButton;
+    private Button runButton;
+    private CheckBox traceBox;
+    private CheckBox prefilterBox;
+    private Button replayButton;
+    private Slider replaySpeed;
 
     // Coordinate system parameters
-    private double xOffset = 200; // Increased to accommodate negative coordinates
-    private double yOffset = 200; // Increased to accommodate negative coordinates
+    private double xOffset = DEFAULT_OFFSET; // Increased to accommodate negative coordinates
+    private double yOffset = DEFAULT_OFFSET; // Increased to accommodate negative coordinates
     private double scale = 1.0;
 
     @Override
@@ -58,10 +130,35 @@ public class ConvexHullApp extends Application {
         
         // Initialize algorithms and point lists
         grahamScan = new GrahamScan();
-        jarvisMarch = new JarvisMarch();
-        chanAlgorithm = new ChanAlgorithm();
+        // Reloading a file and rerunning an engine is answered from the hull cache, across restarts if enabled
+        hullCache = createHullCache();
+        registerMetrics();
+        algorithms = new LinkedHashMap<>();
+        filteredAlgorithms = new LinkedHashMap<>();
+        filters = new LinkedHashMap<>();
+        for (String name : ConvexHullAlgorithms.names()) {
+            algorithms.put(name, new CachingHullAlgorithm(ConvexHullAlgorithms.create(name), hullCache));
+            FilteredHull filter = FilteredHull.withAklToussaint(ConvexHullAlgorithms.create(name));
+            filters.put(name, filter);
+            filteredAlgorithms.put(name, new CachingHullAlgorithm(filter, hullCache));
+        }
         points = new ArrayList<>();
         convexHull = new ArrayList<>();
+        hullExecutor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "convex-hull-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        loadExecutor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "convex-hull-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renderExecutor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "convex-hull-render");
+            thread.setDaemon(true);
+            return thread;
+        });
 
         // 1. Setup Layout
         BorderPane root = new BorderPane();
@@ -71,14 +168,25 @@ public class ConvexHullApp extends Application {
 
         // 2. Setup Controls (Buttons etc.)
         Button loadButton = new Button("Load Points");
-        Button runButton = new Button("Run Algorithm");
+        runButton = new Button("Run Algorithm");
         Button clearButton = new Button("Clear");
+        cancelButton = new Button("Cancel");
+        cancelButton.setDisable(true);
+        
+        // Tracing records each engine step for replay; replay speed is in steps per second, on a log scale
+        traceBox = new CheckBox("Record trace");
+        prefilterBox = new CheckBox("Akl-Toussaint pre-filter");
+        replayButton = new Button("Replay Trace");
+        replayButton.setDisable(true);
+        replaySpeed = new Slider(0, 6, 2);
+        Label replaySpeedLabel = new Label();
+        replaySpeedLabel.textProperty().bind(replaySpeed.valueProperty().asString("Replay: 10^%.1f steps/s"));
         
         // Algorithm selection dropdown
         Label algorithmLabel = new Label("Algorithm:");
         ComboBox<String> algorithmSelector = new ComboBox<>();
-        algorithmSelector.getItems().addAll("Graham Scan", "Jarvis March", "Chan's Algorithm");
-        algorithmSelector.setValue("Graham Scan");
+        algorithmSelector.getItems().addAll(algorithms.keySet());
+        algorithmSelector.setValue(currentAlgorithm);
         algorithmSelector.setOnAction(e -> currentAlgorithm = algorithmSelector.getValue());
         
         // Layout for algorithm selection
@@ -86,9 +194,12 @@ public class ConvexHullApp extends Application {
         algorithmBox.setPadding(new Insets(10));
         
         // Status label for algorithm information
-        statusLabel = new Label("Status: Ready");
+        statusLabel = new Label("Status: Ready. " + describeHullCache());
         statusLabel.setMinWidth(200);
         statusLabel.setWrapText(true);
+        progressBar = new ProgressBar(0);
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        progressBar.setVisible(false);
         
         // Add info labels for coordinates when hovering
         Label pointInfoLabel = new Label("Point: N/A");
@@ -100,8 +211,24 @@ public class ConvexHullApp extends Application {
             pointInfoLabel.setText(String.format("Mouse at: (%.1f, %.1f)", worldX, worldY));
         });
         
+        // Zoom around the mouse position; ovals replace the raster once few enough points are in view
+        canvas.setOnScroll(e -> {
+            if (e.getDeltaY() == 0) {
+                return;
+            }
+            double factor = e.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP;
+            double worldX = (e.getX() - xOffset) / scale;
+            double worldY = (canvas.getHeight() - yOffset - e.getY()) / scale;
+            scale *= factor;
+            xOffset = e.getX() - worldX * scale;
+            yOffset = canvas.getHeight() - e.getY() - worldY * scale;
+            redraw();
+        });
+        
         // Vertical box for all controls
-        VBox controls = new VBox(10, algorithmBox, loadButton, runButton, clearButton, statusLabel, pointInfoLabel);
+        VBox controls = new VBox(10, algorithmBox, loadButton, runButton, cancelButton, clearButton,
+                                 prefilterBox, traceBox, replayButton, replaySpeedLabel, replaySpeed,
+                                 statusLabel, progressBar, pointInfoLabel);
         controls.setPadding(new Insets(10));
         root.setLeft(controls);
 
@@ -109,6 +236,8 @@ public class ConvexHullApp extends Application {
         loadButton.setOnAction(e -> handleLoadPoints(primaryStage));
         runButton.setOnAction(e -> handleRunScan());
         clearButton.setOnAction(e -> handleClear());
+        cancelButton.setOnAction(e -> cancelHullTask());
+        replayButton.setOnAction(e -> handleReplay());
 
         // 4. Create and Show Scene
         Scene scene = new Scene(root, 800, 600);
@@ -125,32 +254,183 @@ public class ConvexHullApp extends Application {
     private void handleLoadPoints(Stage ownerStage) {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Open Points File");
-        fileChooser.getExtensionFilters().add(
-            new FileChooser.ExtensionFilter("Text Files", "*.txt")
+        fileChooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("Text Files", "*.txt"),
+            new FileChooser.ExtensionFilter("Binary Point Files", "*" + BinaryPointFile.EXTENSION)
         );
         
         File selectedFile = fileChooser.showOpenDialog(ownerStage);
         if (selectedFile != null) {
-            try {
-                // Clear existing points
-                points.clear();
-                convexHull.clear();
-                
-                // Load points from file
-                points = grahamScan.readPointsFromFile(selectedFile.getAbsolutePath());
-                
-                // Adjust scale based on points
-                adjustScale();
-                
-                // Redraw
-                drawBackground();
-                drawCoordinateSystem();
-                drawPoints();
-                
-                System.out.println("Loaded " + points.size() + " points");
-            } catch (IOException e) {
-                System.err.println("Error loading points: " + e.getMessage());
+            // A hull of the previous points is of no use any more
+            cancelHullTask();
+            cancelLoadTask();
+            stopReplay();
+            setLastTrace(null);
+            
+            // Clear existing points; the new ones are shown as they are read
+            points = new ArrayList<>();
+            packedPoints = new PointBuffer();
+            convexHull.clear();
+            xOffset = DEFAULT_OFFSET;
+            yOffset = DEFAULT_OFFSET;
+            minX = Double.POSITIVE_INFINITY;
+            maxX = Double.NEGATIVE_INFINITY;
+            minY = Double.POSITIVE_INFINITY;
+            maxY = Double.NEGATIVE_INFINITY;
+            redraw();
+            
+            LoadTask task = new LoadTask(selectedFile.toPath());
+            task.setOnSucceeded(e -> finishLoadTask(task, "Loaded " + points.size() + " points from "
+                                                           + selectedFile.getName() + " (" + task.throughput() + ")"));
+            task.setOnCancelled(e -> finishLoadTask(task, "Loading " + selectedFile.getName() + " cancelled after "
+                                                          + points.size() + " points"));
+            task.setOnFailed(e -> finishLoadTask(task, "Error loading points: " + task.getException().getMessage()));
+            
+            loadTask = task;
+            statusLabel.setText("Status: Loading " + selectedFile.getName());
+            progressBar.progressProperty().bind(task.progressProperty());
+            progressBar.setVisible(true);
+            runButton.setDisable(true);
+            loadExecutor.execute(task);
+        }
+    }
+
+    /**
+     * Adds a batch of loaded points, growing the view to their bounding box. Runs on the FX thread.
+     */
+    private void addLoadedBatch(LoadTask task, LoadBatch batch) {
+        // Batches of a superseded or cancelled load may still be queued
+        if (task != loadTask || task.isCancelled()) {
+            return;
+        }
+        points.addAll(batch.points);
+        packedPoints.addAll(batch.packed);
+        if (batch.minX < minX || batch.maxX > maxX || batch.minY < minY || batch.maxY > maxY) {
+            minX = Math.min(minX, batch.minX);
+            maxX = Math.max(maxX, batch.maxX);
+            minY = Math.min(minY, batch.minY);
+            maxY = Math.max(maxY, batch.maxY);
+            adjustScale(minX, maxX, minY, maxY);
+        }
+        redraw();
+        statusLabel.setText("Status: Loading, " + points.size() + " points (" + task.throughput() + ")");
+    }
+
+    private void cancelLoadTask() {
+        if (loadTask != null) {
+            loadTask.cancel();
+        }
+    }
+
+    private void finishLoadTask(LoadTask task, String status) {
+        System.out.println(status);
+        if (task != loadTask) {
+            return;
+        }
+        loadTask = null;
+        progressBar.progressProperty().unbind();
+        progressBar.setVisible(false);
+        runButton.setDisable(false);
+        statusLabel.setText("Status: " + status);
+    }
+
+    /**
+     * Sizes the view once from bounds known before loading, such as a binary file's header. Runs on the FX thread.
+     */
+    private void setLoadBounds(LoadTask task, double minX, double maxX, double minY, double maxY) {
+        if (task != loadTask || task.isCancelled()) {
+            return;
+        }
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+        adjustScale(minX, maxX, minY, maxY);
+    }
+
+    /**
+     * Points parsed by a {@link LoadTask}, with their bounding box if it was scanned.
+     */
+    private static final class LoadBatch {
+        private final PointBuffer packed;
+        private final List<Point> points;
+        private final double minX;
+        private final double maxX;
+        private final double minY;
+        private final double maxY;
+
+        /**
+         * @param scanBounds false if the view was already sized for the whole file, leaving the box empty
+         */
+        LoadBatch(PointBuffer packed, boolean scanBounds) {
+            this.packed = packed;
+            this.points = packed.toList();
+            double x0 = Double.POSITIVE_INFINITY;
+            double x1 = Double.NEGATIVE_INFINITY;
+            double y0 = Double.POSITIVE_INFINITY;
+            double y1 = Double.NEGATIVE_INFINITY;
+            for (int i = 0; scanBounds && i < packed.size(); i++) {
+                x0 = Math.min(x0, packed.getX(i));
+                x1 = Math.max(x1, packed.getX(i));
+                y0 = Math.min(y0, packed.getY(i));
+                y1 = Math.max(y1, packed.getY(i));
+            }
+            this.minX = x0;
+            this.maxX = x1;
+            this.minY = y0;
+            this.maxY = y1;
+        }
+    }
+
+    /**
+     * Streams a text or binary point file in batches, handing each to the FX thread as soon as
+     * it is parsed. Progress is the share of the file read.
+     */
+    private final class LoadTask extends Task<Void> {
+        private final Path file;
+        private final long start = System.nanoTime();
+        private volatile long loaded;
+
+        LoadTask(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        protected Void call() throws IOException {
+            try (PointSource source = PointSource.open(file)) {
+                // Binary files carry their bounds in the header, so only text batches need scanning
+                boolean binary = source instanceof BinaryPointReader;
+                if (binary && ((BinaryPointReader) source).getCount() > 0) {
+                    BinaryPointReader reader = (BinaryPointReader) source;
+                    Platform.runLater(() -> setLoadBounds(this, reader.getMinX(), reader.getMaxX(),
+                                                          reader.getMinY(), reader.getMaxY()));
+                }
+                while (!isCancelled()) {
+                    PointBuffer batch = new PointBuffer(LOAD_BATCH_SIZE);
+                    int read = source.read(batch, LOAD_BATCH_SIZE);
+                    if (read == 0) {
+                        break;
+                    }
+                    loaded += read;
+                    if (source instanceof PointFileReader) {
+                        PointFileReader reader = (PointFileReader) source;
+                        updateProgress(reader.getBytesRead(), reader.getFileSize());
+                    } else {
+                        updateProgress(loaded, ((BinaryPointReader) source).getCount());
+                    }
+                    LoadBatch parsed = new LoadBatch(batch, !binary);
+                    Platform.runLater(() -> addLoadedBatch(this, parsed));
+                }
             }
+            return null;
+        }
+
+        /**
+         * @return the load rate so far, for the status label
+         */
+        String throughput() {
+            double seconds = Math.max(System.nanoTime() - start, 1) / 1e9;
+            return String.format("%.0f points/s", loaded / seconds);
         }
     }
 
@@ -160,42 +440,233 @@ public class ConvexHullApp extends Application {
             return;
         }
         
-        // Use the selected algorithm
-        long startTime = System.nanoTime();
-        
-        switch (currentAlgorithm) {
-            case "Graham Scan":
-                convexHull = grahamScan.findConvexHull(points);
-                break;
-            case "Jarvis March":
-                convexHull = jarvisMarch.findConvexHull(points);
-                break;
-            case "Chan's Algorithm":
-                convexHull = chanAlgorithm.findConvexHull(points);
-                break;
-            default:
-                convexHull = grahamScan.findConvexHull(points);
+        // Use the selected algorithm; a computation still running is superseded
+        cancelHullTask();
+        stopReplay();
+        boolean prefilter = prefilterBox.isSelected();
+        ConvexHullAlgorithm algorithm = (prefilter ? filteredAlgorithms : algorithms).getOrDefault(currentAlgorithm, grahamScan);
+        FilteredHull filter = prefilter ? filters.get(currentAlgorithm) : null;
+        HullTrace trace = null;
+        if (traceBox.isSelected()) {
+            // A cached result has no steps to record, so traced runs bypass the cache
+            algorithm = ConvexHullAlgorithms.create(currentAlgorithm);
+            if (prefilter) {
+                filter = FilteredHull.withAklToussaint(algorithm);
+                algorithm = filter;
+            }
+            trace = new HullTrace(TRACE_CAPACITY);
         }
+        HullTask task = new HullTask(currentAlgorithm, algorithm, filter, new ArrayList<>(points), trace);
         
-        long endTime = System.nanoTime();
-        double elapsedTimeMs = (endTime - startTime) / 1_000_000.0; // Convert to milliseconds
+        // The previous hull stays on screen until the new one is ready
+        task.messageProperty().addListener((observable, previous, message) -> {
+            if (task == hullTask) {
+                statusLabel.setText("Status: " + message);
+            }
+        });
+        task.setOnSucceeded(e -> {
+            convexHull = task.getValue() != null ? task.getValue() : new ArrayList<>();
+            redraw();
+            
+            String status = task.engineName + " computed hull with " + convexHull.size() +
+                            " vertices in " + String.format("%.2f", task.elapsedNanos / 1_000_000.0) + " ms";
+            if (task.cached) {
+                status += " (cached; " + hullCache.getHits() + " hits, " + hullCache.getMisses() + " misses)";
+            } else if (task.filter != null) {
+                status += "; pre-filter discarded " + task.eliminated + " of " + task.input.size() + " points";
+            }
+            if (task.trace != null) {
+                status += "; " + task.trace.getEventCount() + " steps traced";
+                if (task.trace.getDropped() > 0) {
+                    status += ", replay shows the last " + task.trace.size();
+                }
+                setLastTrace(task.trace);
+            }
+            finishHullTask(task, status);
+        });
+        task.setOnCancelled(e -> finishHullTask(task, task.engineName + " cancelled"));
+        task.setOnFailed(e -> finishHullTask(task, task.engineName + " failed: " + task.getException()));
         
-        // Redraw with hull
+        hullTask = task;
+        statusLabel.setText("Status: Running " + task.engineName + " on " + points.size() + " points");
+        progressBar.progressProperty().bind(task.progressProperty());
+        progressBar.setVisible(true);
+        cancelButton.setDisable(false);
+        hullExecutor.execute(task);
+    }
+
+    private void cancelHullTask() {
+        if (hullTask != null) {
+            hullTask.cancel();
+        }
+    }
+
+    private void finishHullTask(HullTask task, String status) {
+        System.out.println(status);
+        // A superseded task must not touch the controls of the one that replaced it
+        if (task != hullTask) {
+            return;
+        }
+        hullTask = null;
+        progressBar.progressProperty().unbind();
+        progressBar.setVisible(false);
+        cancelButton.setDisable(true);
+        statusLabel.setText("Status: " + status);
+    }
+
+    /**
+     * Computes a hull on the worker thread. Engines report progress through it and stop when it
+     * is cancelled, since cancelling interrupts the worker.
+     */
+    private static final class HullTask extends Task<List<Point>> implements HullProgress {
+        private final String engineName;
+        private final ConvexHullAlgorithm algorithm;
+        private final List<Point> input;
+        private final HullTrace trace;
+        private final FilteredHull filter;
+        // Written on the worker thread before the task succeeds, read on the FX thread after
+        private volatile long elapsedNanos;
+        private volatile boolean cached;
+        private volatile int eliminated;
+
+        HullTask(String engineName, ConvexHullAlgorithm algorithm, FilteredHull filter, List<Point> input,
+                 HullTrace trace) {
+            this.filter = filter;
+            this.engineName = engineName;
+            this.algorithm = algorithm;
+            this.input = input;
+            this.trace = trace;
+        }
+
+        @Override
+        protected List<Point> call() {
+            long start = System.nanoTime();
+            Supplier<List<Point>> computation = () -> HullComputation.run(this, () -> algorithm.findConvexHull(input));
+            List<Point> hull = trace != null ? trace.record(computation) : computation.get();
+            elapsedNanos = System.nanoTime() - start;
+            cached = algorithm instanceof CachingHullAlgorithm && ((CachingHullAlgorithm) algorithm).wasLastHit();
+            if (filter != null && !cached) {
+                eliminated = filter.getLastEliminatedCount();
+            }
+            return hull;
+        }
+
+        @Override
+        public void update(String stage, long done, long total) {
+            if (total >= 0) {
+                updateMessage(engineName + ": " + stage + " " + done + " of " + total);
+                updateProgress(done, total);
+            } else {
+                updateMessage(engineName + ": " + stage + ", " + done + " hull vertices so far");
+                updateProgress(-1, -1);
+            }
+        }
+    }
+
+    private void setLastTrace(HullTrace trace) {
+        lastTrace = trace != null && trace.size() > 0 ? trace : null;
+        replayButton.setDisable(lastTrace == null);
+    }
+
+    private void handleReplay() {
+        if (lastTrace == null) {
+            return;
+        }
+        stopReplay();
+        TraceReplay replay = new TraceReplay(lastTrace);
+        replayTimer = new AnimationTimer() {
+            private long lastFrame;
+            private double due;
+
+            @Override
+            public void handle(long now) {
+                if (lastFrame != 0) {
+                    // The speed can be changed while the replay runs
+                    due += Math.pow(10, replaySpeed.getValue()) * (now - lastFrame) / 1e9;
+                }
+                lastFrame = now;
+                int steps = (int) Math.min(due, Integer.MAX_VALUE);
+                due -= replay.advance(steps);
+                if (replay.isFinished()) {
+                    stopReplay();
+                    return;
+                }
+                drawReplay(replay);
+                statusLabel.setText("Status: Replaying step " + replay.getPosition() + " of " + lastTrace.size());
+            }
+        };
+        replayTimer.start();
+    }
+
+    private void stopReplay() {
+        if (replayTimer != null) {
+            replayTimer.stop();
+            replayTimer = null;
+            redraw();
+        }
+    }
+
+    private void drawReplay(TraceReplay replay) {
         drawBackground();
         drawCoordinateSystem();
         drawPoints();
-        drawHull();
         
-        // Update status label
-        String status = currentAlgorithm + " computed hull with " + convexHull.size() + 
-                        " vertices in " + String.format("%.2f", elapsedTimeMs) + " ms";
-        statusLabel.setText("Status: " + status);
+        // The hull under construction, as an open chain
+        gc.setStroke(HULL_COLOR);
+        gc.setLineWidth(2);
+        int size = replay.getHullSize();
+        for (int i = 1; i < size; i++) {
+            gc.strokeLine(worldToScreenX(replay.getHullX(i - 1)), worldToScreenY(replay.getHullY(i - 1)),
+                          worldToScreenX(replay.getHullX(i)), worldToScreenY(replay.getHullY(i)));
+        }
         
-        System.out.println(status);
+        // The point the engine is looking at from the last hull vertex
+        if (size > 0 && replay.getProbeKind() >= 0) {
+            gc.setStroke(replay.getProbeKind() == HullTrace.REJECT ? TRACE_REJECT_COLOR : TRACE_CANDIDATE_COLOR);
+            gc.setLineWidth(1);
+            gc.strokeLine(worldToScreenX(replay.getHullX(size - 1)), worldToScreenY(replay.getHullY(size - 1)),
+                          worldToScreenX(replay.getProbeX()), worldToScreenY(replay.getProbeY()));
+        }
+    }
+
+    // Running totals of every engine run, for JConsole or VisualVM attached to the app
+    private static void registerMetrics() {
+        try {
+            JmxHullMetrics.register();
+        } catch (IllegalStateException e) {
+            System.err.println("Hull metrics not published over JMX: " + e.getMessage());
+        }
+    }
+
+    // Memory only unless the cache directory property is set, so nothing is written to disk without asking
+    private static HullCache createHullCache() {
+        String directory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+        if (directory == null || directory.isEmpty()) {
+            return new HullCache(CACHE_MEMORY_BYTES);
+        }
+        try {
+            return new HullCache(CACHE_MEMORY_BYTES, Paths.get(directory), CACHE_DISK_BYTES);
+        } catch (IOException e) {
+            System.err.println("Hull cache directory unavailable, caching in memory only: " + e.getMessage());
+            return new HullCache(CACHE_MEMORY_BYTES);
+        }
+    }
+
+    private String describeHullCache() {
+        Path directory = hullCache.getDirectory();
+        return directory != null
+            ? "Hull cache: " + directory + " (up to " + CACHE_DISK_BYTES / (1024 * 1024) + " MB)"
+            : "Hull cache: memory only (-D" + CACHE_DIRECTORY_PROPERTY + "=DIR keeps hulls across restarts)";
     }
 
     private void handleClear() {
+        cancelHullTask();
+        cancelLoadTask();
+        stopReplay();
+        setLastTrace(null);
         points.clear();
+        packedPoints = null;
+        rendered = null;
         convexHull.clear();
         drawBackground();
         drawCoordinateSystem();
@@ -294,21 +765,192 @@ public class ConvexHullApp extends Application {
         }
     }
 
+    private void redraw() {
+        drawBackground();
+        drawCoordinateSystem();
+        drawPoints();
+        drawHull();
+    }
+
     private void drawPoints() {
-        if (points == null || points.isEmpty()) return;
+        if (points == null || points.isEmpty() || packedPoints == null) return;
         
+        if (points.size() <= OVAL_LIMIT) {
+            drawOvals(packedPoints);
+            return;
+        }
+        
+        // Large sets are binned off the FX thread; until the raster for this view is ready,
+        // the last one is drawn stretched to the current view
+        RenderView view = currentView();
+        if (rendered != null && rendered.view.source != packedPoints) {
+            rendered = null;
+        }
+        if (rendered != null) {
+            drawRendered(rendered, view);
+        }
+        if ((rendered == null || !rendered.view.equals(view)) && (renderTask == null || !renderTask.view.equals(view))) {
+            requestRender(view);
+        }
+    }
+
+    private void drawOvals(PointBuffer visible) {
         gc.setFill(POINT_COLOR);
         
-        for (Point p : points) {
-            // Convert from world coordinates to screen coordinates
-            double screenX = worldToScreenX(p.getX());
-            double screenY = worldToScreenY(p.getY());
-            
+        // The world-to-screen transform, hoisted out of the loop
+        double originX = xOffset;
+        double originY = canvas.getHeight() - yOffset;
+        double s = scale;
+        for (int i = 0; i < visible.size(); i++) {
+            double screenX = originX + visible.getX(i) * s;
+            double screenY = originY - visible.getY(i) * s;
             gc.fillOval(screenX - POINT_RADIUS, screenY - POINT_RADIUS, 
                       POINT_RADIUS * 2, POINT_RADIUS * 2);
         }
     }
 
+    private void drawRendered(RenderResult result, RenderView view) {
+        if (result.visible != null) {
+            drawOvals(result.visible);
+            return;
+        }
+        // Pixel p of the raster shows world x = (p - originX) / scale, which the current view puts at
+        // view.originX + (p - originX) * view.scale / scale
+        double ratio = view.scale / result.view.scale;
+        gc.drawImage(result.image,
+                     view.originX - result.view.originX * ratio, view.originY - result.view.originY * ratio,
+                     result.view.width * ratio, result.view.height * ratio);
+    }
+
+    private RenderView currentView() {
+        return new RenderView(packedPoints, (int) canvas.getWidth(), (int) canvas.getHeight(),
+                              xOffset, canvas.getHeight() - yOffset, scale);
+    }
+
+    private void requestRender(RenderView view) {
+        if (renderTask != null) {
+            renderTask.cancel();
+        }
+        RenderTask task = new RenderTask(view);
+        task.setOnSucceeded(e -> {
+            if (task != renderTask) {
+                return;
+            }
+            renderTask = null;
+            RenderResult result = task.getValue();
+            if (result.argb != null) {
+                result.image = new WritableImage(view.width, view.height);
+                result.image.getPixelWriter().setPixels(0, 0, view.width, view.height,
+                                                        PixelFormat.getIntArgbInstance(), result.argb, 0, view.width);
+                result.argb = null;
+            }
+            // Points replaced or cleared in the meantime must not come back
+            if (view.source == packedPoints) {
+                rendered = result;
+                redraw();
+            }
+        });
+        task.setOnFailed(e -> {
+            if (task == renderTask) {
+                renderTask = null;
+            }
+            System.err.println("Error rendering points: " + task.getException());
+        });
+        renderTask = task;
+        renderExecutor.execute(task);
+    }
+
+    /**
+     * The points and world-to-screen transform a raster was binned for. The points are a view of
+     * the first size points of source, which only grows while a file loads, so the view never
+     * changes under the render thread.
+     */
+    private static final class RenderView {
+        private final PointBuffer source;
+        private final int size;
+        private final PointBuffer points;
+        private final int width;
+        private final int height;
+        private final double originX;
+        private final double originY;
+        private final double scale;
+
+        RenderView(PointBuffer source, int width, int height, double originX, double originY, double scale) {
+            this.source = source;
+            this.size = source.size();
+            this.points = source.slice(0, size);
+            this.width = width;
+            this.height = height;
+            this.originX = originX;
+            this.originY = originY;
+            this.scale = scale;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof RenderView)) {
+                return false;
+            }
+            RenderView view = (RenderView) other;
+            return source == view.source && size == view.size && width == view.width && height == view.height
+                && originX == view.originX && originY == view.originY && scale == view.scale;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(source) * 31 + size;
+        }
+    }
+
+    /**
+     * A binned view: either a density raster or, when few points are in view, those points.
+     */
+    private static final class RenderResult {
+        private final RenderView view;
+        private final PointBuffer visible;
+        private int[] argb;
+        private WritableImage image;
+
+        RenderResult(RenderView view, PointBuffer visible, int[] argb) {
+            this.view = view;
+            this.visible = visible;
+            this.argb = argb;
+        }
+    }
+
+    /**
+     * Bins the points of a view on the fork/join pool, off the FX thread.
+     */
+    private static final class RenderTask extends Task<RenderResult> {
+        private final RenderView view;
+
+        RenderTask(RenderView view) {
+            this.view = view;
+        }
+
+        @Override
+        protected RenderResult call() {
+            DensityGrid grid = DensityGrid.bin(view.points, view.width, view.height,
+                                               view.originX, view.originY, view.scale, ForkJoinPool.commonPool());
+            if (grid.getPointsInView() > OVAL_LIMIT) {
+                return new RenderResult(view, null, grid.toArgb());
+            }
+            // Zoomed in far enough to draw the points in view individually
+            PointBuffer visible = new PointBuffer((int) grid.getPointsInView());
+            for (int i = 0; i < view.points.size(); i++) {
+                double x = view.points.getX(i);
+                double y = view.points.getY(i);
+                double sx = view.originX + x * view.scale;
+                double sy = view.originY - y * view.scale;
+                if (sx >= -POINT_RADIUS && sx < view.width + POINT_RADIUS
+                    && sy >= -POINT_RADIUS && sy < view.height + POINT_RADIUS) {
+                    visible.add(x, y);
+                }
+            }
+            return new RenderResult(view, visible, null);
+        }
+    }
+
     private void drawHull() {
         if (convexHull == null || convexHull.size() < 3) return;
         
@@ -329,22 +971,12 @@ public class ConvexHullApp extends Application {
         }
     }
     
-    private void adjustScale() {
+    /**
+     * Fits the given bounds, padded by 10%, into the canvas.
+     */
+    private void adjustScale(double minX, double maxX, double minY, double maxY) {
         if (points == null || points.isEmpty()) return;
         
-        // Find bounds of the points
-        double minX = Double.MAX_VALUE;
-        double maxX = Double.MIN_VALUE;
-        double minY = Double.MAX_VALUE;
-        double maxY = Double.MIN_VALUE;
-        
-        for (Point p : points) {
-            minX = Math.min(minX, p.getX());
-            maxX = Math.max(maxX, p.getX());
-            minY = Math.min(minY, p.getY());
-            maxY = Math.max(maxY, p.getY());
-        }
-        
         // Calculate the range
         double rangeX = maxX - minX;
         double rangeY = maxY - minY;
@@ -410,6 +1042,20 @@ public class ConvexHullApp extends Application {
         return (canvas.getHeight() - yOffset) - worldY * scale;
     }
 
+    @Override
+    public void stop() {
+        JmxHullMetrics.unregister();
+        if (hullExecutor != null) {
+            hullExecutor.shutdownNow();
+        }
+        if (loadExecutor != null) {
+            loadExecutor.shutdownNow();
+        }
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
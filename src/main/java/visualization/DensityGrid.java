@@ -0,0 +1,157 @@
+package visualization;
+
+import geometry.PointBuffer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Per-pixel point counts of a view, for drawing large point sets as one image instead of one
+ * shape per point. Binning runs in parallel on a fork/join pool and needs no JavaFX, so it can
+ * be done off the FX thread.
+ */
+public final class DensityGrid {
+    // Each binning task covers at least this many points, since every task allocates a full grid
+    private static final int MIN_POINTS_PER_TASK = 1 << 16;
+    // Colors of the sparsest and the densest pixels
+    private static final int LOW_RGB = 0x9ECAE1;
+    private static final int HIGH_RGB = 0x08306B;
+
+    private final int width;
+    private final int height;
+    private final int[] counts;
+    private final long pointsInView;
+    private final int maxCount;
+
+    private DensityGrid(int width, int height, int[] counts) {
+        this.width = width;
+        this.height = height;
+        this.counts = counts;
+        long total = 0;
+        int max = 0;
+        for (int count : counts) {
+            total += count;
+            max = Math.max(max, count);
+        }
+        this.pointsInView = total;
+        this.maxCount = max;
+    }
+
+    /**
+     * Counts the points falling on each pixel of a width x height view, where the world point
+     * (x, y) appears at screen position (originX + x * scale, originY - y * scale).
+     */
+    public static DensityGrid bin(PointBuffer points, int width, int height,
+                                  double originX, double originY, double scale, ForkJoinPool pool) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid size must be positive: " + width + " x " + height);
+        }
+        int n = points.size();
+        int perTask = Math.max(MIN_POINTS_PER_TASK, n / (4 * pool.getParallelism()) + 1);
+        int[] counts = pool.invoke(new BinTask(points, 0, n, perTask, width, height, originX, originY, scale));
+        return new DensityGrid(width, height, counts);
+    }
+
+    private static final class BinTask extends RecursiveTask<int[]> {
+        private final PointBuffer points;
+        private final int from;
+        private final int to;
+        private final int perTask;
+        private final int width;
+        private final int height;
+        private final double originX;
+        private final double originY;
+        private final double scale;
+
+        BinTask(PointBuffer points, int from, int to, int perTask, int width, int height,
+                double originX, double originY, double scale) {
+            this.points = points;
+            this.from = from;
+            this.to = to;
+            this.perTask = perTask;
+            this.width = width;
+            this.height = height;
+            this.originX = originX;
+            this.originY = originY;
+            this.scale = scale;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from > perTask) {
+                int mid = (from + to) >>> 1;
+                BinTask left = new BinTask(points, from, mid, perTask, width, height, originX, originY, scale);
+                left.fork();
+                int[] right = new BinTask(points, mid, to, perTask, width, height, originX, originY, scale).compute();
+                int[] merged = left.join();
+                for (int i = 0; i < merged.length; i++) {
+                    merged[i] += right[i];
+                }
+                return merged;
+            }
+            int[] counts = new int[width * height];
+            double[] xs = points.xArray();
+            double[] ys = points.yArray();
+            int offset = points.offset();
+            for (int i = from + offset; i < to + offset; i++) {
+                // Floor, not truncation, so points just left of or above the view stay out of it
+                double sx = Math.floor(originX + xs[i] * scale);
+                double sy = Math.floor(originY - ys[i] * scale);
+                if (sx >= 0 && sx < width && sy >= 0 && sy < height) {
+                    counts[(int) sy * width + (int) sx]++;
+                }
+            }
+            return counts;
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getCount(int x, int y) {
+        return counts[y * width + x];
+    }
+
+    /**
+     * @return the number of points that fall inside the view
+     */
+    public long getPointsInView() {
+        return pointsInView;
+    }
+
+    public int getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * Colors the grid as ARGB pixels, row by row: empty pixels are transparent, and occupied ones
+     * shade from light to dark blue with the logarithm of their count, so that single points
+     * stay visible next to dense clusters.
+     */
+    public int[] toArgb() {
+        int[] argb = new int[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            int count = counts[i];
+            if (count > 0) {
+                double t = maxCount == 1 ? 1 : Math.log1p(count - 1) / Math.log1p(maxCount - 1);
+                argb[i] = 0xFF000000 | blend(LOW_RGB, HIGH_RGB, t);
+            }
+        }
+        return argb;
+    }
+
+    private static int blend(int low, int high, double t) {
+        int rgb = 0;
+        for (int shift = 16; shift >= 0; shift -= 8) {
+            int a = (low >> shift) & 0xFF;
+            int b = (high >> shift) & 0xFF;
+            rgb |= ((int) Math.round(a + (b - a) * t)) << shift;
+        }
+        return rgb;
+    }
+}
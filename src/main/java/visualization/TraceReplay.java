@@ -0,0 +1,100 @@
+package visualization;
+
+import algorithms.HullTrace;
+import geometry.PointBuffer;
+
+/**
+ * Steps through a {@link HullTrace}, keeping the hull under construction and the point the
+ * engine last looked at, for drawing a recorded computation frame by frame.
+ */
+public final class TraceReplay {
+    private final HullTrace trace;
+    private final PointBuffer stack = new PointBuffer();
+    private int stackSize;
+    private int position;
+    private int probeKind = -1;
+    private double probeX;
+    private double probeY;
+
+    public TraceReplay(HullTrace trace) {
+        this.trace = trace;
+    }
+
+    /**
+     * Applies up to the given number of events.
+     * @return the number of events applied
+     */
+    public int advance(int events) {
+        int end = (int) Math.min((long) position + Math.max(events, 0), trace.size());
+        int applied = end - position;
+        for (; position < end; position++) {
+            apply(trace.getKind(position), trace.getX(position), trace.getY(position));
+        }
+        return applied;
+    }
+
+    private void apply(int kind, double x, double y) {
+        switch (kind) {
+            case HullTrace.START:
+                stackSize = 0;
+                probeKind = -1;
+                break;
+            case HullTrace.PUSH:
+                if (stackSize < stack.size()) {
+                    stack.set(stackSize, x, y);
+                } else {
+                    stack.add(x, y);
+                }
+                stackSize++;
+                probeKind = -1;
+                break;
+            case HullTrace.POP:
+                if (stackSize > 0) {
+                    stackSize--;
+                }
+                break;
+            default:
+                probeKind = kind;
+                probeX = x;
+                probeY = y;
+        }
+    }
+
+    public boolean isFinished() {
+        return position >= trace.size();
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the number of vertices of the hull under construction
+     */
+    public int getHullSize() {
+        return stackSize;
+    }
+
+    public double getHullX(int i) {
+        return stack.getX(i);
+    }
+
+    public double getHullY(int i) {
+        return stack.getY(i);
+    }
+
+    /**
+     * @return the kind of the candidate, rejection or tangent event since the last push, or -1
+     */
+    public int getProbeKind() {
+        return probeKind;
+    }
+
+    public double getProbeX() {
+        return probeX;
+    }
+
+    public double getProbeY() {
+        return probeY;
+    }
+}
@@ -0,0 +1,166 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveHullTest {
+
+    private AdaptiveHull adaptiveHull;
+
+    @BeforeEach
+    public void setUp() {
+        adaptiveHull = new AdaptiveHull();
+    }
+
+    @Test
+    public void testNullInput() {
+        assertNull(adaptiveHull.findConvexHull(null), "Null input should return null");
+    }
+
+    @Test
+    public void testLessThanThreePoints() {
+        List<Point> points = Arrays.asList(new Point(0, 0), new Point(1, 1));
+        assertNull(adaptiveHull.findConvexHull(points), "Less than 3 points should return null");
+    }
+
+    @Test
+    public void testSmallInputSkipsSampling() {
+        List<Point> points = Arrays.asList(new Point(0, 0), new Point(4, 0), new Point(2, 2), new Point(2, 1));
+
+        List<Point> hull = adaptiveHull.findConvexHull(points);
+
+        assertEquals(3, hull.size(), "Hull should have 3 points");
+        assertEquals(ConvexHullAlgorithms.MONOTONE_CHAIN, adaptiveHull.getLastEngine(),
+                     "Small inputs should go straight to Monotone Chain");
+    }
+
+    @Test
+    public void testSquareWithInteriorPointsUsesJarvis() {
+        Random random = new Random(7);
+        List<Point> points = new ArrayList<>();
+        points.add(new Point(0, 0));
+        points.add(new Point(1000, 0));
+        points.add(new Point(1000, 1000));
+        points.add(new Point(0, 1000));
+        for (int i = 0; i < 20000; i++) {
+            points.add(new Point(1 + random.nextDouble() * 998, 1 + random.nextDouble() * 998));
+        }
+        // Repeat the corners so the sample sees them
+        for (int i = 0; i < 4000; i++) {
+            points.add(points.get(i % 4));
+        }
+
+        List<Point> hull = adaptiveHull.findConvexHull(points);
+
+        assertEquals(4, hull.size(), "Hull should be the square");
+        assertEquals(ConvexHullAlgorithms.JARVIS_MARCH, adaptiveHull.getLastEngine(),
+                     "A tiny estimated hull should dispatch to Jarvis March");
+    }
+
+    @Test
+    public void testPointsOnCircleAvoidJarvis() {
+        PointBuffer points = new PointBuffer();
+        int n = 5000;
+        for (int i = 0; i < n; i++) {
+            double angle = 2 * Math.PI * i / n;
+            points.add(1000 * Math.cos(angle), 1000 * Math.sin(angle));
+        }
+
+        PointBuffer hull = adaptiveHull.findConvexHullPacked(points);
+
+        assertEquals(ConvexHullAlgorithms.MONOTONE_CHAIN, adaptiveHull.getLastEngine(),
+                     "Points on a circle have h = n and should use Monotone Chain");
+        assertTrue(adaptiveHull.getLastEstimatedHullSize() > n / 2, "Hull size estimate should be close to n");
+        assertEquals(new HashSet<>(new MonotoneChain().findConvexHullPacked(points).toList()),
+                     new HashSet<>(hull.toList()), "Adaptive result should match Monotone Chain");
+    }
+
+    @Test
+    public void testParallelEngineAboveThreshold() {
+        adaptiveHull.setParallelEngine(new GrahamScan(), 3);
+        List<Point> points = Arrays.asList(new Point(0, 0), new Point(4, 0), new Point(2, 2));
+
+        adaptiveHull.findConvexHull(points);
+
+        assertEquals(ConvexHullAlgorithms.GRAHAM_SCAN, adaptiveHull.getLastEngine(),
+                     "Inputs above the parallel threshold should use the parallel engine");
+    }
+
+    @Test
+    public void testParallelInputsAreNotSampled() {
+        // Stands in for the parallel engine without reading the points itself
+        ConvexHullAlgorithm parallelEngine = new ConvexHullAlgorithm() {
+            @Override
+            public String getName() {
+                return ConvexHullAlgorithms.MERGE_HULL;
+            }
+
+            @Override
+            public List<Point> findConvexHull(List<Point> points) {
+                return null;
+            }
+
+            @Override
+            public PointBuffer findConvexHullPacked(PointBuffer points) {
+                return null;
+            }
+        };
+        adaptiveHull.setParallelEngine(parallelEngine, 1000);
+        adaptiveHull.setSampleSize(10);
+        int[] reads = new int[1];
+        List<Point> points = new AbstractList<Point>() {
+            @Override
+            public Point get(int index) {
+                reads[0]++;
+                double angle = 2 * Math.PI * index / 5000;
+                return new Point(Math.cos(angle), Math.sin(angle));
+            }
+
+            @Override
+            public int size() {
+                return 5000;
+            }
+        };
+
+        adaptiveHull.findConvexHull(points);
+
+        assertEquals(ConvexHullAlgorithms.MERGE_HULL, adaptiveHull.getLastEngine());
+        assertEquals(0, reads[0], "Inputs for the parallel engine should not be sampled");
+    }
+
+    @Test
+    public void testDispatchSettingsAreDescribed() {
+        String defaults = adaptiveHull.describeSettings();
+
+        adaptiveHull.setParallelEngine(new GrahamScan(), 1000);
+        String parallel = adaptiveHull.describeSettings();
+        adaptiveHull.setParallelEngine(new GrahamScan(), 2000);
+        String threshold = adaptiveHull.describeSettings();
+        adaptiveHull.setSampleSize(500);
+        String sampleSize = adaptiveHull.describeSettings();
+        adaptiveHull.setSeed(42);
+        String seed = adaptiveHull.describeSettings();
+
+        assertEquals(5, new HashSet<>(Arrays.asList(defaults, parallel, threshold, sampleSize, seed)).size(),
+                     "Every dispatch setting should change the description: " + seed);
+    }
+
+    @Test
+    public void testRegistryCreatesEveryEngine() {
+        for (String name : ConvexHullAlgorithms.names()) {
+            assertEquals(name, ConvexHullAlgorithms.create(name).getName(), "Engine name should match its registry key");
+        }
+        assertThrows(IllegalArgumentException.class, () -> ConvexHullAlgorithms.create("Quickhull"));
+    }
+}
@@ -0,0 +1,90 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AklToussaintFilterTest {
+
+    private List<Point> points;
+
+    @BeforeEach
+    public void setUp() {
+        Random random = new Random(11);
+        points = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            points.add(new Point(random.nextDouble() * 100, random.nextDouble() * 100));
+        }
+    }
+
+    @Test
+    public void testEliminatesInteriorPoints() {
+        AklToussaintFilter filter = new AklToussaintFilter();
+
+        int[] survivors = filter.filter(PointBuffer.fromList(points));
+
+        assertEquals(points.size() - survivors.length, filter.getLastEliminatedCount(),
+                     "Eliminated count should match the number of discarded points");
+        assertTrue(filter.getLastEliminatedCount() > points.size() / 2,
+                   "Most uniformly distributed points should be eliminated");
+    }
+
+    @Test
+    public void testKeepsAllHullVertices() {
+        List<Point> expected = new GrahamScan().findConvexHull(points);
+        AklToussaintFilter filter = new AklToussaintFilter();
+
+        int[] survivors = filter.filter(PointBuffer.fromList(points));
+
+        List<Point> remaining = new ArrayList<>();
+        for (int index : survivors) {
+            remaining.add(points.get(index));
+        }
+        assertTrue(remaining.containsAll(expected), "Every hull vertex should survive the filter");
+    }
+
+    @Test
+    public void testFilteredEnginesMatchUnfiltered() {
+        ConvexHullAlgorithm[] engines = { new GrahamScan(), new JarvisMarch(), new ChanAlgorithm() };
+        for (ConvexHullAlgorithm engine : engines) {
+            FilteredHull filtered = FilteredHull.withAklToussaint(engine);
+
+            List<Point> hull = filtered.findConvexHull(points);
+
+            assertEquals(new HashSet<>(engine.findConvexHull(points)), new HashSet<>(hull),
+                         engine.getName() + " should produce the same hull with the filter");
+            assertTrue(filtered.getLastEliminatedCount() > 0, "The filter should have eliminated points");
+        }
+    }
+
+    @Test
+    public void testFilterCanBeDisabled() {
+        FilteredHull filtered = FilteredHull.withAklToussaint(new GrahamScan());
+        filtered.setFilterEnabled(false);
+
+        PointBuffer hull = filtered.findConvexHullPacked(PointBuffer.fromList(points));
+
+        assertNotNull(hull, "Hull should not be null");
+        assertEquals(0, filtered.getLastEliminatedCount(), "A disabled filter should not eliminate points");
+    }
+
+    @Test
+    public void testCollinearInputIsKept() {
+        PointBuffer line = new PointBuffer();
+        for (int i = 0; i < 20; i++) {
+            line.add(i, 2 * i);
+        }
+
+        int[] survivors = new AklToussaintFilter().filter(line);
+
+        assertEquals(20, survivors.length, "Nothing is strictly inside a degenerate octagon");
+    }
+}
@@ -1,13 +1,17 @@
 package algorithms;
 
 import geometry.Point;
+import geometry.PointBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -203,7 +207,223 @@ public class ChanAlgorithmTest {
         }
     }
 
+    @Test
+    public void testPackedInputMatchesListInput() {
+        List<Point> points = Arrays.asList(
+            new Point(3, 0),
+            new Point(5, 2),
+            new Point(4, 5),
+            new Point(1, 5),
+            new Point(0, 2),
+            new Point(3, 3),
+            new Point(2, 2)
+        );
+
+        List<Point> hull = chanAlgorithm.findConvexHull(points);
+        PointBuffer packedHull = chanAlgorithm.findConvexHullPacked(PointBuffer.fromList(points));
+
+        assertNotNull(packedHull, "Packed hull should not be null");
+        assertEquals(hull, packedHull.toList(), "Packed and List inputs should produce the same hull");
+    }
+
+    @Test
+    public void testLargeRandomInputMatchesMonotoneChain() {
+        Random random = new Random(17);
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            points.add(new Point(random.nextDouble() * 1000, random.nextDouble() * 1000));
+        }
+
+        List<Point> hull = chanAlgorithm.findConvexHull(points);
+
+        assertEquals(new HashSet<>(new MonotoneChain().findConvexHull(points)), new HashSet<>(hull),
+                     "Chan's Algorithm should find the same hull as Monotone Chain");
+    }
+
+    @Test
+    public void testRandomInputsMatchMonotoneChain() {
+        MonotoneChain reference = new MonotoneChain();
+        for (int seed = 0; seed < 200; seed++) {
+            Random random = new Random(seed);
+            int n = 3 + random.nextInt(300);
+            List<Point> points = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (i > 0 && seed % 2 == 1 && random.nextInt(3) == 0) {
+                    // Duplicate an earlier point
+                    points.add(points.get(random.nextInt(i)));
+                } else {
+                    points.add(new Point(random.nextDouble() * 100, random.nextDouble() * 100));
+                }
+            }
+
+            List<Point> hull = chanAlgorithm.findConvexHull(points);
+
+            assertEquals(new HashSet<>(reference.findConvexHull(points)), new HashSet<>(hull),
+                         "Chan's Algorithm should find the same hull as Monotone Chain for seed " + seed + ", n = " + n);
+        }
+    }
+
+    @Test
+    public void testParallelMiniHullsAndTangentSearch() {
+        Random random = new Random(23);
+        PointBuffer points = new PointBuffer();
+        for (int i = 0; i < 20000; i++) {
+            points.add(random.nextGaussian() * 100, random.nextGaussian() * 100);
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        chanAlgorithm.setPool(pool);
+        chanAlgorithm.setSequentialCutoff(64);
+        chanAlgorithm.setParallelTangentThreshold(2);
+
+        PointBuffer hull = chanAlgorithm.findConvexHullPacked(points);
+        pool.shutdown();
+
+        assertEquals(new HashSet<>(new MonotoneChain().findConvexHullPacked(points).toList()), new HashSet<>(hull.toList()),
+                     "Parallel Chan's Algorithm should find the same hull as Monotone Chain");
+    }
+
+    @Test
+    public void testGrowingGuessesReuseMiniHulls() {
+        // Too few points to sample, so the guesses start small and are squared several times;
+        // the hull lies on a parabola so that each too-small guess runs out of wrap steps
+        Random random = new Random(29);
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            double x = random.nextDouble() * 200 - 100;
+            points.add(new Point(x, x * x));
+            points.add(new Point(x, x * x + 1 + random.nextDouble() * (10000 - x * x)));
+        }
+
+        List<Point> hull = chanAlgorithm.findConvexHull(points);
+
+        assertEquals(new HashSet<>(new MonotoneChain().findConvexHull(points)), new HashSet<>(hull),
+                     "Chan's Algorithm should find the same hull as Monotone Chain");
+    }
+
+    @Test
+    public void testPolicyHandsSmallInputToFallbackEngine() {
+        CountingEngine fallback = new CountingEngine();
+        ChanPolicy policy = new ChanPolicy();
+        policy.setFallbackEngine(fallback);
+        chanAlgorithm.setPolicy(policy);
+
+        List<Point> points = Arrays.asList(
+            new Point(0, 0), new Point(4, 0), new Point(4, 4), new Point(0, 4), new Point(2, 2));
+        List<Point> hull = chanAlgorithm.findConvexHull(points);
+
+        assertEquals(1, fallback.calls, "Inputs up to the small input threshold should use the fallback engine");
+        assertEquals(4, hull.size(), "Fallback result should be returned");
+    }
+
+    @Test
+    public void testPolicyHandsLargeHullsToFallbackEngine() {
+        CountingEngine fallback = new CountingEngine();
+        ChanPolicy policy = new ChanPolicy();
+        policy.setFallbackEngine(fallback);
+        chanAlgorithm.setPolicy(policy);
+
+        PointBuffer circle = new PointBuffer();
+        for (int i = 0; i < 5000; i++) {
+            double angle = 2 * Math.PI * i / 5000;
+            circle.add(Math.cos(angle) * 100, Math.sin(angle) * 100);
+        }
+        PointBuffer hull = chanAlgorithm.findConvexHullPacked(circle);
+
+        assertEquals(1, fallback.calls, "Inputs with most points on the hull should use the fallback engine");
+        assertEquals(5000, hull.size(), "Every point of a circle is on its hull");
+    }
+
+    @Test
+    public void testPolicyWithoutFallbackStillFindsLargeHulls() {
+        CountingEngine fallback = new CountingEngine();
+        ChanPolicy policy = new ChanPolicy();
+        policy.setFallbackEngine(fallback);
+        policy.setSmallInputThreshold(0);
+        policy.setMaxHullFraction(1);
+        chanAlgorithm.setPolicy(policy);
+
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 360; i++) {
+            double angle = Math.toRadians(i);
+            points.add(new Point(Math.cos(angle) * 100, Math.sin(angle) * 100));
+        }
+        points.add(new Point(0, 0));
+        List<Point> hull = chanAlgorithm.findConvexHull(points);
+
+        assertEquals(0, fallback.calls, "Chan's Algorithm should handle the input itself");
+        assertEquals(new HashSet<>(new MonotoneChain().findConvexHull(points)), new HashSet<>(hull),
+                     "Chan's Algorithm should find the same hull as Monotone Chain");
+    }
+
+    @Test
+    public void testSmallAndDuplicateInputsWithoutFallback() {
+        CountingEngine fallback = disableFallback();
+        MonotoneChain reference = new MonotoneChain();
+        for (int seed = 0; seed < 300; seed++) {
+            Random random = new Random(seed);
+            int n = 3 + random.nextInt(60);
+            // Few distinct coordinates, so most points are duplicates and many are collinear
+            int grid = 2 + random.nextInt(6);
+            List<Point> points = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                points.add(new Point(random.nextInt(grid), random.nextInt(grid)));
+            }
+
+            assertSameHull(reference.findConvexHull(points), chanAlgorithm.findConvexHull(points),
+                           "seed " + seed + ", n = " + n);
+        }
+        assertEquals(0, fallback.calls, "Chan's Algorithm should handle every input itself");
+    }
+
+    @Test
+    public void testCollinearInputsWithoutFallback() {
+        CountingEngine fallback = disableFallback();
+        MonotoneChain reference = new MonotoneChain();
+        for (int seed = 0; seed < 100; seed++) {
+            Random random = new Random(seed);
+            int n = 3 + random.nextInt(100);
+            // Points on a line, some of them repeated, plus at most one point off it
+            List<Point> points = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                double t = random.nextInt(20);
+                points.add(new Point(2 * t - 7, 3 * t + 1));
+            }
+            if (seed % 2 == 1) {
+                points.add(random.nextInt(points.size()), new Point(5, 0));
+            }
+
+            assertSameHull(reference.findConvexHull(points), chanAlgorithm.findConvexHull(points),
+                           "seed " + seed + ", n = " + points.size());
+        }
+        assertEquals(0, fallback.calls, "Chan's Algorithm should handle every input itself");
+    }
+
+    @Test
+    public void testInvalidPolicySettings() {
+        ChanPolicy policy = new ChanPolicy();
+        assertThrows(IllegalArgumentException.class, () -> policy.setSmallInputThreshold(-1));
+        assertThrows(IllegalArgumentException.class, () -> policy.setMaxHullFraction(0));
+        assertThrows(IllegalArgumentException.class, () -> policy.setFallbackEngine(null));
+        assertThrows(IllegalArgumentException.class, () -> chanAlgorithm.setPolicy(null));
+    }
+
     // Helper methods
+    private CountingEngine disableFallback() {
+        CountingEngine fallback = new CountingEngine();
+        ChanPolicy policy = new ChanPolicy();
+        policy.setFallbackEngine(fallback);
+        policy.setSmallInputThreshold(0);
+        policy.setMaxHullFraction(1);
+        chanAlgorithm.setPolicy(policy);
+        return fallback;
+    }
+
+    private void assertSameHull(List<Point> expected, List<Point> actual, String input) {
+        assertNotNull(actual, "Hull should not be null for " + input);
+        assertEquals(new HashSet<>(expected), new HashSet<>(actual),
+                     "Chan's Algorithm should find the same hull as Monotone Chain for " + input);
+    }
+
     private boolean containsPoint(List<Point> points, Point target) {
         for (Point p : points) {
             if (p.equals(target)) {
@@ -221,4 +441,21 @@ public class ChanAlgorithmTest {
         }
         return true;
     }
-}
\ No newline at end of file
+
+    // Graham Scan that records how often it is used as a fallback
+    private static class CountingEngine extends GrahamScan {
+        int calls;
+
+        @Override
+        public List<Point> findConvexHull(List<Point> points) {
+            calls++;
+            return super.findConvexHull(points);
+        }
+
+        @Override
+        public PointBuffer findConvexHullPacked(PointBuffer points) {
+            calls++;
+            return super.findConvexHullPacked(points);
+        }
+    }
+}
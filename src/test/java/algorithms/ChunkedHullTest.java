@@ -0,0 +1,92 @@
+package algorithms;
+
+import geometry.PointBuffer;
+import geometry.io.BinaryPointFile;
+import geometry.io.BinaryPointWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedHullTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testTextFileInSmallChunksMatchesInMemoryHull() throws IOException {
+        PointBuffer points = randomPoints(10000, 51);
+        Path file = tempDir.resolve("points.txt");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            writer.write("# random points\n");
+            for (int i = 0; i < points.size(); i++) {
+                writer.write(points.getX(i) + ", " + points.getY(i) + "\n");
+            }
+        }
+
+        ChunkedHull chunkedHull = new ChunkedHull();
+        chunkedHull.setChunkSize(300);
+        PointBuffer hull = chunkedHull.computeHull(file);
+
+        assertEquals(10000, chunkedHull.getLastPointCount(), "Every point should be read");
+        assertEquals(34, chunkedHull.getLastChunkCount(), "Points should be read in chunks of 300");
+        assertSameHull(points, hull);
+    }
+
+    @Test
+    public void testBinaryFileWithEachEngine() throws IOException {
+        PointBuffer points = randomPoints(5000, 53);
+        Path file = tempDir.resolve("points" + BinaryPointFile.EXTENSION);
+        BinaryPointWriter.write(file, points);
+
+        for (String name : ConvexHullAlgorithms.names()) {
+            ChunkedHull chunkedHull = new ChunkedHull(ConvexHullAlgorithms.create(name));
+            chunkedHull.setChunkSize(1000);
+            assertSameHull(points, chunkedHull.computeHull(file));
+        }
+    }
+
+    @Test
+    public void testDegenerateInput() throws IOException {
+        Path file = tempDir.resolve("points.txt");
+        Files.write(file, "1,1\n1,1\n1,1\n1,1\n".getBytes(StandardCharsets.US_ASCII));
+
+        ChunkedHull chunkedHull = new ChunkedHull();
+        chunkedHull.setChunkSize(1);
+        PointBuffer hull = chunkedHull.computeHull(file);
+
+        assertEquals(1, hull.size(), "Identical points should collapse to one");
+        assertEquals(4, chunkedHull.getLastChunkCount());
+    }
+
+    @Test
+    public void testHeapBudget() {
+        ChunkedHull chunkedHull = new ChunkedHull();
+        chunkedHull.setHeapBudget(64L << 20);
+        assertEquals(1 << 20, chunkedHull.getChunkSize(), "A 64 MB budget should allow 2^20 points per chunk");
+        assertThrows(IllegalArgumentException.class, () -> chunkedHull.setHeapBudget(1000));
+        assertThrows(IllegalArgumentException.class, () -> chunkedHull.setChunkSize(0));
+    }
+
+    private static PointBuffer randomPoints(int n, long seed) {
+        Random random = new Random(seed);
+        PointBuffer points = new PointBuffer(n);
+        for (int i = 0; i < n; i++) {
+            points.add(random.nextGaussian() * 100, random.nextGaussian() * 100);
+        }
+        return points;
+    }
+
+    private static void assertSameHull(PointBuffer points, PointBuffer hull) {
+        assertEquals(new HashSet<>(new MonotoneChain().findConvexHullPacked(points).toList()), new HashSet<>(hull.toList()),
+                     "Chunked hull should match the in-memory hull");
+    }
+}
@@ -0,0 +1,120 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DynamicHullTest {
+
+    private DynamicHull dynamicHull;
+
+    @BeforeEach
+    public void setUp() {
+        dynamicHull = new DynamicHull();
+    }
+
+    @Test
+    public void testEmpty() {
+        assertTrue(dynamicHull.isEmpty(), "New hull should be empty");
+        assertTrue(dynamicHull.getHull().isEmpty(), "Empty set should have an empty hull");
+        assertFalse(dynamicHull.contains(0, 0), "Empty hull should contain nothing");
+    }
+
+    @Test
+    public void testSquareWithInteriorPoint() {
+        assertTrue(dynamicHull.add(0, 0));
+        assertTrue(dynamicHull.add(4, 0));
+        assertTrue(dynamicHull.add(4, 4));
+        assertTrue(dynamicHull.add(0, 4));
+        assertFalse(dynamicHull.add(2, 2), "Interior point should be rejected");
+        assertFalse(dynamicHull.add(2, 0), "Point on an edge should be rejected");
+        assertFalse(dynamicHull.add(4, 4), "Duplicate vertex should be rejected");
+
+        List<Point> expected = Arrays.asList(new Point(0, 0), new Point(4, 0), new Point(4, 4), new Point(0, 4));
+        assertEquals(expected, dynamicHull.getHull(), "Hull should be counter-clockwise from the lowest leftmost point");
+        assertTrue(dynamicHull.contains(2, 2));
+        assertTrue(dynamicHull.contains(4, 2));
+        assertFalse(dynamicHull.contains(5, 2));
+    }
+
+    @Test
+    public void testDegenerateSets() {
+        dynamicHull.add(1, 1);
+        assertEquals(Arrays.asList(new Point(1, 1)), dynamicHull.getHull(), "Single point is its own hull");
+
+        dynamicHull.add(1, 3);
+        assertEquals(Arrays.asList(new Point(1, 1), new Point(1, 3)), dynamicHull.getHull(), "Vertical segment");
+
+        dynamicHull.add(1, 2);
+        assertEquals(2, dynamicHull.size(), "Collinear middle point should not be a vertex");
+    }
+
+    @Test
+    public void testNewPointRemovesEnclosedVertices() {
+        dynamicHull.add(0, 0);
+        dynamicHull.add(2, 1);
+        dynamicHull.add(4, 0);
+        dynamicHull.add(2, -1);
+        assertTrue(dynamicHull.add(2, 5), "Point above the hull should be added");
+
+        assertEquals(new HashSet<>(Arrays.asList(new Point(0, 0), new Point(2, -1), new Point(4, 0), new Point(2, 5))),
+                     new HashSet<>(dynamicHull.getHull()), "The old top vertex should be removed");
+    }
+
+    @Test
+    public void testQueryIsCachedUntilChange() {
+        dynamicHull.add(0, 0);
+        dynamicHull.add(1, 0);
+        dynamicHull.add(0, 1);
+        List<Point> first = dynamicHull.getHull();
+        dynamicHull.add(0.1, 0.1);
+        assertSame(first, dynamicHull.getHull(), "Rejected points should not rebuild the hull");
+        dynamicHull.add(1, 1);
+        assertNotSame(first, dynamicHull.getHull(), "Accepted points should rebuild the hull");
+        assertThrows(UnsupportedOperationException.class, () -> dynamicHull.getHull().clear());
+    }
+
+    @Test
+    public void testIncrementalBatchesMatchMonotoneChain() {
+        Random random = new Random(31);
+        List<Point> all = new ArrayList<>();
+        MonotoneChain monotoneChain = new MonotoneChain();
+        for (int batch = 0; batch < 20; batch++) {
+            PointBuffer points = new PointBuffer();
+            for (int i = 0; i < 500; i++) {
+                // Integer coordinates produce many duplicates and collinear points
+                double x = random.nextInt(200) - 100;
+                double y = random.nextInt(200) - 100;
+                points.add(x, y);
+                all.add(new Point(x, y));
+            }
+            dynamicHull.addAll(points);
+
+            assertEquals(new HashSet<>(monotoneChain.findConvexHull(all)), new HashSet<>(dynamicHull.getHull()),
+                         "Hull after batch " + batch + " should match Monotone Chain");
+        }
+    }
+
+    @Test
+    public void testNaNIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> dynamicHull.add(Double.NaN, 0));
+    }
+
+    @Test
+    public void testClear() {
+        dynamicHull.add(0, 0);
+        dynamicHull.add(1, 1);
+        dynamicHull.clear();
+        assertTrue(dynamicHull.isEmpty());
+        assertTrue(dynamicHull.getHull().isEmpty());
+    }
+}
@@ -1,12 +1,14 @@
 package algorithms;
 
 import geometry.Point;
+import geometry.PointBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -48,6 +50,22 @@ public class GrahamScanTest {
         assertTrue(containsAllPoints(hull, points), "All input points should be in the hull");
     }
 
+    @Test
+    public void testDuplicateFirstPointsAreNotCollinear() {
+        List<Point> points = Arrays.asList(
+            new Point(1, 1),
+            new Point(1, 1),
+            new Point(0, 0),
+            new Point(4, 0),
+            new Point(2, 3)
+        );
+
+        List<Point> hull = grahamScan.findConvexHull(points);
+
+        assertEquals(new HashSet<>(Arrays.asList(new Point(0, 0), new Point(4, 0), new Point(2, 3))), new HashSet<>(hull),
+                     "A duplicated first point should not make the input look collinear");
+    }
+
     @Test
     public void testSquare() {
         List<Point> points = Arrays.asList(
@@ -151,6 +169,42 @@ public class GrahamScanTest {
         assertFalse(points.isEmpty(), "Points list should not be empty");
     }
 
+    @Test
+    public void testPackedInputMatchesListInput() {
+        List<Point> points = Arrays.asList(
+            new Point(3, 0),
+            new Point(5, 2),
+            new Point(4, 5),
+            new Point(1, 5),
+            new Point(0, 2),
+            new Point(3, 3),
+            new Point(2, 2)
+        );
+
+        List<Point> hull = grahamScan.findConvexHull(points);
+        PointBuffer packedHull = grahamScan.findConvexHullPacked(PointBuffer.fromList(points));
+
+        assertNotNull(packedHull, "Packed hull should not be null");
+        assertEquals(hull, packedHull.toList(), "Packed and List inputs should produce the same hull");
+    }
+
+    @Test
+    public void testIntegerGridWithEqualAngles() {
+        // Many points share a polar angle around the anchor, including along the hull's first and last edges
+        List<Point> points = new ArrayList<>();
+        for (int x = 0; x < 30; x++) {
+            for (int y = 0; y < 20; y++) {
+                points.add(new Point(x, y));
+            }
+        }
+        points.add(new Point(0, 0));
+
+        List<Point> hull = grahamScan.findConvexHull(points);
+
+        assertEquals(new HashSet<>(new MonotoneChain().findConvexHull(points)), new HashSet<>(hull),
+                     "Graham Scan should find the same hull as Monotone Chain");
+    }
+
     // Helper methods
     private boolean containsPoint(List<Point> points, Point target) {
         for (Point p : points) {
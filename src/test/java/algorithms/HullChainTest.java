@@ -0,0 +1,70 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HullChainTest {
+
+    @Test
+    public void testAddRemovesVerticesThatBecomeConcave() {
+        HullChain upper = new HullChain(HullChain.UPPER);
+        for (int x = 0; x <= 10; x++) {
+            assertTrue(upper.add(x, -(x - 5) * (x - 5)), "Every point of a concave parabola is on the upper chain");
+        }
+        assertFalse(upper.add(5, -10), "A point below the upper chain should be rejected");
+        assertTrue(upper.add(5, 100));
+        assertArrayEquals(new double[] {0, -25, 5, 100, 10, -25}, vertices(upper));
+    }
+
+    @Test
+    public void testPopRestoresEveryEarlierChain() {
+        Random random = new Random(17);
+        HullChain lower = new HullChain(HullChain.LOWER);
+        double[][] history = new double[300][];
+        for (int i = 0; i < history.length; i++) {
+            history[i] = vertices(lower);
+            lower.push(random.nextInt(50), random.nextInt(50));
+        }
+        for (int i = history.length - 1; i >= 0; i--) {
+            lower.pop();
+            assertArrayEquals(history[i], vertices(lower), "Chain after undoing push " + i);
+        }
+        assertThrows(IllegalStateException.class, lower::pop);
+    }
+
+    @Test
+    public void testUnionKeepsOnlyTheOuterVertices() {
+        HullChain a = new HullChain(HullChain.UPPER);
+        HullChain b = new HullChain(HullChain.UPPER);
+        a.add(0, 0);
+        a.add(2, 2);
+        a.add(4, 0);
+        b.add(1, 0);
+        b.add(2, 5);
+        b.add(3, 0);
+        double[] xs = new double[6];
+        double[] ys = new double[6];
+
+        int count = a.union(b, xs, ys);
+        assertArrayEquals(new double[] {0, 2, 4}, Arrays.copyOf(xs, count));
+        assertArrayEquals(new double[] {0, 5, 0}, Arrays.copyOf(ys, count));
+        assertEquals(0, new HullChain(HullChain.UPPER).union(new HullChain(HullChain.UPPER), xs, ys));
+    }
+
+    // x0, y0, x1, y1, ... left to right
+    private static double[] vertices(HullChain chain) {
+        double[] xs = new double[chain.size()];
+        double[] ys = new double[chain.size()];
+        chain.copy(xs, ys);
+        double[] result = new double[2 * xs.length];
+        for (int i = 0; i < xs.length; i++) {
+            result[2 * i] = xs[i];
+            result[2 * i + 1] = ys[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,129 @@
+package algorithms;
+
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HullComputationTest {
+
+    /**
+     * Records every update and cancels after a given number of them.
+     */
+    private static class RecordingProgress implements HullProgress {
+        final List<String> stages = new ArrayList<>();
+        final List<Long> done = new ArrayList<>();
+        final List<Long> totals = new ArrayList<>();
+        private final int cancelAfter;
+
+        RecordingProgress(int cancelAfter) {
+            this.cancelAfter = cancelAfter;
+        }
+
+        @Override
+        public void update(String stage, long done, long total) {
+            stages.add(stage);
+            this.done.add(done);
+            totals.add(total);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return stages.size() >= cancelAfter;
+        }
+    }
+
+    private static PointBuffer circle(int n) {
+        return PointGenerator.generate(PointDistribution.CIRCLE, n, 7);
+    }
+
+    @Test
+    public void testJarvisMarchReportsHullVertices() {
+        PointBuffer points = circle(200);
+        RecordingProgress progress = new RecordingProgress(Integer.MAX_VALUE);
+        PointBuffer hull = HullComputation.run(progress, () -> new JarvisMarch().findConvexHullPacked(points));
+
+        assertEquals(hull.size(), progress.stages.size(), "One update per hull step");
+        for (int i = 0; i < progress.done.size(); i++) {
+            assertEquals(i, progress.done.get(i).longValue());
+            assertEquals(-1, progress.totals.get(i).longValue(), "The hull size is not known in advance");
+        }
+    }
+
+    @Test
+    public void testCancellationStopsJarvisMarch() {
+        PointBuffer points = circle(1000);
+        RecordingProgress progress = new RecordingProgress(10);
+        assertThrows(CancellationException.class,
+                     () -> HullComputation.run(progress, () -> new JarvisMarch().findConvexHullPacked(points)));
+        assertEquals(10, progress.stages.size(), "The engine should stop at the first check after cancelling");
+        assertNull(HullComputation.current(), "The progress should be unbound after the run");
+    }
+
+    @Test
+    public void testGrahamScanReportsScanPosition() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.UNIFORM_DISK, 20000, 3);
+        RecordingProgress progress = new RecordingProgress(Integer.MAX_VALUE);
+        HullComputation.run(progress, () -> new GrahamScan().findConvexHullPacked(points));
+
+        assertEquals("sort", progress.stages.get(0));
+        assertEquals(20000 / HullComputation.CHECK_INTERVAL, progress.stages.size() - 1);
+        assertEquals("scan", progress.stages.get(1));
+        assertEquals(19999, progress.totals.get(1).longValue());
+    }
+
+    @Test
+    public void testChanReportsRoundsAndCancels() {
+        PointBuffer points = circle(5000);
+        ChanAlgorithm chan = new ChanAlgorithm();
+        ChanPolicy policy = new ChanPolicy();
+        policy.setMaxHullFraction(1.0);
+        chan.setPolicy(policy);
+
+        RecordingProgress progress = new RecordingProgress(Integer.MAX_VALUE);
+        PointBuffer hull = HullComputation.run(progress, () -> chan.findConvexHullPacked(points));
+        assertEquals(5000, hull.size());
+        assertTrue(progress.stages.get(0).startsWith("round 1 "), progress.stages.get(0));
+        assertTrue(progress.stages.get(progress.stages.size() - 1).startsWith("round "));
+
+        RecordingProgress cancelling = new RecordingProgress(100);
+        assertThrows(CancellationException.class,
+                     () -> HullComputation.run(cancelling, () -> chan.findConvexHullPacked(points)));
+    }
+
+    @Test
+    public void testInterruptCancelsByDefault() {
+        PointBuffer points = circle(100);
+        HullProgress progress = (stage, done, total) -> { };
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class,
+                         () -> HullComputation.run(progress, () -> new JarvisMarch().findConvexHullPacked(points)));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testNestedRunsRestoreProgress() {
+        HullProgress outer = (stage, done, total) -> { };
+        HullProgress inner = (stage, done, total) -> { };
+        HullComputation.run(outer, () -> {
+            assertSame(outer, HullComputation.current());
+            HullComputation.run(inner, () -> {
+                assertSame(inner, HullComputation.current());
+                return null;
+            });
+            assertSame(outer, HullComputation.current());
+            return null;
+        });
+        assertNull(HullComputation.current());
+        assertThrows(IllegalArgumentException.class, () -> HullComputation.run(null, () -> null));
+    }
+}
@@ -0,0 +1,119 @@
+package algorithms;
+
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HullTraceTest {
+
+    /**
+     * Replays the pushes and pops of a trace and returns the resulting vertex chain.
+     */
+    private static PointBuffer replayStack(HullTrace trace) {
+        List<double[]> stack = new ArrayList<>();
+        for (int i = 0; i < trace.size(); i++) {
+            switch (trace.getKind(i)) {
+                case HullTrace.START:
+                    stack.clear();
+                    break;
+                case HullTrace.PUSH:
+                    stack.add(new double[] { trace.getX(i), trace.getY(i) });
+                    break;
+                case HullTrace.POP:
+                    stack.remove(stack.size() - 1);
+                    break;
+                default:
+            }
+        }
+        PointBuffer result = new PointBuffer();
+        for (double[] point : stack) {
+            result.add(point[0], point[1]);
+        }
+        return result;
+    }
+
+    private static void assertSameVertices(PointBuffer expected, PointBuffer actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getX(i), actual.getX(i));
+            assertEquals(expected.getY(i), actual.getY(i));
+        }
+    }
+
+    private static int countKind(HullTrace trace, int kind) {
+        int count = 0;
+        for (int i = 0; i < trace.size(); i++) {
+            if (trace.getKind(i) == kind) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void testRingBufferKeepsNewestEvents() {
+        HullTrace trace = new HullTrace(5);
+        assertEquals(8, trace.getCapacity(), "Capacity rounds up to a power of two");
+        for (int i = 0; i < 20; i++) {
+            trace.event(HullTrace.PUSH, i, -i);
+        }
+        assertEquals(8, trace.size());
+        assertEquals(20, trace.getEventCount());
+        assertEquals(12, trace.getDropped());
+        assertEquals(12, trace.getX(0));
+        assertEquals(-19, trace.getY(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> trace.getKind(8));
+
+        trace.clear();
+        assertEquals(0, trace.size());
+        assertThrows(IllegalArgumentException.class, () -> new HullTrace(0));
+    }
+
+    @Test
+    public void testGrahamScanTraceReplaysToHull() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.UNIFORM_DISK, 3000, 5);
+        HullTrace trace = new HullTrace(1 << 14);
+        PointBuffer hull = trace.record(() -> new GrahamScan().findConvexHullPacked(points));
+
+        assertEquals(HullTrace.START, trace.getKind(0));
+        assertEquals(3000 - hull.size(), countKind(trace, HullTrace.POP));
+        assertSameVertices(hull, replayStack(trace));
+        assertNull(HullTrace.current(), "The trace should be unbound after the run");
+    }
+
+    @Test
+    public void testJarvisMarchTraceRecordsCandidates() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.UNIFORM_DISK, 500, 6);
+        HullTrace trace = new HullTrace(1 << 16);
+        PointBuffer hull = trace.record(() -> new JarvisMarch().findConvexHullPacked(points));
+
+        assertSameVertices(hull, replayStack(trace));
+        assertEquals(hull.size() * 499L, countKind(trace, HullTrace.CANDIDATE) + countKind(trace, HullTrace.REJECT),
+                     "Every other point is taken or rejected once per step");
+    }
+
+    @Test
+    public void testChanTraceRecordsTangents() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.UNIFORM_DISK, 20000, 7);
+        HullTrace trace = new HullTrace(1 << 12);
+        PointBuffer hull = trace.record(() -> new ChanAlgorithm().findConvexHullPacked(points));
+
+        assertSameVertices(hull, replayStack(trace));
+        assertEquals(hull.size(), countKind(trace, HullTrace.TANGENT),
+                     "One tangent per vertex after the first, plus the one closing the hull");
+    }
+
+    @Test
+    public void testUntracedRunsRecordNothing() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.UNIFORM_DISK, 100, 8);
+        HullTrace trace = new HullTrace(16);
+        new GrahamScan().findConvexHullPacked(points);
+        assertEquals(0, trace.getEventCount());
+    }
+}
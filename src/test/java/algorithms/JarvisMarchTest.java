@@ -1,6 +1,7 @@
 package algorithms;
 
 import geometry.Point;
+import geometry.PointBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -152,6 +153,25 @@ public class JarvisMarchTest {
         }
     }
 
+    @Test
+    public void testPackedInputMatchesListInput() {
+        List<Point> points = Arrays.asList(
+            new Point(3, 0),
+            new Point(5, 2),
+            new Point(4, 5),
+            new Point(1, 5),
+            new Point(0, 2),
+            new Point(3, 3),
+            new Point(2, 2)
+        );
+
+        List<Point> hull = jarvisMarch.findConvexHull(points);
+        PointBuffer packedHull = jarvisMarch.findConvexHullPacked(PointBuffer.fromList(points));
+
+        assertNotNull(packedHull, "Packed hull should not be null");
+        assertEquals(hull, packedHull.toList(), "Packed and List inputs should produce the same hull");
+    }
+
     // Helper methods
     private boolean containsPoint(List<Point> points, Point target) {
         for (Point p : points) {
@@ -0,0 +1,126 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MergeHullTest {
+
+    private MergeHull mergeHull;
+
+    @BeforeEach
+    public void setUp() {
+        mergeHull = new MergeHull();
+        // Small cutoff so that the tests exercise the parallel merge path
+        mergeHull.setSequentialCutoff(4);
+    }
+
+    @Test
+    public void testNullInput() {
+        List<Point> result = mergeHull.findConvexHull(null);
+        assertNull(result, "Null input should return null");
+    }
+
+    @Test
+    public void testLessThanThreePoints() {
+        List<Point> points = Arrays.asList(new Point(0, 0), new Point(1, 1));
+        List<Point> result = mergeHull.findConvexHull(points);
+        assertNull(result, "Less than 3 points should return null");
+    }
+
+    @Test
+    public void testSquare() {
+        List<Point> points = Arrays.asList(
+            new Point(0, 0),
+            new Point(0, 2),
+            new Point(2, 2),
+            new Point(2, 0)
+        );
+
+        List<Point> hull = mergeHull.findConvexHull(points);
+
+        assertNotNull(hull, "Hull should not be null");
+        assertEquals(4, hull.size(), "Hull should have 4 points");
+        assertTrue(hull.containsAll(points), "All input points should be in the hull");
+    }
+
+    @Test
+    public void testWithInteriorPoints() {
+        List<Point> points = new ArrayList<>();
+        for (int x = 0; x <= 10; x++) {
+            for (int y = 0; y <= 10; y++) {
+                points.add(new Point(x, y));
+            }
+        }
+
+        List<Point> hull = mergeHull.findConvexHull(points);
+
+        List<Point> expected = Arrays.asList(new Point(0, 0), new Point(10, 0), new Point(10, 10), new Point(0, 10));
+        assertEquals(expected, hull, "A grid should reduce to its four corners in counter-clockwise order");
+    }
+
+    @Test
+    public void testCollinearPoints() {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            points.add(new Point(i, 3 * i));
+        }
+
+        List<Point> hull = mergeHull.findConvexHull(points);
+
+        assertEquals(Arrays.asList(new Point(0, 0), new Point(49, 147)), hull,
+                     "Collinear points should reduce to their endpoints");
+    }
+
+    @Test
+    public void testPointsOnCircle() {
+        List<Point> points = new ArrayList<>();
+        int numPoints = 500;
+        for (int i = 0; i < numPoints; i++) {
+            double angle = 2 * Math.PI * i / numPoints;
+            points.add(new Point(100 * Math.cos(angle), 100 * Math.sin(angle)));
+        }
+
+        List<Point> hull = mergeHull.findConvexHull(points);
+
+        assertEquals(numPoints, hull.size(), "For a circle, all points should be in the hull");
+    }
+
+    @Test
+    public void testCompareWithMonotoneChain() {
+        Random random = new Random(3);
+        PointBuffer points = new PointBuffer();
+        for (int i = 0; i < 100000; i++) {
+            points.add(random.nextGaussian() * 50, random.nextGaussian() * 50);
+        }
+        mergeHull.setSequentialCutoff(1000);
+
+        PointBuffer hull = mergeHull.findConvexHullPacked(points);
+        PointBuffer expected = new MonotoneChain().findConvexHullPacked(points);
+
+        assertEquals(expected.toList(), hull.toList(), "Merge Hull and Monotone Chain should produce the same hull");
+    }
+
+    @Test
+    public void testCompareWithGrahamScanOnIntegerGrid() {
+        Random random = new Random(5);
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            points.add(new Point(random.nextInt(60), random.nextInt(60)));
+        }
+
+        List<Point> hull = mergeHull.findConvexHull(points);
+        List<Point> grahamHull = new GrahamScan().findConvexHull(points);
+
+        assertEquals(new HashSet<>(grahamHull), new HashSet<>(hull), "Merge Hull and Graham Scan should agree");
+    }
+}
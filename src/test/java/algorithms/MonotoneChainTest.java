@@ -0,0 +1,163 @@
+package algorithms;
+
+import geometry.Point;
+import geometry.PointBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonotoneChainTest {
+
+    private MonotoneChain monotoneChain;
+
+    @BeforeEach
+    public void setUp() {
+        monotoneChain = new MonotoneChain();
+    }
+
+    @Test
+    public void testNullInput() {
+        List<Point> result = monotoneChain.findConvexHull(null);
+        assertNull(result, "Null input should return null");
+    }
+
+    @Test
+    public void testLessThanThreePoints() {
+        List<Point> points = Arrays.asList(new Point(0, 0), new Point(1, 1));
+        List<Point> result = monotoneChain.findConvexHull(points);
+        assertNull(result, "Less than 3 points should return null");
+    }
+
+    @Test
+    public void testTriangle() {
+        List<Point> points = Arrays.asList(
+            new Point(0, 0),
+            new Point(4, 0),
+            new Point(2, 2)
+        );
+
+        List<Point> hull = monotoneChain.findConvexHull(points);
+
+        assertNotNull(hull, "Hull should not be null");
+        assertEquals(3, hull.size(), "Hull should have 3 points");
+        assertTrue(containsAllPoints(hull, points), "All input points should be in the hull");
+    }
+
+    @Test
+    public void testWithInteriorPoints() {
+        List<Point> points = new ArrayList<>();
+        // Square vertices
+        points.add(new Point(0, 0));
+        points.add(new Point(10, 0));
+        points.add(new Point(10, 10));
+        points.add(new Point(0, 10));
+
+        // Interior and edge points
+        points.add(new Point(5, 5));
+        points.add(new Point(3, 3));
+        points.add(new Point(5, 0));
+
+        List<Point> hull = monotoneChain.findConvexHull(points);
+
+        assertNotNull(hull, "Hull should not be null");
+        assertEquals(4, hull.size(), "Hull should have 4 points");
+        assertFalse(containsPoint(hull, new Point(5, 5)), "Hull should not contain interior point (5,5)");
+        assertFalse(containsPoint(hull, new Point(5, 0)), "Hull should not contain edge point (5,0)");
+    }
+
+    @Test
+    public void testCounterClockwiseOrder() {
+        List<Point> points = Arrays.asList(
+            new Point(2, 2),
+            new Point(0, 2),
+            new Point(2, 0),
+            new Point(0, 0),
+            new Point(1, 1)
+        );
+
+        List<Point> hull = monotoneChain.findConvexHull(points);
+
+        List<Point> expected = Arrays.asList(new Point(0, 0), new Point(2, 0), new Point(2, 2), new Point(0, 2));
+        assertEquals(expected, hull, "Hull should start at the lexicographically smallest point and turn counter-clockwise");
+    }
+
+    @Test
+    public void testCollinearPoints() {
+        List<Point> points = Arrays.asList(
+            new Point(2, 2),
+            new Point(0, 0),
+            new Point(4, 4),
+            new Point(1, 1),
+            new Point(3, 3)
+        );
+
+        List<Point> hull = monotoneChain.findConvexHull(points);
+
+        assertNotNull(hull, "Hull should not be null");
+        assertEquals(2, hull.size(), "Hull should have 2 points for collinear points");
+        assertTrue(containsPoint(hull, new Point(0, 0)), "Hull should contain first point (0,0)");
+        assertTrue(containsPoint(hull, new Point(4, 4)), "Hull should contain last point (4,4)");
+    }
+
+    @Test
+    public void testDuplicatePoints() {
+        List<Point> points = Arrays.asList(new Point(1, 1), new Point(1, 1), new Point(1, 1));
+
+        List<Point> hull = monotoneChain.findConvexHull(points);
+
+        assertEquals(1, hull.size(), "Identical points should collapse to a single hull vertex");
+    }
+
+    @Test
+    public void testCompareWithGrahamScan() {
+        Random random = new Random(42);
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            points.add(new Point(random.nextInt(1000), random.nextInt(1000)));
+        }
+
+        List<Point> hull = monotoneChain.findConvexHull(points);
+        List<Point> grahamHull = new GrahamScan().findConvexHull(points);
+
+        assertEquals(new HashSet<>(grahamHull), new HashSet<>(hull), "Monotone Chain and Graham Scan should agree");
+    }
+
+    @Test
+    public void testPackedInput() {
+        PointBuffer points = new PointBuffer();
+        points.add(0, 0);
+        points.add(4, 0);
+        points.add(2, 1);
+        points.add(2, 4);
+
+        PointBuffer hull = monotoneChain.findConvexHullPacked(points);
+
+        assertEquals(3, hull.size(), "Hull should have 3 points");
+    }
+
+    // Helper methods
+    private boolean containsPoint(List<Point> points, Point target) {
+        for (Point p : points) {
+            if (p.equals(target)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean containsAllPoints(List<Point> container, List<Point> targets) {
+        for (Point target : targets) {
+            if (!containsPoint(container, target)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+package algorithms;
+
+import geometry.PointBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlidingWindowHullTest {
+
+    private final MonotoneChain monotoneChain = new MonotoneChain();
+
+    @Test
+    public void testCountWindowMatchesRecomputation() {
+        Random random = new Random(41);
+        SlidingWindowHull window = SlidingWindowHull.lastPoints(50);
+        PointBuffer stream = new PointBuffer();
+        for (int i = 0; i < 600; i++) {
+            double x = random.nextInt(100);
+            double y = random.nextInt(100);
+            stream.add(x, y);
+            window.add(x, y);
+
+            int from = Math.max(0, stream.size() - 50);
+            assertEquals(stream.size() - from, window.size(), "Window should hold the last 50 points");
+            assertSameHull(stream.slice(from, stream.size()), window.getHull(), i);
+        }
+    }
+
+    @Test
+    public void testTimeWindowExpiresOldPoints() {
+        Random random = new Random(43);
+        SlidingWindowHull window = SlidingWindowHull.lastDuration(100);
+        PointBuffer stream = new PointBuffer();
+        long[] times = new long[400];
+        long time = 0;
+        for (int i = 0; i < times.length; i++) {
+            time += random.nextInt(10);
+            times[i] = time;
+            double x = random.nextGaussian();
+            double y = random.nextGaussian();
+            stream.add(x, y);
+            window.add(x, y, time);
+
+            int from = 0;
+            while (time - times[from] > 100) {
+                from++;
+            }
+            assertEquals(i + 1 - from, window.size(), "Window should hold the points of the last 100 time units");
+            assertSameHull(stream.slice(from, i + 1), window.getHull(), i);
+        }
+
+        window.expire(time + 1000);
+        assertEquals(0, window.size(), "All points should expire");
+        assertTrue(window.getHull().isEmpty(), "Empty window should have an empty hull");
+    }
+
+    @Test
+    public void testEveryPointOnTheHull() {
+        // Points on a circle: every suffix hull differs from the next, the case the persistent chains are for
+        SlidingWindowHull window = SlidingWindowHull.lastPoints(64);
+        PointBuffer stream = new PointBuffer();
+        for (int i = 0; i < 500; i++) {
+            double angle = i * 2.399963;
+            stream.add(Math.cos(angle), Math.sin(angle));
+            window.add(Math.cos(angle), Math.sin(angle));
+
+            int from = Math.max(0, stream.size() - 64);
+            assertEquals(stream.size() - from, window.getHull().size(), "Every point should be a vertex at step " + i);
+            assertSameHull(stream.slice(from, stream.size()), window.getHull(), i);
+        }
+    }
+
+    @Test
+    public void testDegenerateWindows() {
+        SlidingWindowHull window = SlidingWindowHull.lastPoints(2);
+        window.add(1, 1);
+        assertEquals(1, window.getHull().size(), "Single point is its own hull");
+        window.add(1, 1);
+        window.add(1, 1);
+        assertEquals(1, window.getHull().size(), "Duplicates should collapse to one vertex");
+        window.add(2, 2);
+        assertEquals(2, window.getHull().size(), "Two distinct points form a segment");
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> SlidingWindowHull.lastPoints(0));
+        assertThrows(IllegalArgumentException.class, () -> SlidingWindowHull.lastDuration(-1));
+
+        SlidingWindowHull window = SlidingWindowHull.lastDuration(10);
+        window.add(0, 0, 5);
+        assertThrows(IllegalArgumentException.class, () -> window.add(1, 1, 4), "Timestamps must not decrease");
+    }
+
+    private void assertSameHull(PointBuffer points, PointBuffer hull, int step) {
+        PointBuffer expected = points.size() < 3 ? null : monotoneChain.findConvexHullPacked(points);
+        if (expected == null) {
+            // Too few points for the engines: compare the distinct points instead
+            assertEquals(new HashSet<>(points.toList()), new HashSet<>(hull.toList()), "Step " + step);
+        } else {
+            assertEquals(new HashSet<>(expected.toList()), new HashSet<>(hull.toList()), "Step " + step);
+        }
+    }
+}
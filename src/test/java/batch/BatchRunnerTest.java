@@ -0,0 +1,230 @@
+package batch;
+
+import algorithms.ConvexHullAlgorithm;
+import algorithms.ConvexHullAlgorithms;
+import algorithms.MonotoneChain;
+import cache.HullCache;
+import geometry.Point;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import geometry.io.BinaryPointFile;
+import geometry.io.PointFileReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<Path> writeInputs(int count, int points) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            PointGenerator generator = new PointGenerator(PointDistribution.UNIFORM_DISK, i);
+            Path file = tempDir.resolve(String.format("input-%03d", i) + (i % 2 == 0 ? ".txt" : ".bin"));
+            if (i % 2 == 0) {
+                generator.writeText(file, points);
+            } else {
+                generator.writeBinary(file, points);
+            }
+            files.add(file);
+        }
+        return files;
+    }
+
+    @Test
+    public void testComputesAndWritesEveryHull() throws Exception {
+        List<Path> files = writeInputs(20, 2000);
+        Path output = tempDir.resolve("hulls");
+        BatchRunner runner = new BatchRunner(ConvexHullAlgorithms.MONOTONE_CHAIN);
+        runner.setParallelism(3);
+        runner.setOutputDirectory(output);
+
+        List<BatchResult> results = Collections.synchronizedList(new ArrayList<>());
+        BatchSummary summary = runner.run(files, results::add);
+
+        assertEquals(20, summary.getFileCount());
+        assertEquals(0, summary.getFailedCount());
+        assertEquals(20 * 2000, summary.getPointCount());
+        for (BatchResult result : results) {
+            assertTrue(result.isSuccess(), result.toString());
+            PointBuffer input = result.getFile().toString().endsWith(".bin")
+                ? BinaryPointFile.readAll(result.getFile())
+                : PointFileReader.readAll(result.getFile());
+            PointBuffer expected = new MonotoneChain().findConvexHullPacked(input);
+            assertEquals(expected.size(), result.getVertexCount(), "Vertex count of " + result.getFile());
+            Path hullFile = output.resolve(result.getFile().getFileName() + BatchRunner.TEXT_SUFFIX);
+            assertEquals(expected.toList(), PointFileReader.readAll(hullFile).toList(),
+                         "Written hull of " + result.getFile() + " should be exact");
+        }
+    }
+
+    @Test
+    public void testFailuresAreIsolated() throws Exception {
+        List<Path> files = new ArrayList<>(writeInputs(4, 100));
+        Path corrupt = tempDir.resolve("corrupt.bin");
+        Files.write(corrupt, "not a binary point file at all, but long enough for a header"
+            .getBytes(StandardCharsets.US_ASCII));
+        files.add(1, corrupt);
+        files.add(3, tempDir.resolve("missing.txt"));
+
+        List<BatchResult> results = Collections.synchronizedList(new ArrayList<>());
+        BatchRunner runner = new BatchRunner(ConvexHullAlgorithms.GRAHAM_SCAN);
+        runner.setParallelism(2);
+        BatchSummary summary = runner.run(files, results::add);
+
+        assertEquals(6, summary.getFileCount());
+        assertEquals(2, summary.getFailedCount());
+        for (BatchResult result : results) {
+            boolean bad = result.getFile().equals(corrupt) || result.getFile().getFileName().toString().equals("missing.txt");
+            assertEquals(!bad, result.isSuccess(), result.toString());
+            if (bad) {
+                assertNotNull(result.getError());
+                assertTrue(result.toCsvLine().contains("FAILED"));
+            }
+        }
+    }
+
+    @Test
+    public void testOpenFileLimitBoundsConcurrency() throws Exception {
+        List<Path> files = writeInputs(12, 500);
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        BatchRunner runner = new BatchRunner(() -> probe);
+        runner.setParallelism(4);
+        runner.setMaxOpenFiles(2);
+        runner.setUseVirtualThreads(false);
+
+        BatchSummary summary = runner.run(files, result -> { });
+
+        assertEquals(0, summary.getFailedCount());
+        assertEquals(12, probe.calls.get());
+        assertTrue(probe.maxActive.get() <= 2, "At most 2 files should be in flight, saw " + probe.maxActive.get());
+    }
+
+    @Test
+    public void testMemoryBudgetSerializesAndStreamsLargeFiles() throws Exception {
+        // Each file is estimated to need more than the whole budget, so they run one at a time, in chunks
+        List<Path> files = writeInputs(4, 20000);
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        BatchRunner runner = new BatchRunner(() -> probe);
+        runner.setParallelism(4);
+        runner.setMemoryBudget(256 * 1024);
+        runner.setUseVirtualThreads(false);
+
+        List<BatchResult> results = Collections.synchronizedList(new ArrayList<>());
+        BatchSummary summary = runner.run(files, results::add);
+
+        assertEquals(0, summary.getFailedCount(), results.toString());
+        assertEquals(4 * 20000, summary.getPointCount());
+        assertEquals(1, probe.maxActive.get(), "Files over the memory budget should not overlap");
+        assertTrue(probe.calls.get() > 4, "Large files should be hulled in several chunks");
+    }
+
+    @Test
+    public void testCacheServesDuplicateInputs() throws Exception {
+        List<Path> files = new ArrayList<>(writeInputs(3, 1000));
+        for (int i = 0; i < 3; i++) {
+            Path copy = tempDir.resolve("copy-" + files.get(i).getFileName());
+            Files.copy(files.get(i), copy);
+            files.add(copy);
+        }
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        BatchRunner runner = new BatchRunner(() -> probe);
+        runner.setParallelism(1);
+        runner.setUseVirtualThreads(false);
+        runner.setCache(new HullCache(1 << 20));
+
+        BatchSummary summary = runner.run(files, result -> { });
+
+        assertEquals(0, summary.getFailedCount());
+        assertEquals(3, probe.calls.get(), "Copies should be answered from the cache");
+        assertEquals(3, runner.getCache().getHits());
+    }
+
+    @Test
+    public void testPrefilterReportsEliminatedPoints() throws Exception {
+        List<Path> files = writeInputs(2, 3000);
+        BatchRunner runner = new BatchRunner(ConvexHullAlgorithms.GRAHAM_SCAN);
+        runner.setPrefilter(true);
+
+        List<BatchResult> results = Collections.synchronizedList(new ArrayList<>());
+        BatchSummary summary = runner.run(files, results::add);
+
+        assertEquals(0, summary.getFailedCount());
+        for (BatchResult result : results) {
+            PointBuffer input = result.getFile().toString().endsWith(".bin")
+                ? BinaryPointFile.readAll(result.getFile())
+                : PointFileReader.readAll(result.getFile());
+            assertEquals(new MonotoneChain().findConvexHullPacked(input).size(), result.getVertexCount());
+            assertTrue(result.getEliminatedCount() > 0, result.toString());
+            assertEquals(Long.toString(result.getEliminatedCount()), result.toCsvLine().split(",")[4]);
+        }
+    }
+
+    @Test
+    public void testManifestAndDirectoryListing() throws IOException {
+        writeInputs(3, 10);
+        Path manifest = tempDir.resolve("manifest.txt");
+        Files.write(manifest, Arrays.asList("# inputs", "input-000.txt", "", "  input-002.txt  "), StandardCharsets.UTF_8);
+
+        List<Path> listed = BatchRunner.readManifest(manifest);
+        assertEquals(Arrays.asList(tempDir.toAbsolutePath().resolve("input-000.txt"),
+                                   tempDir.toAbsolutePath().resolve("input-002.txt")), listed);
+        assertEquals(4, BatchRunner.listDirectory(tempDir).size(), "Three inputs and the manifest");
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        BatchRunner runner = new BatchRunner(ConvexHullAlgorithms.ADAPTIVE);
+        assertThrows(IllegalArgumentException.class, () -> runner.setParallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> runner.setMaxOpenFiles(0));
+        assertThrows(IllegalArgumentException.class, () -> runner.setMemoryBudget(1000));
+        assertThrows(IllegalArgumentException.class, () -> runner.setDecimals(10));
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner("No Such Engine"));
+    }
+
+    // Records how many hulls are computed at the same time
+    private static class ConcurrencyProbe implements ConvexHullAlgorithm {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public String getName() {
+            return "Probe";
+        }
+
+        @Override
+        public List<Point> findConvexHull(List<Point> points) {
+            return new MonotoneChain().findConvexHull(points);
+        }
+
+        @Override
+        public PointBuffer findConvexHullPacked(PointBuffer points) {
+            int now = active.incrementAndGet();
+            maxActive.accumulateAndGet(now, Math::max);
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            PointBuffer hull = new MonotoneChain().findConvexHullPacked(points);
+            active.decrementAndGet();
+            return hull;
+        }
+    }
+}
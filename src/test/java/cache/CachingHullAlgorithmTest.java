@@ -0,0 +1,117 @@
+package cache;
+
+import algorithms.ChanAlgorithm;
+import algorithms.ConvexHullAlgorithm;
+import algorithms.MonotoneChain;
+import geometry.GeometryUtil;
+import geometry.Point;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingHullAlgorithmTest {
+
+    @Test
+    public void testRepeatedInputsAreServedFromTheCache() {
+        CountingEngine engine = new CountingEngine();
+        HullCache cache = new HullCache(1 << 20);
+        CachingHullAlgorithm caching = new CachingHullAlgorithm(engine, cache);
+        PointBuffer points = PointGenerator.generate(PointDistribution.GAUSSIAN_CLUSTERS, 5000, 3);
+
+        PointBuffer first = caching.findConvexHullPacked(points);
+        assertFalse(caching.wasLastHit());
+        PointBuffer second = caching.findConvexHullPacked(points.copy());
+        assertTrue(caching.wasLastHit());
+
+        assertEquals(1, engine.calls, "The engine should run once for equal inputs");
+        assertEquals(first.toList(), second.toList());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        // Another instance sharing the cache, with different options, must not reuse the entry
+        new CachingHullAlgorithm(engine, cache, "other").findConvexHullPacked(points);
+        assertEquals(2, engine.calls);
+    }
+
+    @Test
+    public void testDifferentlyConfiguredEnginesDoNotShareEntries() {
+        HullCache cache = new HullCache(1 << 20);
+        PointBuffer points = PointGenerator.generate(PointDistribution.UNIFORM_DISK, 2000, 5);
+        MonotoneChain epsilon;
+        GeometryUtil.OrientationMode previous = GeometryUtil.getDefaultOrientationMode();
+        try {
+            GeometryUtil.setDefaultOrientationMode(GeometryUtil.OrientationMode.EPSILON);
+            epsilon = new MonotoneChain();
+        } finally {
+            GeometryUtil.setDefaultOrientationMode(previous);
+        }
+
+        new CachingHullAlgorithm(new MonotoneChain(), cache).findConvexHullPacked(points);
+        CachingHullAlgorithm cachingEpsilon = new CachingHullAlgorithm(epsilon, cache);
+        cachingEpsilon.findConvexHullPacked(points);
+        assertFalse(cachingEpsilon.wasLastHit(), "Another orientation mode should not reuse the entry");
+
+        ChanAlgorithm chan = new ChanAlgorithm();
+        CachingHullAlgorithm cachingChan = new CachingHullAlgorithm(chan, cache);
+        cachingChan.findConvexHullPacked(points);
+        chan.getPolicy().setSmallInputThreshold(chan.getPolicy().getSmallInputThreshold() + 1);
+        cachingChan.findConvexHullPacked(points);
+        assertFalse(cachingChan.wasLastHit(), "Changing Chan's policy should change the key");
+        cachingChan.findConvexHullPacked(points);
+        assertTrue(cachingChan.wasLastHit());
+    }
+
+    @Test
+    public void testListResultUsesInputInstances() {
+        HullCache cache = new HullCache(1 << 20);
+        CachingHullAlgorithm caching = new CachingHullAlgorithm(new MonotoneChain(), cache);
+        List<Point> points = Arrays.asList(
+            new Point(0, 0), new Point(4, 0), new Point(4, 4), new Point(0, 4), new Point(2, 2), new Point(4, 0));
+
+        caching.findConvexHull(points);
+        List<Point> hull = caching.findConvexHull(points);
+
+        assertTrue(caching.wasLastHit());
+        assertEquals(4, hull.size());
+        for (Point vertex : hull) {
+            assertTrue(points.stream().anyMatch(p -> p == vertex), "Vertex " + vertex + " should be an input instance");
+        }
+    }
+
+    @Test
+    public void testDegenerateInputsBypassTheCache() {
+        HullCache cache = new HullCache(1 << 20);
+        CachingHullAlgorithm caching = new CachingHullAlgorithm(new MonotoneChain(), cache);
+
+        assertNull(caching.findConvexHullPacked(PointBuffer.fromList(Arrays.asList(new Point(0, 0), new Point(1, 1)))));
+        assertEquals(0, cache.getMisses(), "Fewer than 3 points should not be looked up");
+    }
+
+    private static class CountingEngine implements ConvexHullAlgorithm {
+        int calls;
+        private final MonotoneChain delegate = new MonotoneChain();
+
+        @Override
+        public String getName() {
+            return "Counting";
+        }
+
+        @Override
+        public List<Point> findConvexHull(List<Point> points) {
+            calls++;
+            return delegate.findConvexHull(points);
+        }
+
+        @Override
+        public PointBuffer findConvexHullPacked(PointBuffer points) {
+            calls++;
+            return delegate.findConvexHullPacked(points);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package cache;
+
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HullCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static PointBuffer hull(int size, double offset) {
+        PointBuffer points = new PointBuffer(size);
+        for (int i = 0; i < size; i++) {
+            points.add(i + offset, -i);
+        }
+        return points;
+    }
+
+    private static HullCacheKey key(int seed) {
+        return HullCacheKey.of(PointGenerator.generate(PointDistribution.UNIFORM_SQUARE, 100, seed), "Engine", "");
+    }
+
+    @Test
+    public void testKeyDependsOnContentEngineAndOptions() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.UNIFORM_DISK, 1000, 1);
+        HullCacheKey key = HullCacheKey.of(points, "Graham Scan", "");
+
+        assertEquals(key, HullCacheKey.of(points.copy(), "Graham Scan", ""), "Equal content should give equal keys");
+        assertEquals(key.fileName(), HullCacheKey.of(points.copy(), "Graham Scan", "").fileName());
+        assertNotEquals(key, HullCacheKey.of(points, "Monotone Chain", ""));
+        assertNotEquals(key, HullCacheKey.of(points, "Graham Scan", "epsilon"));
+        assertNotEquals(key.fileName(), HullCacheKey.of(points, "Graham Scan", "epsilon").fileName());
+
+        PointBuffer changed = points.copy();
+        changed.set(500, changed.getX(500), Math.nextUp(changed.getY(500)));
+        assertNotEquals(key, HullCacheKey.of(changed, "Graham Scan", ""), "A one-ulp change should change the key");
+        assertEquals(HullCacheKey.of(points.slice(10, 20), "E", ""), HullCacheKey.of(points.slice(10, 20).copy(), "E", ""),
+                     "Slices should hash only their own points");
+    }
+
+    @Test
+    public void testMemoryTierHitsAndLruEviction() {
+        // Room for two 10-point entries but not three
+        HullCache cache = new HullCache(2 * (160 + 160) + 100);
+        cache.put(key(1), hull(10, 1));
+        cache.put(key(2), hull(10, 2));
+        assertNotNull(cache.get(key(1)), "Entry 1 should be cached and becomes most recently used");
+        cache.put(key(3), hull(10, 3));
+
+        assertNull(cache.get(key(2)), "The least recently used entry should be evicted");
+        assertEquals(hull(10, 1).toList(), cache.get(key(1)).toList());
+        assertEquals(hull(10, 3).toList(), cache.get(key(3)).toList());
+        assertEquals(3, cache.getMemoryHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getMemoryEvictions());
+        assertEquals(2, cache.getMemoryEntryCount());
+        assertEquals(0.75, cache.getHitRate(), 1e-12);
+    }
+
+    @Test
+    public void testReturnedHullsAreCopies() {
+        HullCache cache = new HullCache(1 << 20);
+        PointBuffer original = hull(5, 0);
+        cache.put(key(1), original);
+        original.set(0, 99, 99);
+        cache.get(key(1)).set(1, 99, 99);
+
+        assertEquals(hull(5, 0).toList(), cache.get(key(1)).toList(), "Callers must not be able to change cached hulls");
+    }
+
+    @Test
+    public void testDiskTierSurvivesRestart() throws IOException {
+        Path directory = tempDir.resolve("cache");
+        HullCache first = new HullCache(1 << 20, directory, 1 << 20);
+        first.put(key(1), hull(20, 0));
+
+        HullCache second = new HullCache(1 << 20, directory, 1 << 20);
+        assertTrue(second.getDiskBytes() > 0, "Existing entries should be counted");
+        assertEquals(hull(20, 0).toList(), second.get(key(1)).toList());
+        assertEquals(1, second.getDiskHits());
+        assertNotNull(second.get(key(1)));
+        assertEquals(1, second.getMemoryHits(), "A disk hit should be promoted to memory");
+    }
+
+    @Test
+    public void testDiskTierEvictionAndCorruptEntries() throws IOException {
+        Path directory = tempDir.resolve("cache");
+        long entrySize = 48 + 16 * 50;
+        HullCache cache = new HullCache(0, directory, 2 * entrySize);
+        for (int i = 1; i <= 4; i++) {
+            cache.put(key(i), hull(50, i));
+        }
+        assertTrue(cache.getDiskBytes() <= 2 * entrySize, "Disk tier should stay within its limit");
+        assertTrue(cache.getDiskEvictions() >= 2);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+
+        Path entry = directory.resolve(key(4).fileName() + ".bin");
+        Files.write(entry, new byte[] {1, 2, 3});
+        assertNull(cache.get(key(4)), "A corrupt entry should be a miss");
+        assertFalse(Files.exists(entry), "A corrupt entry should be deleted");
+        assertEquals(1, cache.getDiskErrors());
+    }
+
+    @Test
+    public void testClear() throws IOException {
+        HullCache cache = new HullCache(1 << 20, tempDir.resolve("cache"), 1 << 20);
+        cache.put(key(1), hull(5, 0));
+        cache.clear();
+        assertNull(cache.get(key(1)));
+        assertEquals(0, cache.getDiskBytes());
+        assertEquals(0, cache.getMemoryBytes());
+    }
+}
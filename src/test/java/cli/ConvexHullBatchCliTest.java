@@ -0,0 +1,67 @@
+package cli;
+
+import batch.BatchResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConvexHullBatchCliTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testDirectoryWithReportAndFailure() throws IOException {
+        Path inputs = Files.createDirectory(tempDir.resolve("inputs"));
+        Files.write(inputs.resolve("a.txt"), "0,0\n1,0\n0,1\n".getBytes(StandardCharsets.US_ASCII));
+        Files.write(inputs.resolve("b.txt"), "0,0\n2,0\n2,2\n0,2\n1,1\n".getBytes(StandardCharsets.US_ASCII));
+        Files.write(inputs.resolve("c.bin"), new byte[10]);
+        Path report = tempDir.resolve("report.csv");
+        Path output = tempDir.resolve("hulls");
+
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exit = ConvexHullBatchCli.run(new String[] {"-j", "2", "-o", output.toString(), "-r", report.toString(),
+                                                        inputs.toString()},
+                                          new PrintStream(new ByteArrayOutputStream()), new PrintStream(err, true));
+
+        assertEquals(ConvexHullCli.EXIT_FAILURE, exit, "A failed file should make the exit code non-zero");
+        List<String> lines = Files.readAllLines(report, StandardCharsets.UTF_8);
+        assertEquals(BatchResult.CSV_HEADER, lines.get(0));
+        assertEquals(4, lines.size(), "One record per file");
+        assertTrue(Files.exists(output.resolve("b.txt.hull.txt")));
+        assertTrue(err.toString(StandardCharsets.UTF_8.name()).contains("3 files (1 failed)"));
+    }
+
+    @Test
+    public void testUsageErrors() {
+        PrintStream sink = new PrintStream(new ByteArrayOutputStream());
+        assertEquals(ConvexHullCli.EXIT_USAGE, ConvexHullBatchCli.run(new String[0], sink, sink));
+        assertEquals(ConvexHullCli.EXIT_USAGE, ConvexHullBatchCli.run(new String[] {"-j", "x", "dir"}, sink, sink));
+        assertEquals(ConvexHullCli.EXIT_USAGE, ConvexHullBatchCli.run(new String[] {"--threads", "green", "dir"}, sink, sink));
+        assertEquals(ConvexHullCli.EXIT_USAGE, ConvexHullBatchCli.run(new String[] {"-d", "12", "dir"}, sink, sink));
+        assertEquals(ConvexHullCli.EXIT_USAGE, ConvexHullBatchCli.run(new String[] {"-j", "0", "dir"}, sink, sink));
+        assertEquals(ConvexHullCli.EXIT_USAGE, ConvexHullBatchCli.run(new String[] {"--max-open", "-1", "dir"}, sink, sink));
+        assertEquals(ConvexHullCli.EXIT_USAGE, ConvexHullBatchCli.run(new String[] {"--memory", "0", "dir"}, sink, sink));
+    }
+
+    @Test
+    public void testInvalidNumbersNameTheOption() {
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        PrintStream err = new PrintStream(errors, true);
+        PrintStream sink = new PrintStream(new ByteArrayOutputStream());
+
+        assertEquals(ConvexHullCli.EXIT_USAGE, ConvexHullBatchCli.run(new String[] {"--memory", "lots", "dir"}, sink, err));
+
+        assertTrue(errors.toString().startsWith("Invalid number for --memory: lots"),
+                   "The error should name the option: " + errors);
+    }
+}
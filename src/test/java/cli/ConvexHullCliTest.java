@@ -0,0 +1,185 @@
+package cli;
+
+import algorithms.ConvexHullAlgorithms;
+import geometry.Point;
+import geometry.PointBuffer;
+import geometry.io.BinaryPointFile;
+import geometry.io.BinaryPointWriter;
+import geometry.io.PointFileReader;
+import metrics.HullMetrics;
+import metrics.HullMetricsListener;
+import metrics.JmxHullMetrics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConvexHullCliTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private int run(String... args) {
+        return ConvexHullCli.run(args, new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    private Path square() throws IOException {
+        Path file = tempDir.resolve("square.txt");
+        Files.write(file, "0, 0\n4, 0\n4, 4\n0, 4\n2, 2\n1, 3\n".getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    @Test
+    public void testWritesVerticesAndStatistics() throws IOException {
+        assertEquals(ConvexHullCli.EXIT_OK, run("-e", "graham", square().toString()));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8.name()).trim().split("\\R");
+        assertEquals(4, lines.length, "The square's four corners should be printed");
+        String stats = err.toString(StandardCharsets.UTF_8.name());
+        assertTrue(stats.contains("points    6"), stats);
+        assertTrue(stats.contains("vertices  4"), stats);
+        assertTrue(stats.contains("engine    " + ConvexHullAlgorithms.GRAHAM_SCAN), stats);
+    }
+
+    @Test
+    public void testOutputFilesAndChunkedInput() throws IOException {
+        Path text = tempDir.resolve("hull.txt");
+        assertEquals(ConvexHullCli.EXIT_OK, run("-q", "-o", text.toString(), square().toString()));
+        assertEquals(4, PointFileReader.readAll(text).size());
+        assertEquals(0, err.size(), "Quiet mode should print nothing");
+
+        Path input = tempDir.resolve("points.bin");
+        PointBuffer points = new PointBuffer();
+        for (int i = 0; i < 5000; i++) {
+            points.add(Math.cos(i), Math.sin(i) * 0.5);
+        }
+        points.add(2, 0);
+        BinaryPointWriter.write(input, points);
+        Path binary = tempDir.resolve("hull.bin");
+        assertEquals(ConvexHullCli.EXIT_OK,
+                     run("-q", "--chunked", "--chunk-size", "1000", "-e", "Chan's Algorithm", "-o", binary.toString(),
+                         input.toString()));
+        PointBuffer hull = BinaryPointFile.readAll(binary);
+        assertTrue(hull.toList().contains(new Point(2, 0)), "The outlier should be a hull vertex");
+    }
+
+    @Test
+    public void testTextOutputFileMatchesStandardOutput() throws IOException {
+        Path input = tempDir.resolve("thirds.txt");
+        Files.write(input, "0.1, 0.2\n1e-7, 3.3333333333333335\n2.718281828459045, 0.30000000000000004\n1, 1\n"
+                               .getBytes(StandardCharsets.US_ASCII));
+        assertEquals(ConvexHullCli.EXIT_OK, run("-q", input.toString()));
+        List<Point> printed = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8.name()).trim().split("\\R")) {
+            String[] xy = line.split(", ");
+            printed.add(new Point(Double.parseDouble(xy[0]), Double.parseDouble(xy[1])));
+        }
+
+        Path text = tempDir.resolve("hull.txt");
+        assertEquals(ConvexHullCli.EXIT_OK, run("-q", "-o", text.toString(), input.toString()));
+        assertEquals(printed, PointFileReader.readAll(text).toList(), "The file should hold the printed vertices exactly");
+
+        assertEquals(ConvexHullCli.EXIT_OK, run("-q", "-d", "2", "-o", text.toString(), input.toString()));
+        PointBuffer rounded = PointFileReader.readAll(text);
+        assertNotEquals(printed, rounded.toList(), "--decimals should still round");
+        for (int i = 0; i < printed.size(); i++) {
+            assertEquals(printed.get(i).getX(), rounded.getX(i), 0.005);
+            assertEquals(printed.get(i).getY(), rounded.getY(i), 0.005);
+        }
+    }
+
+    @Test
+    public void testPrefilterReportsEliminatedPoints() throws IOException {
+        Path input = tempDir.resolve("disc.txt");
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            double r = (i % 10) / 10.0;
+            lines.add(r * Math.cos(i) + ", " + r * Math.sin(i));
+        }
+        Files.write(input, lines, StandardCharsets.US_ASCII);
+
+        assertEquals(ConvexHullCli.EXIT_OK, run("-n", input.toString()));
+        String plain = err.toString(StandardCharsets.UTF_8.name());
+        assertFalse(plain.contains("filtered"), plain);
+        err.reset();
+
+        assertEquals(ConvexHullCli.EXIT_OK, run("-n", "--prefilter", input.toString()));
+        String stats = err.toString(StandardCharsets.UTF_8.name());
+        assertTrue(stats.matches("(?s).*filtered  [1-9]\\d*\\R.*"), stats);
+    }
+
+    @Test
+    public void testJmxIsPublishedOnlyWhileRunning() throws Exception {
+        ObjectName name = new ObjectName(JmxHullMetrics.OBJECT_NAME);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        AtomicBoolean registeredDuringRun = new AtomicBoolean();
+        HullMetricsListener probe = metrics -> registeredDuringRun.set(server.isRegistered(name));
+        HullMetrics.addListener(probe);
+        try {
+            assertEquals(ConvexHullCli.EXIT_OK, run("--jmx", "-e", "graham", "-q", square().toString()));
+        } finally {
+            HullMetrics.removeListener(probe);
+        }
+        assertTrue(registeredDuringRun.get(), "The MXBean should be up during the run");
+        assertFalse(server.isRegistered(name), "The MXBean should be removed when the run ends");
+    }
+
+    @Test
+    public void testEngineNameResolution() {
+        assertEquals(ConvexHullAlgorithms.MONOTONE_CHAIN, ConvexHullCli.resolveEngine("monotone-chain"));
+        assertEquals(ConvexHullAlgorithms.CHAN, ConvexHullCli.resolveEngine("chan"));
+        assertEquals(ConvexHullAlgorithms.JARVIS_MARCH, ConvexHullCli.resolveEngine("Jarvis March"));
+        assertThrows(IllegalArgumentException.class, () -> ConvexHullCli.resolveEngine("m"));
+        assertThrows(IllegalArgumentException.class, () -> ConvexHullCli.resolveEngine("quickhull"));
+    }
+
+    @Test
+    public void testUsageErrors() throws IOException {
+        assertEquals(ConvexHullCli.EXIT_USAGE, run());
+        assertEquals(ConvexHullCli.EXIT_USAGE, run("--bogus", "file.txt"));
+        assertEquals(ConvexHullCli.EXIT_USAGE, run("-e"));
+        assertEquals(ConvexHullCli.EXIT_USAGE, run("-d", "12", "file.txt"));
+        assertEquals(ConvexHullCli.EXIT_FAILURE, run(tempDir.resolve("missing.txt").toString()));
+        assertEquals(ConvexHullCli.EXIT_OK, run("--help"));
+        assertEquals(ConvexHullCli.EXIT_OK, run("--list-engines"));
+    }
+
+    @Test
+    public void testDoesNotLoadJavaFx() throws Exception {
+        // A separate JVM with only the project's classes on the class path, listing every class it loads
+        Path classes = Paths.get(ConvexHullCli.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        List<String> command = new ArrayList<>();
+        command.add(java.toString());
+        command.add("-verbose:class");
+        command.add("-cp");
+        command.add(classes.toString());
+        command.add("ConvexHullDriver");
+        command.add("--cli");
+        command.add("-n");
+        command.add(square().toString());
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals(0, process.waitFor(), output);
+        assertTrue(output.contains("vertices  4"), output);
+        assertFalse(output.contains("javafx"), "No JavaFX class should be loaded");
+    }
+}
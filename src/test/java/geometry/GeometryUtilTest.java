@@ -156,7 +156,7 @@ public class GeometryUtilTest {
         Point p2 = new Point(1, 1);
 
         List<Point> points = new ArrayList<>(Arrays.asList(p2, reference, p1));
-        geometryUtil.sortPointByPolarAngle(points, reference);
+        geometryUtil.sortPointByPolarAngle(points, geometryUtil.findLowestPointIndex(points));
 
         List<Point> expectedOrder = Arrays.asList(p1, p2);
 
@@ -174,4 +174,99 @@ public class GeometryUtilTest {
         geometryUtil.sortPointByPolarAngle(points, reference);
         assertTrue(points.isEmpty(), "List should remain empty");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSortPointByPolarAngleAllQuadrants() {
+        Point reference = new Point(1, 1);
+        Point below = new Point(1, -1);      // -90 degrees
+        Point lowerLeft = new Point(-1, -1); // -135 degrees
+        Point lowerRight = new Point(3, -1); // -45 degrees
+        Point right = new Point(3, 1);       // 0 degrees
+        Point upperLeft = new Point(-1, 3);  // 135 degrees
+        Point left = new Point(-1, 1);       // 180 degrees
+        Point farLeft = new Point(-3, 1);    // 180 degrees, further
+
+        List<Point> points = new ArrayList<>(Arrays.asList(farLeft, right, left, upperLeft, below, lowerRight, lowerLeft));
+        geometryUtil.sortPointByPolarAngle(points, reference);
+
+        assertEquals(Arrays.asList(lowerLeft, below, lowerRight, right, upperLeft, left, farLeft), points,
+                     "Points should be ordered by polar angle in (-180, 180] degrees");
+    }
+
+    @Test
+    public void testSortPointByPolarAngleRemovesOneCopyOfReference() {
+        Point reference = new Point(0, 0);
+        Point p1 = new Point(1, -1);
+        Point p2 = new Point(1, 1);
+
+        List<Point> points = new ArrayList<>(Arrays.asList(p2, new Point(0, 0), p1, new Point(0, 0)));
+        geometryUtil.sortPointByPolarAngle(points, 3);
+
+        assertEquals(Arrays.asList(p1, reference, p2), points, "Only one copy of the reference should be removed");
+    }
+
+    @Test
+    public void testSortPointByPolarAngleKeepsReferencePoint() {
+        Point reference = new Point(0, 0);
+        Point p1 = new Point(1, -1);
+        Point p2 = new Point(1, 1);
+
+        List<Point> points = new ArrayList<>(Arrays.asList(p2, reference, p1));
+        geometryUtil.sortPointByPolarAngle(points, reference);
+
+        assertEquals(Arrays.asList(p1, reference, p2), points, "Sorting around a point should not remove it");
+    }
+
+    @Test
+    public void testComparePolarIsTransitiveOnNearlyCollinearPoints() {
+        // Points within rounding error of one ray, where a raw cross product has no reliable sign
+        Point reference = new Point(0.1, 0.2);
+        List<Point> points = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            points.add(new Point(0.1 + 0.1 * i, 0.2 + 0.3 * i));
+            points.add(new Point(0.1 + 0.1 * i + Math.ulp(1.0), 0.2 + 0.3 * i));
+        }
+        for (Point a : points) {
+            for (Point b : points) {
+                int ab = compare(reference, a, b);
+                assertEquals(-ab, compare(reference, b, a), "Comparison of " + a + " and " + b + " should be antisymmetric");
+                for (Point c : points) {
+                    if (ab <= 0 && compare(reference, b, c) <= 0) {
+                        assertTrue(compare(reference, a, c) <= 0,
+                                   "Order of " + a + ", " + b + " and " + c + " should be transitive");
+                    }
+                }
+            }
+        }
+    }
+
+    private int compare(Point reference, Point p1, Point p2) {
+        return Integer.signum(geometryUtil.comparePolar(reference.getX(), reference.getY(),
+                                                        p1.getX(), p1.getY(), p2.getX(), p2.getY()));
+    }
+
+    @Test
+    public void testComparePolarMatchesPolarAngle() {
+        Point reference = new Point(0.5, -0.25);
+        List<Point> points = new ArrayList<>();
+        for (int x = -3; x <= 3; x++) {
+            for (int y = -3; y <= 3; y++) {
+                points.add(new Point(x, y));
+            }
+        }
+        for (Point p1 : points) {
+            for (Point p2 : points) {
+                double angle1 = geometryUtil.polarAngle(reference, p1);
+                double angle2 = geometryUtil.polarAngle(reference, p2);
+                int expected = angle1 != angle2
+                    ? Double.compare(angle1, angle2)
+                    : Double.compare(geometryUtil.squaredDistance(reference, p1), geometryUtil.squaredDistance(reference, p2));
+                if (Math.abs(angle1 - angle2) > 1e-9 || expected == 0) {
+                    assertEquals(expected, Integer.signum(geometryUtil.comparePolar(reference.getX(), reference.getY(),
+                                     p1.getX(), p1.getY(), p2.getX(), p2.getY())),
+                                 "Comparison of " + p1 + " and " + p2 + " should follow their polar angles");
+                }
+            }
+        }
+    }
+}
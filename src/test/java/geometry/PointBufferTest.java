@@ -0,0 +1,66 @@
+package geometry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class PointBufferTest {
+
+    private PointBuffer buffer;
+
+    @BeforeEach
+    public void setUp() {
+        buffer = new PointBuffer(2);
+    }
+
+    @Test
+    public void testAddGrowsBeyondInitialCapacity() {
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i, -i);
+        }
+        assertEquals(100, buffer.size(), "Buffer should hold all added points");
+        assertEquals(42.0, buffer.getX(42), "X coordinate should be preserved");
+        assertEquals(-42.0, buffer.getY(42), "Y coordinate should be preserved");
+    }
+
+    @Test
+    public void testSliceSharesStorage() {
+        for (int i = 0; i < 10; i++) {
+            buffer.add(i, i * 2);
+        }
+        PointBuffer slice = buffer.slice(3, 7);
+        assertEquals(4, slice.size(), "Slice should cover [3, 7)");
+        assertEquals(3.0, slice.getX(0), "Slice index 0 should map to parent index 3");
+
+        slice.set(0, 100, 200);
+        assertEquals(100.0, buffer.getX(3), "Writes through a slice should be visible in the parent");
+        assertThrows(UnsupportedOperationException.class, () -> slice.add(1, 1), "Slices cannot grow");
+    }
+
+    @Test
+    public void testInvalidSlice() {
+        buffer.add(0, 0);
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.slice(0, 2));
+    }
+
+    @Test
+    public void testListRoundTrip() {
+        List<Point> points = Arrays.asList(new Point(1, 2), new Point(3, 4), new Point(-5, 6));
+        PointBuffer packed = PointBuffer.fromList(points);
+        assertEquals(points, packed.toList(), "Round trip through a PointBuffer should preserve points");
+    }
+
+    @Test
+    public void testSelect() {
+        buffer.add(0, 0);
+        buffer.add(1, 1);
+        buffer.add(2, 2);
+        PointBuffer selected = buffer.select(new int[] { 2, 0 });
+        assertEquals(2, selected.size());
+        assertEquals(new Point(2, 2), selected.toPoint(0));
+        assertEquals(new Point(0, 0), selected.toPoint(1));
+    }
+}
@@ -0,0 +1,118 @@
+package geometry;
+
+import algorithms.MonotoneChain;
+import geometry.io.BinaryPointFile;
+import geometry.io.PointFileReader;
+import geometry.io.PointSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testSameSeedGivesSamePoints() {
+        for (PointDistribution distribution : PointDistribution.values()) {
+            PointBuffer first = PointGenerator.generate(distribution, 1000, 7);
+            PointBuffer second = PointGenerator.generate(distribution, 1000, 7);
+            assertEquals(first.toList(), second.toList(), distribution + " should be reproducible");
+        }
+    }
+
+    @Test
+    public void testDifferentSeedsGiveDifferentPoints() {
+        PointBuffer first = PointGenerator.generate(PointDistribution.UNIFORM_SQUARE, 100, 1);
+        PointBuffer second = PointGenerator.generate(PointDistribution.UNIFORM_SQUARE, 100, 2);
+        assertNotEquals(first.toList(), second.toList(), "Different seeds should give different points");
+    }
+
+    @Test
+    public void testChunkingDoesNotChangeThePoints() throws IOException {
+        PointGenerator generator = new PointGenerator(PointDistribution.GAUSSIAN_CLUSTERS, 99);
+        PointBuffer whole = generator.generate(1000);
+
+        PointBuffer chunked = new PointBuffer();
+        try (PointSource source = generator.source(1000)) {
+            while (source.read(chunked, 37) > 0) {
+                // Read everything
+            }
+        }
+        assertEquals(whole.toList(), chunked.toList(), "Streamed chunks should match the whole set");
+
+        PointBuffer middle = new PointBuffer();
+        generator.generate(500, 10, middle);
+        assertEquals(whole.slice(500, 510).toList(), middle.toList(), "A range should be generated independently");
+    }
+
+    @Test
+    public void testDistributionShapes() {
+        int n = 10000;
+        PointBuffer square = PointGenerator.generate(PointDistribution.UNIFORM_SQUARE, n, 3);
+        PointBuffer disk = PointGenerator.generate(PointDistribution.UNIFORM_DISK, n, 3);
+        PointBuffer circle = PointGenerator.generate(PointDistribution.CIRCLE, n, 3);
+        for (int i = 0; i < n; i++) {
+            assertTrue(square.getX(i) >= 0 && square.getX(i) < 1000 && square.getY(i) >= 0 && square.getY(i) < 1000);
+            assertTrue(Math.hypot(disk.getX(i), disk.getY(i)) <= 500 + 1e-9);
+            assertEquals(500, Math.hypot(circle.getX(i), circle.getY(i)), 1e-9);
+        }
+
+        PointBuffer duplicates = PointGenerator.generate(PointDistribution.HEAVY_DUPLICATES, n, 3);
+        Set<Point> distinct = new HashSet<>(duplicates.toList());
+        assertTrue(distinct.size() <= 64, "Duplicates should come from an 8 x 8 lattice");
+    }
+
+    @Test
+    public void testCircleHullHoldsNearlyEveryPoint() {
+        PointBuffer circle = new PointGenerator(PointDistribution.CIRCLE, 5).setScale(1e6).generate(2000);
+        int hullSize = new MonotoneChain().findConvexHullPacked(circle).size();
+        assertTrue(hullSize > 1900, "Points on a circle should almost all be hull vertices, got " + hullSize);
+    }
+
+    @Test
+    public void testNearCollinearPointsAreWithinUlpsOfTheLine() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.NEAR_COLLINEAR, 1000, 11);
+        for (int i = 0; i < points.size(); i++) {
+            double onLine = points.getX(i) / 3.0;
+            assertTrue(Math.abs(points.getY(i) - onLine) <= 3 * Math.ulp(onLine), "Point " + i + " is too far off the line");
+        }
+    }
+
+    @Test
+    public void testWriteTextAndBinary() throws IOException {
+        PointGenerator generator = new PointGenerator(PointDistribution.UNIFORM_DISK, 21);
+        PointBuffer expected = generator.generate(100000);
+
+        Path binary = tempDir.resolve("disk.bin");
+        generator.writeBinary(binary, 100000);
+        assertEquals(expected.toList(), BinaryPointFile.readAll(binary).toList(), "Binary output should be exact");
+
+        Path text = tempDir.resolve("disk.txt");
+        generator.writeText(text, 100000);
+        PointBuffer read = PointFileReader.readAll(text);
+        assertEquals(expected.toList(), read.toList(), "Text output should be exact too");
+
+        // Points one ulp off a line only stay near-collinear if the text keeps every digit
+        PointGenerator nearCollinear = new PointGenerator(PointDistribution.NEAR_COLLINEAR, 22);
+        Path lines = tempDir.resolve("lines.txt");
+        nearCollinear.writeText(lines, 1000);
+        assertEquals(nearCollinear.generate(1000).toList(), PointFileReader.readAll(lines).toList());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new PointGenerator(null, 1));
+        PointGenerator generator = new PointGenerator(PointDistribution.UNIFORM_SQUARE, 1);
+        assertThrows(IllegalArgumentException.class, () -> generator.setScale(0));
+        assertThrows(IllegalArgumentException.class, () -> generator.source(-1));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(-1, 5, new PointBuffer()));
+    }
+}
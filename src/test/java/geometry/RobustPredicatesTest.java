@@ -0,0 +1,72 @@
+package geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RobustPredicatesTest {
+
+    @Test
+    public void testSimpleTurns() {
+        assertTrue(RobustPredicates.orient2d(0, 0, 1, 0, 0, 1) > 0, "Should be Counter-Clockwise");
+        assertTrue(RobustPredicates.orient2d(0, 0, 0, 1, 1, 0) < 0, "Should be Clockwise");
+        assertEquals(0.0, RobustPredicates.orient2d(0, 0, 1, 1, 2, 2), "Should be Collinear");
+    }
+
+    @Test
+    public void testNearlyCollinearPointsMatchExactArithmetic() {
+        // Perturbations of a point on the line through q and r by a few ulps, where the
+        // plain floating-point determinant is known to return inconsistent signs
+        double qx = 12;
+        double qy = 12;
+        double rx = 24;
+        double ry = 24;
+        double ulp = Math.ulp(0.5);
+        for (int i = 0; i < 64; i++) {
+            for (int j = 0; j < 64; j++) {
+                double px = 0.5 + i * ulp;
+                double py = 0.5 + j * ulp;
+                assertEquals(exactSign(px, py, qx, qy, rx, ry),
+                             (int) Math.signum(RobustPredicates.orient2d(px, py, qx, qy, rx, ry)),
+                             "Sign should be exact for perturbation (" + i + ", " + j + ")");
+            }
+        }
+    }
+
+    @Test
+    public void testLargeCoordinates() {
+        double big = 1e15;
+        assertEquals(0.0, RobustPredicates.orient2d(big, big, big + 1, big + 1, big + 2, big + 2),
+                     "Collinear points with large coordinates should be detected");
+        assertTrue(RobustPredicates.orient2d(big, big, big + 2, big, big + 1, big + 1) > 0,
+                   "A unit turn next to large coordinates should be Counter-Clockwise");
+    }
+
+    @Test
+    public void testGeometryUtilModes() {
+        // A triangle whose cross product is 1e-12, below the fixed epsilon
+        GeometryUtil epsilon = new GeometryUtil(GeometryUtil.OrientationMode.EPSILON);
+        GeometryUtil robust = new GeometryUtil(GeometryUtil.OrientationMode.ROBUST);
+        assertEquals(0, epsilon.orientation(0, 0, 1e-6, 0, 0, 1e-6), "Epsilon mode should report Collinear");
+        assertEquals(-1, robust.orientation(0, 0, 1e-6, 0, 0, 1e-6), "Robust mode should report Counter-Clockwise");
+
+        GeometryUtil.OrientationMode previous = GeometryUtil.getDefaultOrientationMode();
+        try {
+            GeometryUtil.setDefaultOrientationMode(GeometryUtil.OrientationMode.EPSILON);
+            assertEquals(GeometryUtil.OrientationMode.EPSILON, new GeometryUtil().getOrientationMode(),
+                         "New instances should use the default mode");
+        } finally {
+            GeometryUtil.setDefaultOrientationMode(previous);
+        }
+    }
+
+    private static int exactSign(double ax, double ay, double bx, double by, double cx, double cy) {
+        BigDecimal acx = new BigDecimal(ax).subtract(new BigDecimal(cx));
+        BigDecimal bcy = new BigDecimal(by).subtract(new BigDecimal(cy));
+        BigDecimal acy = new BigDecimal(ay).subtract(new BigDecimal(cy));
+        BigDecimal bcx = new BigDecimal(bx).subtract(new BigDecimal(cx));
+        return acx.multiply(bcy).subtract(acy.multiply(bcx)).signum();
+    }
+}
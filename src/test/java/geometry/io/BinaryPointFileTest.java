@@ -0,0 +1,134 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryPointFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random random = new Random(11);
+        PointBuffer points = new PointBuffer();
+        for (int i = 0; i < 20000; i++) {
+            points.add(random.nextGaussian() * 50, random.nextGaussian() * 50);
+        }
+        Path file = tempDir.resolve("points" + BinaryPointFile.EXTENSION);
+
+        BinaryPointWriter.write(file, points);
+        PointBuffer read = BinaryPointFile.readAll(file);
+
+        assertEquals(points.size(), read.size(), "All points should be read back");
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(points.getX(i), read.getX(i), 0.0, "x of point " + i);
+            assertEquals(points.getY(i), read.getY(i), 0.0, "y of point " + i);
+        }
+        assertEquals(BinaryPointFile.HEADER_SIZE + 16L * points.size(), Files.size(file), "File should hold header and two columns");
+    }
+
+    @Test
+    public void testHeaderAndColumnViews() throws IOException {
+        Path file = tempDir.resolve("points" + BinaryPointFile.EXTENSION);
+        try (BinaryPointWriter writer = new BinaryPointWriter(file, 3)) {
+            writer.add(1, -2);
+            writer.add(-3, 4);
+            writer.add(5, 0.5);
+        }
+
+        try (BinaryPointFile binary = BinaryPointFile.open(file)) {
+            assertEquals(3, binary.getCount());
+            assertEquals(-3, binary.getMinX(), 0.0);
+            assertEquals(-2, binary.getMinY(), 0.0);
+            assertEquals(5, binary.getMaxX(), 0.0);
+            assertEquals(4, binary.getMaxY(), 0.0);
+
+            DoubleBuffer xs = binary.xColumn();
+            DoubleBuffer ys = binary.yColumn();
+            assertEquals(3, xs.remaining(), "Column views should cover every point");
+            assertEquals(-3, xs.get(1), 0.0);
+            assertEquals(0.5, ys.get(2), 0.0);
+        }
+    }
+
+    @Test
+    public void testConvertTextFile() throws IOException {
+        Path text = tempDir.resolve("points.txt");
+        Files.write(text, "# Sample points\n-85.0, 65.0\n-75.0 -45.0\n\n10,20\n".getBytes(StandardCharsets.US_ASCII));
+        Path binary = tempDir.resolve("points" + BinaryPointFile.EXTENSION);
+
+        assertEquals(3, BinaryPointWriter.convert(text, binary), "Three points should be converted");
+
+        PointBuffer expected = PointFileReader.readAll(text);
+        PointBuffer converted = BinaryPointFile.readAll(binary);
+        assertEquals(expected.toList(), converted.toList(), "Converted points should match the text file");
+    }
+
+    @Test
+    public void testWrongCountIsRejected() throws IOException {
+        Path file = tempDir.resolve("short" + BinaryPointFile.EXTENSION);
+        BinaryPointWriter writer = new BinaryPointWriter(file, 2);
+        writer.add(1, 1);
+        assertThrows(IOException.class, writer::close, "Closing before all points are written should fail");
+
+        try (BinaryPointWriter full = new BinaryPointWriter(tempDir.resolve("full" + BinaryPointFile.EXTENSION), 1)) {
+            full.add(1, 1);
+            assertThrows(IllegalStateException.class, () -> full.add(2, 2), "Adding past the count should fail");
+        }
+    }
+
+    @Test
+    public void testInvalidFilesAreRejected() throws IOException {
+        Path text = tempDir.resolve("points.txt");
+        Files.write(text, "1,2\n3,4\n5,6\n7,8\n9,10\n11,12\n13,14\n".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(IOException.class, () -> BinaryPointFile.open(text), "Text files should be rejected");
+
+        Path binary = tempDir.resolve("points" + BinaryPointFile.EXTENSION);
+        PointBuffer points = new PointBuffer();
+        points.add(1, 2);
+        points.add(3, 4);
+        BinaryPointWriter.write(binary, points);
+        byte[] bytes = Files.readAllBytes(binary);
+        Path truncated = tempDir.resolve("truncated" + BinaryPointFile.EXTENSION);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(IOException.class, () -> BinaryPointFile.open(truncated), "Truncated files should be rejected");
+    }
+
+    @Test
+    public void testChunkedReader() throws IOException {
+        PointBuffer points = new PointBuffer();
+        for (int i = 0; i < 10000; i++) {
+            points.add(i, -i);
+        }
+        Path file = tempDir.resolve("points" + BinaryPointFile.EXTENSION);
+        BinaryPointWriter.write(file, points);
+
+        try (PointSource source = PointSource.open(file)) {
+            assertTrue(source instanceof BinaryPointReader, "Binary files should be opened with BinaryPointReader");
+            BinaryPointReader reader = (BinaryPointReader) source;
+            assertEquals(0, reader.getMinX(), "Header bounds should be known before reading");
+            assertEquals(9999, reader.getMaxX());
+            assertEquals(-9999, reader.getMinY());
+            assertEquals(0, reader.getMaxY());
+            PointBuffer read = new PointBuffer();
+            int chunks = 0;
+            while (source.read(read, 3000) > 0) {
+                chunks++;
+            }
+            assertEquals(4, chunks, "Points should be read in chunks of at most 3000");
+            assertEquals(points.toList(), read.toList(), "Chunks should hold every point in order");
+        }
+    }
+}
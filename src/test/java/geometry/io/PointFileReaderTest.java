@@ -0,0 +1,152 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCommaAndWhitespaceSeparatedLines() throws IOException {
+        Path file = write("# Sample points\n"
+                          + "-85.0, 65.0\n"
+                          + "1 2\n"
+                          + "\t3\t4   \n"
+                          + "\n"
+                          + "  # indented comment\n"
+                          + "5,6,7\n"
+                          + "8 , -9.5\n");
+
+        PointBuffer points = PointFileReader.readAll(file);
+
+        assertEquals(5, points.size(), "Five points should be read");
+        assertPoint(points, 0, -85.0, 65.0);
+        assertPoint(points, 1, 1, 2);
+        assertPoint(points, 2, 3, 4);
+        assertPoint(points, 3, 5, 6);
+        assertPoint(points, 4, 8, -9.5);
+    }
+
+    @Test
+    public void testLineEndingsAndMissingFinalNewline() throws IOException {
+        PointBuffer points = PointFileReader.readAll(write("1,2\r\n3,4\r5,6"));
+
+        assertEquals(3, points.size(), "CRLF, CR and an unterminated last line should all be read");
+        assertPoint(points, 2, 5, 6);
+    }
+
+    @Test
+    public void testInvalidLinesAreSkipped() throws IOException {
+        Path file = write("1,2\nabc,3\n4\n5,x\n6,7\n");
+
+        try (PointFileReader reader = new PointFileReader(file)) {
+            PointBuffer points = new PointBuffer();
+            while (reader.read(points, 100) > 0) {
+                // Read everything
+            }
+            assertEquals(2, points.size(), "Only valid lines should produce points");
+            assertPoint(points, 1, 6, 7);
+            assertEquals(3, reader.getSkippedLines(), "Invalid lines should be counted");
+        }
+    }
+
+    @Test
+    public void testNumberFormatsMatchParseDouble() throws IOException {
+        String[] numbers = {
+            "0", "-0", "+3", "0.1", ".5", "5.", "-0.000123", "1e3", "2.5E-4", "-7e+2", "123456789012345",
+            "3.14159265358979323846", "1e300", "4.9e-324", "0x1p3", "1234567890123456789012", "9007199254740993"
+        };
+        StringBuilder content = new StringBuilder();
+        for (String number : numbers) {
+            content.append(number).append(", ").append(number).append('\n');
+        }
+
+        PointBuffer points = PointFileReader.readAll(write(content.toString()));
+
+        assertEquals(numbers.length, points.size(), "Every number should be parsed");
+        for (int i = 0; i < numbers.length; i++) {
+            assertEquals(Double.doubleToLongBits(Double.parseDouble(numbers[i])), Double.doubleToLongBits(points.getX(i)),
+                         "Parsing " + numbers[i] + " should match Double.parseDouble");
+        }
+    }
+
+    @Test
+    public void testRandomDecimalsMatchParseDouble() throws IOException {
+        Random random = new Random(3);
+        StringBuilder content = new StringBuilder();
+        double[] expected = new double[2000];
+        for (int i = 0; i < expected.length; i++) {
+            String number = String.format(Locale.ROOT, "%.6f", (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12)));
+            expected[i] = Double.parseDouble(number);
+            content.append(number).append(' ').append(i).append('\n');
+        }
+
+        PointBuffer points = PointFileReader.readAll(write(content.toString()));
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], points.getX(i), 0.0, "Line " + i + " should be parsed exactly");
+            assertEquals(i, points.getY(i), 0.0);
+        }
+    }
+
+    @Test
+    public void testSmallWindowsAndChunks() throws IOException {
+        StringBuilder content = new StringBuilder("# header\n");
+        for (int i = 0; i < 1000; i++) {
+            content.append(i).append(".25,").append(-i).append('\n');
+        }
+        Path file = write(content.toString());
+
+        // Windows shorter than some lines force lines to be remapped across window boundaries
+        try (PointFileReader reader = new PointFileReader(file, 13)) {
+            PointBuffer points = new PointBuffer();
+            int chunks = 0;
+            while (reader.read(points, 7) > 0) {
+                chunks++;
+            }
+            assertEquals(1000, points.size(), "All points should be read");
+            assertEquals(143, chunks, "Points should be read in chunks of at most 7");
+            for (int i = 0; i < 1000; i++) {
+                assertPoint(points, i, i + 0.25, -i);
+            }
+            assertEquals(reader.getFileSize(), reader.getBytesRead(), "The whole file should be consumed");
+        }
+    }
+
+    @Test
+    public void testLineLongerThanWindow() throws IOException {
+        Path file = write("1,2\n123456789,987654321\n");
+
+        try (PointFileReader reader = new PointFileReader(file, 8)) {
+            assertThrows(IOException.class, () -> reader.read(new PointBuffer(), 10));
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        assertTrue(PointFileReader.readAll(write("")).isEmpty(), "An empty file should have no points");
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = Files.createTempFile(tempDir, "points", ".txt");
+        Files.write(file, content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    private static void assertPoint(PointBuffer points, int index, double x, double y) {
+        assertEquals(x, points.getX(index), 0.0, "x of point " + index);
+        assertEquals(y, points.getY(index), 0.0, "y of point " + index);
+    }
+}
@@ -0,0 +1,89 @@
+package geometry.io;
+
+import geometry.PointBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PointFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testFixedPointFormatting() throws IOException {
+        Path file = tempDir.resolve("points.txt");
+        try (PointFileWriter writer = new PointFileWriter(file, 3)) {
+            writer.comment("header");
+            writer.add(1.5, -2.25);
+            writer.add(-0.0001, 0.0);
+            writer.add(12345.6789, 0.0005);
+        }
+
+        String text = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII);
+        assertEquals("# header\n1.500, -2.250\n0.000, 0.000\n12345.679, 0.001\n", text);
+    }
+
+    @Test
+    public void testLargeAndSpecialValuesRoundTrip() throws IOException {
+        Path file = tempDir.resolve("points.txt");
+        try (PointFileWriter writer = new PointFileWriter(file)) {
+            writer.add(1e300, -4.5e15);
+            writer.add(Double.POSITIVE_INFINITY, 1);
+        }
+
+        PointBuffer points = PointFileReader.readAll(file);
+        assertEquals(2, points.size());
+        assertEquals(1e300, points.getX(0));
+        assertEquals(-4.5e15, points.getY(0));
+        assertEquals(Double.POSITIVE_INFINITY, points.getX(1));
+    }
+
+    @Test
+    public void testManyPointsSpanningBufferFlushes() throws IOException {
+        Path file = tempDir.resolve("points.txt");
+        try (PointFileWriter writer = new PointFileWriter(file, 0)) {
+            for (int i = 0; i < 100000; i++) {
+                writer.add(i, -i);
+            }
+        }
+
+        PointBuffer points = PointFileReader.readAll(file);
+        assertEquals(100000, points.size());
+        assertEquals(99999, points.getX(99999));
+        assertEquals(-99999, points.getY(99999));
+    }
+
+    @Test
+    public void testLosslessByDefault() throws IOException {
+        double[] values = {0.1, 1.0 / 3, -2.5e-300, 1e-5, 12345.6789, 7, -0.0, 1e15, 1 + Math.ulp(1.0), -Math.PI};
+        Path file = tempDir.resolve("points.txt");
+        try (PointFileWriter writer = new PointFileWriter(file)) {
+            for (double value : values) {
+                writer.add(value, -value);
+            }
+        }
+
+        PointBuffer points = PointFileReader.readAll(file);
+        assertEquals(values.length, points.size());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], points.getX(i), "x of point " + i + " should read back exactly");
+            assertEquals(-values[i], points.getY(i), "y of point " + i + " should read back exactly");
+        }
+        String text = new String(Files.readAllBytes(file), StandardCharsets.US_ASCII);
+        assertTrue(text.startsWith("0.1, -0.1\n"), text);
+        assertTrue(text.contains("\n7, -7\n-0, 0\n"), "Whole numbers should be written without a fraction: " + text);
+    }
+
+    @Test
+    public void testInvalidDecimals() {
+        assertThrows(IllegalArgumentException.class, () -> new PointFileWriter(tempDir.resolve("a.txt"), 10));
+        assertThrows(IllegalArgumentException.class, () -> new PointFileWriter(tempDir.resolve("a.txt"), -2));
+    }
+}
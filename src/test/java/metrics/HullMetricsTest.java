@@ -0,0 +1,161 @@
+package metrics;
+
+import algorithms.ChanAlgorithm;
+import algorithms.ChanPolicy;
+import algorithms.ConvexHullAlgorithms;
+import algorithms.GrahamScan;
+import algorithms.JarvisMarch;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HullMetricsTest {
+
+    private static PointBuffer disk(int n) {
+        return PointGenerator.generate(PointDistribution.UNIFORM_DISK, n, 42);
+    }
+
+    private static HullRunMetrics recordOne(Runnable run) {
+        List<HullRunMetrics> runs = recordAll(run);
+        assertEquals(1, runs.size(), "Exactly one run should be reported");
+        return runs.get(0);
+    }
+
+    private static List<HullRunMetrics> recordAll(Runnable run) {
+        List<HullRunMetrics> runs = new ArrayList<>();
+        HullMetricsListener listener = runs::add;
+        HullMetrics.addListener(listener);
+        try {
+            run.run();
+        } finally {
+            HullMetrics.removeListener(listener);
+        }
+        return runs;
+    }
+
+    @Test
+    public void testDisabledWithoutListeners() {
+        assertFalse(HullMetrics.isEnabled());
+        assertNull(HullMetrics.startRun("test", 10));
+
+        HullMetricsListener listener = metrics -> { };
+        HullMetrics.addListener(listener);
+        assertTrue(HullMetrics.isEnabled());
+        HullMetrics.removeListener(listener);
+        assertFalse(HullMetrics.isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> HullMetrics.addListener(null));
+    }
+
+    @Test
+    public void testRecorderAccumulatesPhasesAndCounters() {
+        List<HullRunMetrics> runs = new ArrayList<>();
+        HullMetricsListener listener = runs::add;
+        HullMetrics.addListener(listener);
+        try {
+            MetricsRecorder recorder = HullMetrics.startRun("test", 10);
+            recorder.phase("a");
+            recorder.count("x", 2);
+            recorder.phase("b");
+            recorder.count("x", 3);
+            recorder.phase("a");
+            HullRunMetrics metrics = recorder.finish(4);
+
+            assertSame(metrics, runs.get(0));
+            assertEquals("test", metrics.getEngine());
+            assertEquals(10, metrics.getPointCount());
+            assertEquals(4, metrics.getHullSize());
+            assertEquals(5, metrics.getCounter("x"));
+            assertEquals(0, metrics.getCounter("missing"));
+            assertEquals(2, metrics.getPhaseNanos().size(), "A repeated phase should be added up");
+            assertTrue(metrics.getPhaseNanos("a") + metrics.getPhaseNanos("b") <= metrics.getTotalNanos());
+        } finally {
+            HullMetrics.removeListener(listener);
+        }
+    }
+
+    @Test
+    public void testGrahamScanCounters() {
+        PointBuffer points = disk(2000);
+        HullRunMetrics metrics = recordOne(() -> new GrahamScan().findConvexHullPacked(points));
+
+        assertEquals(ConvexHullAlgorithms.GRAHAM_SCAN, metrics.getEngine());
+        assertEquals(2000, metrics.getPointCount());
+        long pops = metrics.getCounter("stack pops");
+        // Every point except the anchor is pushed once, and all but the hull vertices are popped again
+        assertEquals(2000 - metrics.getHullSize(), pops);
+        assertTrue(metrics.getCounter("orientation tests") >= pops);
+        assertTrue(metrics.getCounter("comparisons") > 2000);
+        assertTrue(metrics.getPhaseNanos().keySet().containsAll(List.of("anchor", "sort", "scan")));
+    }
+
+    @Test
+    public void testJarvisMarchCounters() {
+        PointBuffer points = disk(500);
+        HullRunMetrics metrics = recordOne(() -> new JarvisMarch().findConvexHullPacked(points));
+
+        assertEquals(metrics.getHullSize(), metrics.getCounter("hull steps"));
+        assertEquals(metrics.getHullSize() * 500L, metrics.getCounter("candidate scans"));
+        assertEquals(metrics.getHullSize() * 499L, metrics.getCounter("orientation tests"),
+                     "Every point other than the current one is tested once per step");
+    }
+
+    @Test
+    public void testChanCountersAndFallback() {
+        PointBuffer points = disk(20000);
+        ChanAlgorithm chan = new ChanAlgorithm();
+        HullRunMetrics metrics = recordOne(() -> chan.findConvexHullPacked(points));
+
+        assertEquals(ConvexHullAlgorithms.CHAN, metrics.getEngine());
+        assertTrue(metrics.getCounter("guesses") >= 1);
+        assertEquals(metrics.getHullSize() + metrics.getCounter("guesses") - 1, metrics.getCounter("wrap steps"),
+                     "Each guess but the last ends one step short of a search");
+        assertTrue(metrics.getCounter("tangent searches") >= metrics.getCounter("wrap steps"));
+        assertEquals(0, metrics.getCounter("fallbacks"));
+
+        ChanPolicy policy = new ChanPolicy();
+        policy.setSmallInputThreshold(100);
+        chan.setPolicy(policy);
+        List<HullRunMetrics> runs = recordAll(() -> chan.findConvexHullPacked(disk(50)));
+        assertEquals(2, runs.size(), "The fallback engine should report its own run first");
+        assertEquals(ConvexHullAlgorithms.GRAHAM_SCAN, runs.get(0).getEngine());
+        HullRunMetrics fallback = runs.get(1);
+        assertEquals(ConvexHullAlgorithms.CHAN, fallback.getEngine());
+        assertEquals(1, fallback.getCounter("fallbacks"));
+        assertTrue(fallback.getPhaseNanos().containsKey("fallback"));
+        assertTrue(fallback.getHullSize() >= 3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testJmxTotals() throws Exception {
+        JmxHullMetrics jmx = JmxHullMetrics.register();
+        try {
+            jmx.reset();
+            new GrahamScan().findConvexHullPacked(disk(1000));
+            new GrahamScan().findConvexHullPacked(disk(1000));
+
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(JmxHullMetrics.OBJECT_NAME);
+            assertEquals(2L, server.getAttribute(name, "Runs"));
+            assertEquals(2000L, server.getAttribute(name, "TotalPoints"));
+            assertEquals(2L, jmx.getRunsByEngine().get(ConvexHullAlgorithms.GRAHAM_SCAN));
+            Map<String, Long> counters = jmx.getCounters();
+            assertTrue(counters.get(ConvexHullAlgorithms.GRAHAM_SCAN + " / stack pops") > 0, counters.toString());
+            assertTrue(jmx.getPhaseMillis().containsKey(ConvexHullAlgorithms.GRAHAM_SCAN + " / sort"));
+        } finally {
+            JmxHullMetrics.unregister();
+        }
+        assertFalse(HullMetrics.isEnabled());
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(JmxHullMetrics.OBJECT_NAME)));
+    }
+}
@@ -0,0 +1,70 @@
+package visualization;
+
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DensityGridTest {
+
+    @Test
+    public void testBinsPointsOntoPixels() {
+        PointBuffer points = new PointBuffer();
+        points.add(0, 0);      // pixel (10, 10)
+        points.add(0.4, 0.4);  // pixel (10, 9), since screen y grows downwards
+        points.add(0, 0);
+        points.add(-20, 0);    // left of the view
+        points.add(0, 0.51);   // pixel (10, 8)
+
+        DensityGrid grid = DensityGrid.bin(points, 20, 20, 10, 10, 2, ForkJoinPool.commonPool());
+        assertEquals(2, grid.getCount(10, 10));
+        assertEquals(1, grid.getCount(10, 9));
+        assertEquals(1, grid.getCount(10, 8));
+        assertEquals(4, grid.getPointsInView());
+        assertEquals(2, grid.getMaxCount());
+    }
+
+    @Test
+    public void testParallelBinningMatchesSequentialCounts() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.GAUSSIAN_CLUSTERS, 300_000, 11);
+        DensityGrid parallel = DensityGrid.bin(points, 64, 48, 32, 24, 0.02, new ForkJoinPool(4));
+
+        int[] expected = new int[64 * 48];
+        long inView = 0;
+        for (int i = 0; i < points.size(); i++) {
+            double sx = Math.floor(32 + points.getX(i) * 0.02);
+            double sy = Math.floor(24 - points.getY(i) * 0.02);
+            if (sx >= 0 && sx < 64 && sy >= 0 && sy < 48) {
+                expected[(int) sy * 64 + (int) sx]++;
+                inView++;
+            }
+        }
+        assertEquals(inView, parallel.getPointsInView());
+        for (int y = 0; y < 48; y++) {
+            for (int x = 0; x < 64; x++) {
+                assertEquals(expected[y * 64 + x], parallel.getCount(x, y), "Pixel " + x + ", " + y);
+            }
+        }
+    }
+
+    @Test
+    public void testColorsByDensity() {
+        PointBuffer points = new PointBuffer();
+        points.add(0, 0);
+        for (int i = 0; i < 100; i++) {
+            points.add(1, 0);
+        }
+        DensityGrid grid = DensityGrid.bin(points, 3, 1, 0, 0.5, 1, ForkJoinPool.commonPool());
+        int[] argb = grid.toArgb();
+
+        assertEquals(0xFF9ECAE1, argb[0], "A single point gets the lightest color");
+        assertEquals(0xFF08306B, argb[1], "The densest pixel gets the darkest color");
+        assertEquals(0, argb[2], "Empty pixels are transparent");
+        assertThrows(IllegalArgumentException.class,
+                     () -> DensityGrid.bin(points, 0, 1, 0, 0, 1, ForkJoinPool.commonPool()));
+    }
+}
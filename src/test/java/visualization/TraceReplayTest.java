@@ -0,0 +1,54 @@
+package visualization;
+
+import algorithms.GrahamScan;
+import algorithms.HullTrace;
+import algorithms.JarvisMarch;
+import geometry.PointBuffer;
+import geometry.PointDistribution;
+import geometry.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TraceReplayTest {
+
+    @Test
+    public void testReplayEndsOnTheHull() {
+        PointBuffer points = PointGenerator.generate(PointDistribution.GAUSSIAN_CLUSTERS, 2000, 9);
+        HullTrace trace = new HullTrace(1 << 14);
+        PointBuffer hull = trace.record(() -> new GrahamScan().findConvexHullPacked(points));
+
+        TraceReplay replay = new TraceReplay(trace);
+        assertEquals(0, replay.getHullSize());
+        assertEquals(10, replay.advance(10));
+        assertFalse(replay.isFinished());
+        int remaining = trace.size() - 10;
+        assertEquals(remaining, replay.advance(Integer.MAX_VALUE), "Advancing stops at the end of the trace");
+        assertTrue(replay.isFinished());
+        assertEquals(0, replay.advance(5));
+
+        assertEquals(hull.size(), replay.getHullSize());
+        for (int i = 0; i < hull.size(); i++) {
+            assertEquals(hull.getX(i), replay.getHullX(i));
+            assertEquals(hull.getY(i), replay.getHullY(i));
+        }
+    }
+
+    @Test
+    public void testProbeFollowsCandidates() {
+        PointBuffer square = new PointBuffer();
+        square.add(0, 0);
+        square.add(1, 0);
+        square.add(1, 1);
+        square.add(0, 1);
+        HullTrace trace = new HullTrace(64);
+        trace.record(() -> new JarvisMarch().findConvexHullPacked(square));
+
+        TraceReplay replay = new TraceReplay(trace);
+        replay.advance(2);
+        assertEquals(1, replay.getHullSize(), "START then the first vertex");
+        assertEquals(-1, replay.getProbeKind());
+        replay.advance(1);
+        assertTrue(replay.getProbeKind() == HullTrace.CANDIDATE || replay.getProbeKind() == HullTrace.REJECT);
+    }
+}